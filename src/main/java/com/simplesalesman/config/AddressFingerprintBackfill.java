@@ -0,0 +1,85 @@
+package com.simplesalesman.config;
+
+import com.simplesalesman.util.AddressNormalizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills {@code address.address_fingerprint}, {@code address.address_block_key},
+ * the sort keys ({@code postal_code}, {@code street_key}, {@code house_number})
+ * and {@code search_text} for rows that were stored before the columns existed.
+ *
+ * Duplicate detection relies on the first two values, so rows without them would
+ * never be recognized as duplicates; rows without sort keys would end up at the end
+ * of every sorted address table, and rows without search text would never be found. The backfill walks the table in
+ * id order (keyset pagination) and updates {@link #BATCH_SIZE} rows per JDBC
+ * batch, so memory use stays constant regardless of the table size.
+ *
+ * Runs once all singletons are initialized and before the web server accepts
+ * requests. Once every row has a fingerprint, it only costs a single query.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Component
+public class AddressFingerprintBackfill implements SmartInitializingSingleton {
+
+	private static final Logger log = LoggerFactory.getLogger(AddressFingerprintBackfill.class);
+	private static final int BATCH_SIZE = 1000;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public AddressFingerprintBackfill(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		try {
+			int updated = backfill();
+			if (updated > 0) {
+				log.info("Backfilled address fingerprints and block keys for {} addresses", updated);
+			}
+		} catch (Exception e) {
+			log.warn("Could not backfill address fingerprints: {}", e.getMessage());
+		}
+	}
+
+	private int backfill() {
+		int updated = 0;
+		long lastId = 0;
+		while (true) {
+			List<Object[]> rows = jdbcTemplate.query(
+					"SELECT id, address_text FROM address WHERE (address_block_key IS NULL OR street_key IS NULL OR search_text IS NULL) "
+								+ "AND address_text IS NOT NULL AND id > ? "
+							+ "ORDER BY id LIMIT " + BATCH_SIZE,
+					(rs, rowNum) -> new Object[] { rs.getLong(1), rs.getString(2) },
+					lastId);
+			if (rows.isEmpty()) {
+				return updated;
+			}
+
+			List<Object[]> batch = new ArrayList<>(rows.size());
+			for (Object[] row : rows) {
+				AddressNormalizer.NormalizedAddress normalized = AddressNormalizer.normalize((String) row[1]);
+				if (normalized != null) {
+					batch.add(new Object[] { normalized.getFingerprint(), normalized.getBlockKey(),
+							normalized.getPostalCode(), normalized.getStreet(), normalized.getHouseNumberValue(),
+							AddressNormalizer.searchText((String) row[1]), row[0] });
+				}
+			}
+			jdbcTemplate.batchUpdate("UPDATE address SET address_fingerprint = ?, address_block_key = ?, "
+					+ "postal_code = ?, street_key = ?, house_number = ?, search_text = ? WHERE id = ?", batch);
+
+			updated += batch.size();
+			lastId = (Long) rows.get(rows.size() - 1)[0];
+		}
+	}
+}
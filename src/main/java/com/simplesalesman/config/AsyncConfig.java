@@ -2,9 +2,11 @@ package com.simplesalesman.config;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
@@ -25,12 +27,16 @@ import java.util.concurrent.ThreadPoolExecutor;
  * 
  * Usage: Methods annotated with @Async will use this executor automatically.
  * 
+ * Scheduling is enabled as well, for maintenance tasks annotated with
+ * @Scheduled (e.g. pruning sync tombstones).
+ * 
  * @author SimpleSalesman Team
  * @version 0.0.6
  * @since 0.0.4
  */
 @Configuration
 @EnableAsync // Enables Spring's asynchronous method execution capability
+@EnableScheduling // Enables @Scheduled maintenance tasks
 public class AsyncConfig {
 
 	/**
@@ -45,6 +51,18 @@ public class AsyncConfig {
 	private static final String THREAD_NAME_PREFIX = "SimpleSalesman-Async-";
 	private static final int KEEP_ALIVE_SECONDS = 60; // Idle thread timeout
 
+	// Import pipeline stages (parse, resolve) - two threads per running import
+	private static final int IMPORT_STAGES = 2;
+	private static final String IMPORT_THREAD_NAME_PREFIX = "SimpleSalesman-Import-";
+	private static final String IMPORT_JOB_THREAD_NAME_PREFIX = "SimpleSalesman-ImportJob-";
+
+	// Event stream senders - shared by all subscribers, see ChangeEventService
+	private static final int EVENT_POOL_SIZE = 4;
+	private static final String EVENT_THREAD_NAME_PREFIX = "SimpleSalesman-Events-";
+
+	// Background geocoding - one run at a time, see GeocodingService
+	private static final String GEOCODING_THREAD_NAME_PREFIX = "SimpleSalesman-Geocoding-";
+
 	/**
 	 * Creates and configures the primary task executor for asynchronous operations.
 	 * 
@@ -94,6 +112,115 @@ public class AsyncConfig {
 		return executor;
 	}
 
+	/**
+	 * Creates the executor for the stages of the Excel import pipeline.
+	 * 
+	 * The stages hand rows to each other through bounded queues and block while a
+	 * queue is full. They therefore must never be queued behind other work or run
+	 * on the caller's thread (CallerRunsPolicy would deadlock the pipeline), so this
+	 * pool uses direct hand-off and rejects when saturated.
+	 * 
+	 * It is sized for {@code simplesalesman.import.max-concurrent} imports; the
+	 * {@code ImportConcurrencyLimiter} turns away further imports before they start.
+	 * 
+	 * @param maxConcurrentImports maximum number of imports running at the same time
+	 * @return ThreadPoolTaskExecutor dedicated to import pipeline stages
+	 */
+	@Bean(name = "importPipelineExecutor")
+	public ThreadPoolTaskExecutor importPipelineExecutor(
+			@Value("${simplesalesman.import.max-concurrent:4}") int maxConcurrentImports) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(IMPORT_STAGES);
+		executor.setMaxPoolSize(IMPORT_STAGES * Math.max(maxConcurrentImports, 1));
+		executor.setQueueCapacity(0); // Direct hand-off, no queuing
+		executor.setThreadNamePrefix(IMPORT_THREAD_NAME_PREFIX);
+		executor.setKeepAliveSeconds(KEEP_ALIVE_SECONDS);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+
+		log.info("Import pipeline executor configured: core={}, max={}", executor.getCorePoolSize(),
+				executor.getMaxPoolSize());
+		return executor;
+	}
+
+	/**
+	 * Creates the executor for background import jobs (see {@code ImportJobService}).
+	 * 
+	 * Each job blocks its thread while the pipeline stages run, so jobs are kept off
+	 * the shared task executor: there CallerRunsPolicy would run a saturated import on
+	 * the HTTP request thread. The pool holds one thread per concurrent import and a
+	 * queue of the same size; when both are full it rejects (AbortPolicy) and the
+	 * client is told to retry.
+	 * 
+	 * @param maxConcurrentImports maximum number of imports running at the same time
+	 * @return ThreadPoolTaskExecutor dedicated to import jobs
+	 */
+	@Bean(name = "importJobExecutor")
+	public ThreadPoolTaskExecutor importJobExecutor(
+			@Value("${simplesalesman.import.max-concurrent:4}") int maxConcurrentImports) {
+		int poolSize = Math.max(maxConcurrentImports, 1);
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(poolSize);
+		executor.setThreadNamePrefix(IMPORT_JOB_THREAD_NAME_PREFIX);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+
+		log.info("Import job executor configured: pool={}, queue={}", poolSize, poolSize);
+		return executor;
+	}
+
+	/**
+	 * Creates the executor that writes queued events to the event stream subscribers.
+	 * 
+	 * Each subscriber has at most one send task queued or running at a time, so the
+	 * task queue is bounded by the number of subscribers and may be unbounded here.
+	 * Idle subscribers hold no thread at all; their connections are parked by the
+	 * servlet container. A client that stops reading holds a thread for at most
+	 * {@code simplesalesman.events.send-timeout}, then its stream is closed.
+	 * 
+	 * @return ThreadPoolTaskExecutor dedicated to event stream delivery
+	 */
+	@Bean(name = "eventExecutor")
+	public ThreadPoolTaskExecutor eventExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(EVENT_POOL_SIZE);
+		executor.setMaxPoolSize(EVENT_POOL_SIZE);
+		executor.setThreadNamePrefix(EVENT_THREAD_NAME_PREFIX);
+		executor.setWaitForTasksToCompleteOnShutdown(false); // Open streams end with the shutdown anyway
+		executor.initialize();
+
+		log.info("Event stream executor configured: pool={}", EVENT_POOL_SIZE);
+		return executor;
+	}
+
+	/**
+	 * Creates the executor for background geocoding runs.
+	 * 
+	 * A run mostly waits for the rate limit of the geocoding provider, so a single
+	 * thread suffices; it keeps long runs off the shared task executor. Work arriving
+	 * during a run is picked up by that run, so at most one task is ever queued.
+	 * 
+	 * @return ThreadPoolTaskExecutor dedicated to geocoding
+	 */
+	@Bean(name = "geocodingExecutor")
+	public ThreadPoolTaskExecutor geocodingExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setThreadNamePrefix(GEOCODING_THREAD_NAME_PREFIX);
+		executor.setWaitForTasksToCompleteOnShutdown(false); // Interrupted runs resume after the restart
+		executor.initialize();
+
+		log.info("Geocoding executor configured");
+		return executor;
+	}
+
 	/**
 	 * Logs the thread pool executor configuration for monitoring and debugging.
 	 * This information is crucial for performance tuning and troubleshooting.
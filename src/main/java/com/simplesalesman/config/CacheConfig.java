@@ -0,0 +1,63 @@
+package com.simplesalesman.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Read-through cache configuration for frequently re-read entities.
+ *
+ * During a sales day the same few addresses and projects are opened again and
+ * again; their DTOs are kept in Caffeine caches instead of reloading them:
+ * - {@link #ADDRESSES}: {@code AddressService.getAddressById}
+ * - {@link #PROJECTS}: {@code ProjectService.getProjectById}
+ * - {@link #PROJECT_STATUS}: {@code ProjectService.getProjectStatusById}
+ *
+ * Eviction is size- and time-based ({@code simplesalesman.cache.spec}); the
+ * time limit only bounds the damage of a missed invalidation, writes evict their
+ * entries explicitly (see {@code CacheInvalidationService}).
+ *
+ * The cache manager is transaction-aware: evictions inside a transaction are
+ * applied after commit, so a concurrent reader cannot re-cache the old state
+ * before the new one is visible.
+ *
+ * Hit and miss counts are recorded and published by the actuator as
+ * {@code cache.gets{result=hit|miss}} (GET /actuator/metrics/cache.gets).
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	public static final String ADDRESSES = "addresses";
+	public static final String PROJECTS = "projects";
+	public static final String PROJECT_STATUS = "projectStatus";
+
+	private static final Logger log = LoggerFactory.getLogger(CacheConfig.class);
+
+	@Value("${simplesalesman.cache.spec:maximumSize=10000,expireAfterWrite=10m}")
+	private String cacheSpec;
+
+	@Bean
+	public CacheManager cacheManager() {
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+		cacheManager.setCaffeine(Caffeine.from(cacheSpec).recordStats());
+		cacheManager.setCacheNames(List.of(ADDRESSES, PROJECTS, PROJECT_STATUS));
+		cacheManager.setAllowNullValues(false);
+
+		log.info("Read caches {} configured: {}", cacheManager.getCacheNames(), cacheSpec);
+		return new TransactionAwareCacheManagerProxy(cacheManager);
+	}
+}
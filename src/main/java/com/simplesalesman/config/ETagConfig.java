@@ -0,0 +1,92 @@
+package com.simplesalesman.config;
+
+import com.simplesalesman.service.DataVersionService;
+import com.simplesalesman.service.DataVersionService.Table;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Conditional GET for the address, project and note endpoints.
+ *
+ * Every GET/HEAD response of these endpoints carries a strong ETag built from the
+ * change counters of the tables it is read from (see {@link DataVersionService}):
+ * - {@code /api/v1/addresses/**}: addresses, projects, notes and regions (address DTOs
+ *   embed projects and notes and show the region name)
+ * - {@code /api/v1/projects/**}: projects
+ * - {@code /api/v1/notes/**}: notes and addresses (note DTOs show the address text)
+ *
+ * The ETag is checked before the controller runs. A matching
+ * {@code If-None-Match} is answered with 304 without loading, mapping or
+ * serializing anything; otherwise the request proceeds and the ETag is sent along.
+ *
+ * The ETag covers the whole table, so any write to it invalidates all ETags of
+ * the endpoint group. That is coarse but free to compute, and clients polling an
+ * unchanged data set - the common case during a sales day - get 304s.
+ *
+ * {@code Cache-Control: private, no-cache} lets clients store the responses but
+ * makes them revalidate every time; it replaces Spring Security's default
+ * {@code no-store} for these endpoints.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Configuration
+public class ETagConfig implements WebMvcConfigurer {
+
+	private static final Logger log = LoggerFactory.getLogger(ETagConfig.class);
+
+	private static final String CACHE_CONTROL = "private, no-cache";
+
+	private final DataVersionService dataVersionService;
+
+	public ETagConfig(DataVersionService dataVersionService) {
+		this.dataVersionService = dataVersionService;
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new ETagInterceptor(Table.ADDRESS, Table.PROJECT, Table.NOTE, Table.REGION))
+				.addPathPatterns("/api/v1/addresses", "/api/v1/addresses/**");
+		registry.addInterceptor(new ETagInterceptor(Table.PROJECT))
+				.addPathPatterns("/api/v1/projects", "/api/v1/projects/**");
+		registry.addInterceptor(new ETagInterceptor(Table.NOTE, Table.ADDRESS))
+				.addPathPatterns("/api/v1/notes", "/api/v1/notes/**");
+		log.info("ETag support enabled for addresses, projects and notes");
+	}
+
+	/**
+	 * Answers conditional GET/HEAD requests from the change counters of the given tables.
+	 */
+	private class ETagInterceptor implements HandlerInterceptor {
+
+		private final Table[] tables;
+
+		ETagInterceptor(Table... tables) {
+			this.tables = tables;
+		}
+
+		@Override
+		public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+			String method = request.getMethod();
+			if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+				return true;
+			}
+
+			// Taken before the data is read, see DataVersionService
+			String etag = dataVersionService.etag(tables);
+			response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+			// Sets the ETag header, and status 304 if If-None-Match matches
+			return !new ServletWebRequest(request, response).checkNotModified(etag);
+		}
+	}
+}
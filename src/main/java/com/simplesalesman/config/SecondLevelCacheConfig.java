@@ -0,0 +1,114 @@
+package com.simplesalesman.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache for rarely changing, constantly read entities.
+ *
+ * Regions are looked up by name for every address write
+ * ({@code RegionRepository.findByName}) and users on every request of the current
+ * user ({@code UserRepository.findByKeycloakId}). Both entities and the results of
+ * these two queries are kept in a local JCache (Caffeine) so that most lookups
+ * skip the database.
+ *
+ * Cache regions:
+ * - {@link #REGION} / {@link #REGION_QUERY}: Region entities / findByName results
+ * - {@link #APP_USER} / {@link #APP_USER_QUERY}: AppUser entities / findByKeycloakId results
+ * - Hibernate's update timestamps region, which invalidates query results as soon
+ *   as their table is written through Hibernate; it never expires
+ *
+ * TTLs and size are configured with {@code simplesalesman.l2-cache.*}. Hibernate
+ * statistics are enabled and published by the actuator, e.g.
+ * {@code hibernate.second.level.cache.requests} and {@code hibernate.cache.query.requests}.
+ *
+ * Writes bypassing Hibernate (COPY import) must evict the affected regions,
+ * see {@code CacheInvalidationService.evictRegionEntities()}.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+	public static final String REGION = "simplesalesman.region";
+	public static final String REGION_QUERY = "simplesalesman.region.query";
+	public static final String APP_USER = "simplesalesman.appUser";
+	public static final String APP_USER_QUERY = "simplesalesman.appUser.query";
+
+	// Hibernate's built-in regions (query cache defaults)
+	private static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+	private static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+
+	private static final Logger log = LoggerFactory.getLogger(SecondLevelCacheConfig.class);
+
+	@Value("${simplesalesman.l2-cache.region-ttl:1h}")
+	private Duration regionTtl;
+
+	@Value("${simplesalesman.l2-cache.user-ttl:10m}")
+	private Duration userTtl;
+
+	@Value("${simplesalesman.l2-cache.max-size:10000}")
+	private long maxSize;
+
+	/**
+	 * Creates the JCache manager with all cache regions used by Hibernate.
+	 *
+	 * The manager is private to this application context: the provider's default
+	 * manager is shared per class loader, so a second context (e.g. another test
+	 * configuration) would otherwise replace the caches of the first.
+	 *
+	 * @return Caffeine-backed JCache manager, closed on shutdown
+	 */
+	@Bean(destroyMethod = "close")
+	public CacheManager hibernateCacheManager() {
+		CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+		CacheManager cacheManager = provider.getCacheManager(
+				URI.create("simplesalesman-l2-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+
+		createCache(cacheManager, REGION, regionTtl);
+		createCache(cacheManager, REGION_QUERY, regionTtl);
+		createCache(cacheManager, APP_USER, userTtl);
+		createCache(cacheManager, APP_USER_QUERY, userTtl);
+		createCache(cacheManager, DEFAULT_QUERY_RESULTS, userTtl);
+		createCache(cacheManager, UPDATE_TIMESTAMPS, null);
+
+		log.info("Second-level cache configured: region TTL {}, user TTL {}, max size {}", regionTtl, userTtl, maxSize);
+		return cacheManager;
+	}
+
+	/**
+	 * Hands the cache manager to Hibernate's JCache region factory.
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+		return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+	}
+
+	private void createCache(CacheManager cacheManager, String name, Duration ttl) {
+		CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+		configuration.setStatisticsEnabled(true);
+		if (ttl != null) {
+			configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+			configuration.setMaximumSize(OptionalLong.of(maxSize));
+		}
+
+		cacheManager.createCache(name, configuration);
+	}
+}
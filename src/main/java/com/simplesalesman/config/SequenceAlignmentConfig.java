@@ -0,0 +1,81 @@
+package com.simplesalesman.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+/**
+ * Aligns the ID sequences of the core entities with the existing table contents.
+ *
+ * {@code Address}, {@code Project}, {@code Note} and {@code Region} use pooled
+ * sequence generators (instead of IDENTITY columns) so that Hibernate can batch
+ * INSERT statements. On databases that were created with IDENTITY columns, the
+ * sequences created by {@code ddl-auto=update} start at 1 and would collide with
+ * existing rows. This component moves every sequence past {@code MAX(id)} once
+ * all singletons (including the EntityManagerFactory) are initialized and before
+ * the web server accepts requests.
+ *
+ * The statement is idempotent: a sequence that is already ahead is left unchanged.
+ * Only PostgreSQL is handled, as it is the only supported production database.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Component
+public class SequenceAlignmentConfig implements SmartInitializingSingleton {
+
+	private static final Logger log = LoggerFactory.getLogger(SequenceAlignmentConfig.class);
+
+	// Table name -> sequence name, see @SequenceGenerator on the entities
+	private static final Map<String, String> SEQUENCES = Map.of(
+			"address", "address_seq",
+			"project", "project_seq",
+			"note", "note_seq",
+			"region", "region_seq");
+
+	private final DataSource dataSource;
+	private final JdbcTemplate jdbcTemplate;
+
+	public SequenceAlignmentConfig(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+		this.dataSource = dataSource;
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (!isPostgres()) {
+			log.debug("Skipping sequence alignment - database is not PostgreSQL");
+			return;
+		}
+
+		SEQUENCES.forEach((table, sequence) -> {
+			try {
+				// With is_called = true the next pooled block starts right after MAX(id)
+				Long value = jdbcTemplate.queryForObject(
+						"SELECT setval('" + sequence + "', GREATEST("
+								+ "(SELECT COALESCE(MAX(id), 0) FROM " + table + "), "
+								+ "(SELECT last_value FROM " + sequence + ")))",
+						Long.class);
+				log.info("Sequence {} aligned with table {} (value={})", sequence, table, value);
+			} catch (Exception e) {
+				log.warn("Could not align sequence {} with table {}: {}", sequence, table, e.getMessage());
+			}
+		});
+	}
+
+	private boolean isPostgres() {
+		try (Connection connection = dataSource.getConnection()) {
+			return "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+		} catch (Exception e) {
+			log.warn("Could not determine database type: {}", e.getMessage());
+			return false;
+		}
+	}
+}
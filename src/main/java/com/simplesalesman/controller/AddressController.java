@@ -1,14 +1,26 @@
 package com.simplesalesman.controller;
 
 import com.simplesalesman.dto.AddressDto;
+import com.simplesalesman.dto.AddressSearchResultDto;
+import com.simplesalesman.dto.NearbyAddressDto;
+import com.simplesalesman.dto.PageDto;
+import com.simplesalesman.exception.DuplicateAddressException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simplesalesman.service.AddressSearchService;
 import com.simplesalesman.service.AddressService;
+import com.simplesalesman.service.NearbyAddressService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -26,7 +38,11 @@ import java.util.List;
  * - Cross-origin support for web frontend integration
  *
  * API Endpoints:
- * - GET /api/v1/addresses - Retrieve all addresses
+ * - GET /api/v1/addresses?page=&size=&search=&sort=&order= - Retrieve one page of addresses
+ * - GET /api/v1/addresses?afterId=&size= - Retrieve the addresses after an id (keyset)
+ * - GET /api/v1/addresses/search?q=&limit= - Ranked, typo-tolerant address search
+ * - GET /api/v1/addresses/nearby?lat=&lon=&radius=&limit=&status=&closedStatus= - Nearest geocoded addresses
+ * - GET /api/v1/addresses/export - Stream all addresses as NDJSON
  * - GET /api/v1/addresses/{id} - Retrieve specific address by ID
  * - POST /api/v1/addresses - Create new address
  * - PUT /api/v1/addresses/{id} - Update existing address
@@ -42,39 +58,183 @@ import java.util.List;
 public class AddressController {
     
     private static final Logger logger = LoggerFactory.getLogger(AddressController.class);
+    private static final String NDJSON = "application/x-ndjson";
     private final AddressService addressService;
+    private final AddressSearchService addressSearchService;
+    private final NearbyAddressService nearbyAddressService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Constructor for AddressController.
      *
-     * @param addressService The service layer component for address operations
+     * @param addressService       The service layer component for address operations
+     * @param addressSearchService Ranked trigram search over addresses
+     * @param nearbyAddressService Spatial search over geocoded addresses
+     * @param objectMapper         JSON mapper used for the streaming export
      */
-    public AddressController(AddressService addressService) {
+    public AddressController(AddressService addressService, AddressSearchService addressSearchService,
+                             NearbyAddressService nearbyAddressService, ObjectMapper objectMapper) {
         this.addressService = addressService;
+        this.addressSearchService = addressSearchService;
+        this.nearbyAddressService = nearbyAddressService;
+        this.objectMapper = objectMapper;
         logger.info("AddressController initialized");
     }
 
     /**
-     * Retrieves all addresses from the system.
+     * Retrieves one page of addresses.
      *
-     * @return ResponseEntity containing a list of all AddressDto objects
-     *         Returns HTTP 200 (OK) with the address list on success
+     * With {@code afterId}, keyset pagination in id order is used: the page starts after
+     * the given id and the response contains {@code nextAfterId} for the next request.
+     * Otherwise offset pagination by {@code page} is used, including total counts,
+     * optionally filtered by {@code search} and sorted by {@code sort}/{@code order}.
+     *
+     * @param page    zero-based page number (offset pagination, default 0)
+     * @param size    page size (default and maximum are configurable)
+     * @param afterId last id of the previous page (keyset pagination, 0 for the first page)
+     * @param search  case-insensitive search in address text and region name (offset pagination only)
+     * @param sort    sort field: id, plz, street, number, region or address (offset pagination only)
+     * @param order   sort order: asc or desc (offset pagination only)
+     * @return ResponseEntity containing a PageDto of AddressDto objects
+     *         Returns HTTP 200 (OK) with the page on success
+     *         Returns HTTP 400 (Bad Request) for invalid paging or sort parameters
      *         Returns HTTP 500 (Internal Server Error) if an exception occurs
      */
     @GetMapping
-    public ResponseEntity<List<AddressDto>> getAllAddresses() {
-        logger.info("GET request received for all addresses");
+    public ResponseEntity<PageDto<AddressDto>> getAddresses(@RequestParam(required = false) Integer page,
+                                                            @RequestParam(required = false) Integer size,
+                                                            @RequestParam(required = false) Long afterId,
+                                                            @RequestParam(required = false) String search,
+                                                            @RequestParam(required = false) String sort,
+                                                            @RequestParam(required = false) String order) {
+        logger.info("GET request received for addresses (page={}, size={}, afterId={}, search={}, sort={} {})",
+                page, size, afterId, search, sort, order);
         
         try {
-            List<AddressDto> addresses = addressService.getAllAddresses();
-            logger.info("Successfully retrieved {} addresses", addresses.size());
+            PageDto<AddressDto> result;
+            if (afterId != null) {
+                if (search != null || sort != null || order != null) {
+                    throw new IllegalArgumentException("afterId cannot be combined with search or sort");
+                }
+                result = addressService.getAddressesAfter(afterId, size);
+            } else {
+                result = addressService.getAddressPage(page != null ? page : 0, size, search, sort, order);
+            }
+            logger.info("Successfully retrieved {} addresses", result.getContent().size());
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid pagination parameters: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("Error retrieving addresses", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Searches addresses by address text and region name.
+     *
+     * Results are ranked by trigram similarity and tolerate prefixes, missing
+     * punctuation, abbreviations and small typos ("hauptstr 5", "haupstrase").
+     *
+     * @param q     search text
+     * @param limit maximum number of hits (default and maximum are configurable)
+     * @return ResponseEntity containing the ranked hits
+     *         Returns HTTP 200 (OK) with the hits on success, possibly empty
+     *         Returns HTTP 400 (Bad Request) for an empty query or a limit below 1
+     *         Returns HTTP 500 (Internal Server Error) if an exception occurs
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<AddressSearchResultDto>> searchAddresses(@RequestParam String q,
+                                                                        @RequestParam(required = false) Integer limit) {
+        logger.info("GET request received for address search (q={}, limit={})", q, limit);
+
+        try {
+            List<AddressSearchResultDto> hits = addressSearchService.search(q, limit);
+            logger.info("Address search returned {} hits", hits.size());
+            return ResponseEntity.ok(hits);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid search parameters: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("Error searching addresses", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Finds the geocoded addresses nearest to a location, e.g. "open doors within 300 m".
+     *
+     * Without {@code radius}, returns the {@code limit} nearest addresses within the
+     * configured maximum radius (k-nearest).
+     *
+     * @param lat          latitude of the location
+     * @param lon          longitude of the location
+     * @param radius       maximum distance in metres (optional)
+     * @param limit        maximum number of addresses (default and maximum are configurable)
+     * @param status       only addresses with a project in one of these statuses (optional, repeatable)
+     * @param closedStatus only open addresses: no project, or a project in another status (optional, repeatable)
+     * @return ResponseEntity containing the addresses, nearest first
+     *         Returns HTTP 200 (OK) with the addresses on success, possibly empty
+     *         Returns HTTP 400 (Bad Request) for invalid coordinates, radius or limit
+     *         Returns HTTP 500 (Internal Server Error) if an exception occurs
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyAddressDto>> findNearbyAddresses(@RequestParam double lat,
+                                                                      @RequestParam double lon,
+                                                                      @RequestParam(required = false) Double radius,
+                                                                      @RequestParam(required = false) Integer limit,
+                                                                      @RequestParam(required = false) List<String> status,
+                                                                      @RequestParam(required = false) List<String> closedStatus) {
+        logger.info("GET request received for nearby addresses (lat={}, lon={}, radius={}, limit={}, status={}, closedStatus={})",
+                lat, lon, radius, limit, status, closedStatus);
+
+        try {
+            List<NearbyAddressDto> addresses = nearbyAddressService.findNearby(lat, lon, radius, limit, status, closedStatus);
+            logger.info("Nearby search returned {} addresses", addresses.size());
             return ResponseEntity.ok(addresses);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid nearby search parameters: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
-            logger.error("Error retrieving all addresses", e);
+            logger.error("Error searching nearby addresses", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    /**
+     * Streams all addresses as newline-delimited JSON (one AddressDto per line).
+     *
+     * Intended for full exports such as BI syncs. Addresses are read over a
+     * database cursor and written to the response as they are mapped, so memory
+     * use does not depend on the number of addresses. Once the first line has been
+     * sent, errors can no longer change the status code; the response then ends early.
+     *
+     * @param response the HTTP response the addresses are written to
+     * @throws IOException if the response cannot be written
+     */
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void exportAddresses(HttpServletResponse response) throws IOException {
+        logger.info("GET request received for address export");
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+
+        try (OutputStream out = new BufferedOutputStream(response.getOutputStream())) {
+            int exported = addressService.exportAddresses(dto -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(dto));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            logger.info("Successfully exported {} addresses", exported);
+        } catch (UncheckedIOException e) {
+            logger.warn("Address export aborted: {}", e.getCause().getMessage());
+            throw e.getCause();
+        }
+    }
+
     /**
      * Retrieves a specific address by its ID.
      *
@@ -110,6 +270,7 @@ public class AddressController {
      * @return ResponseEntity containing the created AddressDto with generated ID
      *         Returns HTTP 201 (Created) with the new address data on success
      *         Returns HTTP 400 (Bad Request) if validation fails
+     *         Returns HTTP 409 (Conflict) if the address duplicates an existing one
      *         Returns HTTP 500 (Internal Server Error) if an exception occurs
      */
     @PostMapping
@@ -121,6 +282,8 @@ public class AddressController {
             AddressDto saved = addressService.createAddress(addressDto);
             logger.info("Successfully created address with ID: {}", saved.getId());
             return ResponseEntity.status(HttpStatus.CREATED).body(saved);
+        } catch (DuplicateAddressException e) {
+            throw e; // Mapped to HTTP 409 by GlobalExceptionHandler
         } catch (Exception e) {
             logger.error("Error creating address", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -130,6 +293,9 @@ public class AddressController {
     /**
      * Updates an existing address with new data.
      *
+     * Projects and notes omitted from the payload (null) stay unchanged; a list
+     * replaces them, and an empty list removes all of them.
+     *
      * @param id The unique identifier of the address to update
      * @param addressDto The new address data (validated)
      * @return ResponseEntity containing the updated AddressDto
@@ -0,0 +1,69 @@
+package com.simplesalesman.controller;
+
+import com.simplesalesman.service.ChangeEventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * REST Controller for the live event stream (Server-Sent Events).
+ *
+ * Dispatchers keep one stream open instead of polling the list endpoints and
+ * reload only what an event reports as changed.
+ *
+ * API Endpoints:
+ * - GET /api/v1/events                       → Events of all regions
+ * - GET /api/v1/events?region=Wien&region=Graz → Events of the given regions (imports always)
+ *
+ * Events (SSE event name = type): PROJECT_STATUS, NOTE_CREATED, NOTE_UPDATED,
+ * NOTE_DELETED, IMPORT_COMPLETED, plus {@code resync} if events were lost.
+ * Reconnecting clients send {@code Last-Event-ID} to receive missed events.
+ *
+ * The stream requires the Bearer token like every API call; browsers therefore
+ * read it with fetch() instead of EventSource, which cannot send headers.
+ *
+ * Error Handling:
+ * - 503 Service Unavailable if the maximum number of open streams is reached
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@RestController
+@RequestMapping("/api/v1/events")
+@CrossOrigin(origins = "*")
+public class EventController {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventController.class);
+    private final ChangeEventService changeEventService;
+
+    public EventController(ChangeEventService changeEventService) {
+        this.changeEventService = changeEventService;
+        logger.info("EventController initialized");
+    }
+
+    /**
+     * Opens an event stream.
+     *
+     * @param region      region names to receive events for; omit for all regions
+     * @param lastEventId id of the last received event, sent by reconnecting clients
+     * @return the stream, or HTTP 503 if too many streams are open
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events(@RequestParam(required = false) List<String> region,
+                                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        logger.debug("GET /events called (regions={}, lastEventId={})", region, lastEventId);
+        try {
+            return ResponseEntity.ok(changeEventService.subscribe(region, lastEventId));
+        } catch (IllegalStateException e) {
+            logger.warn("Event stream rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.simplesalesman.controller;
 
+import com.simplesalesman.dto.ImportJobStatusDto;
 import com.simplesalesman.dto.ImportResultDto;
+import com.simplesalesman.exception.ImportCapacityExceededException;
 import com.simplesalesman.service.ExcelImportService;
+import com.simplesalesman.service.ImportConcurrencyLimiter;
+import com.simplesalesman.service.ImportJobService;
 
+import java.net.URI;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -27,7 +32,10 @@ import org.springframework.web.multipart.MultipartFile;
  * validation - Comprehensive error handling and logging - Progress tracking and
  * monitoring capabilities - Cross-origin support for web frontend integration
  *
- * API Endpoints: - POST /api/v1/import - Import data from uploaded Excel file
+ * API Endpoints: - POST /api/v1/import - Import data from uploaded Excel file -
+ * POST /api/v1/import?async=true - Start a background import job, returns job
+ * id - GET /api/v1/import/{jobId} - Poll progress and final result of a job -
+ * Optional engine=COPY on both POST variants bulk-loads via PostgreSQL COPY
  *
  * Supported file formats: - Excel (.xlsx, .xls) - CSV files (future
  * enhancement)
@@ -54,15 +62,22 @@ public class ImportController {
 	};
 
 	private final ExcelImportService excelImportService;
+	private final ImportJobService importJobService;
+	private final ImportConcurrencyLimiter importLimiter;
 
 	/**
 	 * Constructor for ImportController.
 	 *
 	 * @param excelImportService The service layer component for Excel import
 	 *                           operations
+	 * @param importJobService   The service running imports as background jobs
+	 * @param importLimiter      Limits the number of imports running at once
 	 */
-	public ImportController(ExcelImportService excelImportService) {
+	public ImportController(ExcelImportService excelImportService, ImportJobService importJobService,
+			ImportConcurrencyLimiter importLimiter) {
 		this.excelImportService = excelImportService;
+		this.importJobService = importJobService;
+		this.importLimiter = importLimiter;
 		logger.info("ImportController initialized with max file size: {} MB", MAX_FILE_SIZE / (1024 * 1024));
 	}
 
@@ -78,76 +93,42 @@ public class ImportController {
 	 * File requirements: - Maximum file size: 100MB - Supported formats: Excel
 	 * (.xlsx, .xls) - Must contain valid data structure as expected by the system
 	 *
-	 * @param file The Excel file to be imported (multipart form data)
+	 * @param file   The Excel file to be imported (multipart form data)
+	 * @param engine Persistence engine: JPA (default) or COPY (PostgreSQL only)
 	 * @return ResponseEntity containing ImportResultDto with detailed import
 	 *         results Returns HTTP 200 (OK) with import results on successful
 	 *         processing Returns HTTP 400 (Bad Request) if file validation fails
 	 *         Returns HTTP 413 (Payload Too Large) if file exceeds size limit
 	 *         Returns HTTP 415 (Unsupported Media Type) if file format is not
-	 *         supported Returns HTTP 500 (Internal Server Error) if processing
-	 *         fails
+	 *         supported Returns HTTP 429 (Too Many Requests) if the maximum
+	 *         number of imports is already running Returns HTTP 500 (Internal
+	 *         Server Error) if processing fails
 	 */
 	@PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-	public ResponseEntity<ImportResultDto> importExcel(@RequestParam("file") MultipartFile file) {
+	public ResponseEntity<ImportResultDto> importExcel(@RequestParam("file") MultipartFile file,
+			@RequestParam(value = "engine", defaultValue = "JPA") ExcelImportService.ImportEngine engine) {
 		logger.info("POST request received for Excel import. File: '{}', Size: {} MB", 
 			file.getOriginalFilename(), file.getSize() / (1024.0 * 1024.0));
 
 		try {
-			// Validate file is not empty
-			if (file.isEmpty()) {
-				logger.warn("Import failed: Empty file uploaded");
-				ImportResultDto result = new ImportResultDto();
-				result.setSuccess(false);
-				result.setErrors(List.of("Empty file uploaded"));
-				return ResponseEntity.badRequest().body(result);
+			ResponseEntity<ImportResultDto> rejected = validateUpload(file);
+			if (rejected != null) {
+				return rejected;
 			}
-
-			// Validate file size
-			if (file.getSize() > MAX_FILE_SIZE) {
-				logger.warn("Import failed: File size ({} MB) exceeds maximum allowed size ({} MB)",
-						file.getSize() / (1024.0 * 1024.0), MAX_FILE_SIZE / (1024.0 * 1024.0));
-				ImportResultDto result = new ImportResultDto();
-				result.setSuccess(false);
-				result.setErrors(List.of("File size exceeds maximum allowed size of " + (MAX_FILE_SIZE / (1024 * 1024)) + " MB"));
-				return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(result);
-			}
-
-			// Validate file type - more lenient checking
-			String contentType = file.getContentType();
 			String filename = file.getOriginalFilename();
-			
-			boolean isValidType = false;
-			
-			// Check by content type
-			if (contentType != null) {
-				for (String allowedType : ALLOWED_CONTENT_TYPES) {
-					if (allowedType.equals(contentType)) {
-						isValidType = true;
-						break;
-					}
-				}
-			}
-			
-			// Also check by file extension as fallback
-			if (!isValidType && filename != null) {
-				String lowerFilename = filename.toLowerCase();
-				isValidType = lowerFilename.endsWith(".xlsx") || lowerFilename.endsWith(".xls");
-			}
-
-			if (!isValidType) {
-				logger.warn("Import failed: Unsupported file type '{}' for file '{}'", contentType, filename);
-				ImportResultDto result = new ImportResultDto();
-				result.setSuccess(false);
-				result.setErrors(List.of("Unsupported file type. Please upload an Excel file (.xlsx or .xls)"));
-				return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(result);
-			}
 
 			logger.info("File validation passed. Starting import process for file: '{}' ({} MB)", 
 				filename, file.getSize() / (1024.0 * 1024.0));
 
 			// Process the import
 			long startTime = System.currentTimeMillis();
-			ImportResultDto result = excelImportService.importExcel(file);
+			ImportResultDto result;
+			importLimiter.acquire();
+			try {
+				result = excelImportService.importExcel(file, engine);
+			} finally {
+				importLimiter.release();
+			}
 			long processingTime = System.currentTimeMillis() - startTime;
 
 			// Log import results
@@ -164,6 +145,8 @@ public class ImportController {
 
 			return ResponseEntity.ok(result);
 
+		} catch (ImportCapacityExceededException e) {
+			return tooManyImports(e);
 		} catch (IllegalArgumentException e) {
 			logger.error("Import failed due to invalid arguments: {}", e.getMessage());
 			ImportResultDto result = new ImportResultDto();
@@ -178,4 +161,129 @@ public class ImportController {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Starts a background import job for an uploaded Excel file.
+	 *
+	 * The file is validated like in {@link #importExcel(MultipartFile, ExcelImportService.ImportEngine)} and then
+	 * handed to the {@link ImportJobService}. The response is returned immediately
+	 * and contains the job id used for polling.
+	 *
+	 * @param file   The Excel file to be imported (multipart form data)
+	 * @param engine Persistence engine: JPA (default) or COPY (PostgreSQL only)
+	 * @return HTTP 202 (Accepted) with the initial ImportJobStatusDto and a Location
+	 *         header pointing to the status endpoint; the same 4xx responses as the
+	 *         synchronous import if validation fails or too many imports are running;
+	 *         HTTP 429 as well if the import job queue is full
+	 */
+	@PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE, params = "async=true")
+	public ResponseEntity<?> startImportJob(@RequestParam("file") MultipartFile file,
+			@RequestParam(value = "engine", defaultValue = "JPA") ExcelImportService.ImportEngine engine) {
+		logger.info("POST request received for background Excel import. File: '{}', Size: {} MB",
+			file.getOriginalFilename(), file.getSize() / (1024.0 * 1024.0));
+
+		ResponseEntity<ImportResultDto> rejected = validateUpload(file);
+		if (rejected != null) {
+			return rejected;
+		}
+
+		try {
+			ImportJobStatusDto job = importJobService.submit(file, engine);
+			return ResponseEntity.accepted()
+					.location(URI.create("/api/v1/import/" + job.getJobId()))
+					.body(job);
+		} catch (ImportCapacityExceededException e) {
+			return tooManyImports(e);
+		} catch (Exception e) {
+			logger.error("Could not start import job for file: '{}'", file.getOriginalFilename(), e);
+			ImportResultDto result = new ImportResultDto();
+			result.setSuccess(false);
+			result.setErrors(List.of("Internal server error: " + e.getMessage()));
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
+		}
+	}
+
+	/**
+	 * Returns progress and, once finished, the final result of an import job.
+	 *
+	 * @param jobId The id returned when the job was started
+	 * @return HTTP 200 (OK) with the ImportJobStatusDto, HTTP 404 (Not Found) if the
+	 *         job is unknown or has expired
+	 */
+	@GetMapping("/{jobId}")
+	public ResponseEntity<ImportJobStatusDto> getImportJob(@PathVariable String jobId) {
+		logger.debug("GET request received for import job {}", jobId);
+		return importJobService.getJob(jobId)
+				.map(ResponseEntity::ok)
+				.orElseGet(() -> {
+					logger.warn("Import job {} not found", jobId);
+					return ResponseEntity.notFound().build();
+				});
+	}
+
+	private ResponseEntity<ImportResultDto> tooManyImports(ImportCapacityExceededException e) {
+		ImportResultDto result = new ImportResultDto();
+		result.setSuccess(false);
+		result.setErrors(List.of(e.getMessage()));
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(result);
+	}
+
+	/**
+	 * Validates emptiness, size and type of an uploaded file.
+	 *
+	 * @param file the uploaded file
+	 * @return an error response if the upload is rejected, otherwise null
+	 */
+	private ResponseEntity<ImportResultDto> validateUpload(MultipartFile file) {
+		// Validate file is not empty
+		if (file.isEmpty()) {
+			logger.warn("Import failed: Empty file uploaded");
+			ImportResultDto result = new ImportResultDto();
+			result.setSuccess(false);
+			result.setErrors(List.of("Empty file uploaded"));
+			return ResponseEntity.badRequest().body(result);
+		}
+
+		// Validate file size
+		if (file.getSize() > MAX_FILE_SIZE) {
+			logger.warn("Import failed: File size ({} MB) exceeds maximum allowed size ({} MB)",
+					file.getSize() / (1024.0 * 1024.0), MAX_FILE_SIZE / (1024.0 * 1024.0));
+			ImportResultDto result = new ImportResultDto();
+			result.setSuccess(false);
+			result.setErrors(List.of("File size exceeds maximum allowed size of " + (MAX_FILE_SIZE / (1024 * 1024)) + " MB"));
+			return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(result);
+		}
+
+		// Validate file type - more lenient checking
+		String contentType = file.getContentType();
+		String filename = file.getOriginalFilename();
+		
+		boolean isValidType = false;
+		
+		// Check by content type
+		if (contentType != null) {
+			for (String allowedType : ALLOWED_CONTENT_TYPES) {
+				if (allowedType.equals(contentType)) {
+					isValidType = true;
+					break;
+				}
+			}
+		}
+		
+		// Also check by file extension as fallback
+		if (!isValidType && filename != null) {
+			String lowerFilename = filename.toLowerCase();
+			isValidType = lowerFilename.endsWith(".xlsx") || lowerFilename.endsWith(".xls");
+		}
+
+		if (!isValidType) {
+			logger.warn("Import failed: Unsupported file type '{}' for file '{}'", contentType, filename);
+			ImportResultDto result = new ImportResultDto();
+			result.setSuccess(false);
+			result.setErrors(List.of("Unsupported file type. Please upload an Excel file (.xlsx or .xls)"));
+			return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(result);
+		}
+
+		return null;
+	}
+}
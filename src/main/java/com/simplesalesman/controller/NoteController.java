@@ -1,9 +1,15 @@
 package com.simplesalesman.controller;
 
+import com.simplesalesman.dto.NoteBatchItemDto;
+import com.simplesalesman.dto.NoteBatchResultDto;
 import com.simplesalesman.dto.NoteDto;
+import com.simplesalesman.dto.PageDto;
+import com.simplesalesman.service.NoteSearchService;
 import com.simplesalesman.service.NoteService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -14,9 +20,11 @@ import java.util.Map;
  * REST Controller for managing notes associated with addresses in the SimpleSalesman application.
  *
  * This controller provides endpoints to:
- * - Retrieve all notes in the system
+ * - Retrieve notes page by page, with server-side search and sorting
+ * - Full-text search in note texts (German stemming, phrases)
  * - Retrieve all notes linked to a specific address
  * - Add a new note to an address
+ * - Upload many notes across addresses at once (offline sync, idempotent)
  * - Update an existing note
  * - Delete a note
  *
@@ -29,9 +37,11 @@ import java.util.Map;
  * - Input is validated on all endpoints
  *
  * API Endpoints:
- * - GET /api/v1/notes - Get all notes
+ * - GET /api/v1/notes?page=&size=&search=&sort=&order= - Get one page of notes
+ * - GET /api/v1/notes/search?q=&page=&size= - Full-text search in note texts
  * - GET /api/v1/notes/{addressId} - Get notes for specific address
  * - POST /api/v1/notes/{addressId} - Add note to address
+ * - POST /api/v1/notes/batch - Add many notes identified by client IDs
  * - PUT /api/v1/notes/{noteId} - Update note
  * - DELETE /api/v1/notes/{noteId} - Delete note
  *
@@ -46,28 +56,74 @@ public class NoteController {
 
     private static final Logger logger = LoggerFactory.getLogger(NoteController.class);
     private final NoteService noteService;
+    private final NoteSearchService noteSearchService;
 
     /**
      * Constructor for NoteController.
      *
      * @param noteService Service component handling business logic for notes
+     * @param noteSearchService Service component for the full-text search in notes
      */
-    public NoteController(NoteService noteService) {
+    public NoteController(NoteService noteService, NoteSearchService noteSearchService) {
         this.noteService = noteService;
+        this.noteSearchService = noteSearchService;
         logger.info("NoteController initialized");
     }
 
     /**
-     * Returns all notes in the system.
-     * 
-     * @return List of all NoteDto objects with address information
+     * Returns one page of notes, optionally filtered and sorted.
+     *
+     * @param page   zero-based page number (default 0)
+     * @param size   page size (default and maximum are configurable)
+     * @param search case-insensitive search in note text, author and address text
+     * @param sort   sort field: id, createdAt, createdBy, text or address
+     * @param order  sort order: asc or desc
+     * @return PageDto of NoteDto objects with address information,
+     *         or HTTP 400 for invalid paging or sort parameters
      */
     @GetMapping
-    public ResponseEntity<List<NoteDto>> getAllNotes() {
-        logger.info("GET request received for all notes");
-        List<NoteDto> notes = noteService.getAllNotes();
-        logger.debug("Found {} total notes", notes.size());
-        return ResponseEntity.ok(notes);
+    public ResponseEntity<PageDto<NoteDto>> getNotes(@RequestParam(required = false) Integer page,
+                                                     @RequestParam(required = false) Integer size,
+                                                     @RequestParam(required = false) String search,
+                                                     @RequestParam(required = false) String sort,
+                                                     @RequestParam(required = false) String order) {
+        logger.info("GET request received for notes (page={}, size={}, search={}, sort={} {})",
+                page, size, search, sort, order);
+        try {
+            PageDto<NoteDto> notes = noteService.getNotePage(page != null ? page : 0, size, search, sort, order);
+            logger.debug("Found {} of {} notes", notes.getContent().size(), notes.getTotalElements());
+            return ResponseEntity.ok(notes);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid pagination parameters: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Searches note texts, best hits first.
+     *
+     * Words are stemmed ("Rückrufe" finds "Rückruf") and must all occur;
+     * quoted words must occur in sequence, e.g. {@code "kein Interesse"}.
+     *
+     * @param q    search query
+     * @param page zero-based page number (default 0)
+     * @param size page size (default and maximum are configurable)
+     * @return PageDto of matching NoteDto objects with address information,
+     *         or HTTP 400 for an empty query or invalid paging parameters
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PageDto<NoteDto>> searchNotes(@RequestParam(required = false) String q,
+                                                        @RequestParam(required = false) Integer page,
+                                                        @RequestParam(required = false) Integer size) {
+        logger.info("GET request received for note search (q={}, page={}, size={})", q, page, size);
+        try {
+            PageDto<NoteDto> notes = noteSearchService.search(q, page != null ? page : 0, size);
+            logger.debug("Found {} notes for '{}'", notes.getTotalElements(), q);
+            return ResponseEntity.ok(notes);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid note search: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -108,6 +164,32 @@ public class NoteController {
         return ResponseEntity.ok(Map.of("message", "Note saved successfully"));
     }
 
+    /**
+     * Stores a batch of notes across many addresses, e.g. after a day offline.
+     *
+     * Each note carries a client-generated ID; notes already stored under their
+     * client ID are reported as duplicates, so retrying an upload is safe.
+     *
+     * @param notes notes to store
+     * @return HTTP 200 with the outcome per note, 400 for an empty or too large
+     *         batch, or 409 if the same notes are being uploaded concurrently (retry)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<NoteBatchResultDto> addNotes(@RequestBody List<NoteBatchItemDto> notes) {
+        logger.info("POST request received for note batch ({} notes)", notes != null ? notes.size() : 0);
+        try {
+            NoteBatchResultDto result = noteService.addNotes(notes);
+            logger.debug("Note batch stored: {}", result);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid note batch: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("Concurrent upload of the same notes: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
     /**
      * Updates the text of an existing note.
      *
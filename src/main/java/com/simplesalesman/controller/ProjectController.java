@@ -1,5 +1,7 @@
 package com.simplesalesman.controller;
 
+import com.simplesalesman.dto.BulkStatusUpdateDto;
+import com.simplesalesman.dto.BulkStatusUpdateResultDto;
 import com.simplesalesman.dto.ProjectDto;
 import com.simplesalesman.dto.StatusUpdateDto;
 import com.simplesalesman.service.ProjectService;
@@ -16,7 +18,7 @@ import java.util.List;
  * Provides endpoints to:
  * - Retrieve all projects or a specific one by ID
  * - Get the status of a project
- * - Update a project's status
+ * - Update a project's status, or the status of many projects at once
  *
  * This controller supports the core functionality needed by sales staff to track the progress
  * of construction or sales-related projects.
@@ -26,6 +28,7 @@ import java.util.List;
  * - GET /api/v1/projects/{id}             → Get project details by ID
  * - GET /api/v1/projects/{id}/status      → Get project status
  * - PATCH /api/v1/projects/status         → Update project status
+ * - PATCH /api/v1/projects/status/bulk    → Update many project statuses (list or filter)
  *
  * Security:
  * - Assumes authenticated access via JWT
@@ -106,4 +109,22 @@ public class ProjectController {
         logger.debug("Project ID {} status updated to '{}'", statusUpdateDto.getProjectId(), statusUpdateDto.getNewStatus());
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Updates the status of many projects in one transaction.
+     *
+     * @param request list of status updates, or filter fields plus new status
+     * @return HTTP 200 with the outcome per project, or 400 for an invalid request
+     */
+    @PatchMapping("/status/bulk")
+    public ResponseEntity<BulkStatusUpdateResultDto> updateProjectStatuses(@RequestBody BulkStatusUpdateDto request) {
+        logger.info("PATCH /projects/status/bulk called – {}", request);
+        try {
+            BulkStatusUpdateResultDto result = projectService.updateStatuses(request);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid bulk status update: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package com.simplesalesman.controller;
+
+import com.simplesalesman.dto.RouteDto;
+import com.simplesalesman.dto.RouteRequestDto;
+import com.simplesalesman.service.RouteService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for door-to-door route planning.
+ *
+ * API Endpoints:
+ * - POST /api/v1/routes/optimize → Visiting order for a set of addresses from a start point
+ *
+ * Example request body:
+ * { "addressIds": [4, 7, 12], "startLatitude": 48.2082, "startLongitude": 16.3738 }
+ *
+ * Error Handling:
+ * - 400 Bad Request if no addresses, too many addresses or no valid start point is given
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@RestController
+@RequestMapping("/api/v1/routes")
+@CrossOrigin(origins = "*")
+public class RouteController {
+
+    private static final Logger logger = LoggerFactory.getLogger(RouteController.class);
+    private final RouteService routeService;
+
+    public RouteController(RouteService routeService) {
+        this.routeService = routeService;
+        logger.info("RouteController initialized");
+    }
+
+    /**
+     * Plans a route through the given addresses.
+     *
+     * @param request address ids and start point
+     * @return HTTP 200 with the stops in visiting order, or 400 for an invalid request
+     */
+    @PostMapping("/optimize")
+    public ResponseEntity<RouteDto> optimize(@RequestBody RouteRequestDto request) {
+        logger.info("POST /routes/optimize called – {}", request);
+        try {
+            return ResponseEntity.ok(routeService.planRoute(request));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid route request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.simplesalesman.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simplesalesman.service.SyncService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+/**
+ * REST Controller for the delta sync of addresses, projects and notes.
+ *
+ * Clients keeping a local copy (GUI, mobile) fetch only what changed since
+ * their last sync instead of reloading all data.
+ *
+ * API Endpoints:
+ * - GET /api/v1/sync                → Full sync (all data plus watermark)
+ * - GET /api/v1/sync?since={watermark} → Changes and deletions since the watermark
+ *
+ * Response:
+ * <pre>
+ * { "watermark": 48213, "full": false,
+ *   "addresses": [ ... ], "projects": [ ... ], "notes": [ ... ],
+ *   "deletedAddressIds": [ 7 ], "deletedProjectIds": [], "deletedNoteIds": [ 12, 13 ] }
+ * </pre>
+ * Addresses come without nested projects and notes; projects and notes reference
+ * their address by ID. Clients apply the changes as upserts by ID, remove the
+ * deleted IDs and pass {@code watermark} as {@code since} on the next sync; a change
+ * may arrive twice. If {@code full} is true, the deletion lists are omitted and the
+ * client replaces its local copy. The watermark is null where the database has no
+ * change tracking; every sync is then a full sync.
+ *
+ * The response is streamed while it is read from the database. Once it has
+ * started, errors can no longer change the status code; the JSON then ends early.
+ *
+ * Error Handling:
+ * - 400 Bad Request if {@code since} is not a watermark returned by a previous sync
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@RestController
+@RequestMapping("/api/v1/sync")
+@CrossOrigin(origins = "*")
+public class SyncController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncController.class);
+    private final SyncService syncService;
+    private final ObjectMapper objectMapper;
+
+    public SyncController(SyncService syncService, ObjectMapper objectMapper) {
+        this.syncService = syncService;
+        this.objectMapper = objectMapper;
+        logger.info("SyncController initialized");
+    }
+
+    /**
+     * Streams the changes since the given watermark.
+     *
+     * @param since    watermark returned by the previous sync; omit for a full sync
+     * @param response the HTTP response the changes are written to
+     * @throws IOException if the response cannot be written
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public void sync(@RequestParam(required = false) String since, HttpServletResponse response) throws IOException {
+        logger.info("GET /sync called (since={})", since);
+        Long watermark;
+        try {
+            watermark = since != null && !since.isBlank() ? Long.valueOf(since.trim()) : null;
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid sync watermark: {}", since);
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        try (JsonGenerator json = objectMapper.createGenerator(new BufferedOutputStream(response.getOutputStream()))) {
+            syncService.streamChanges(watermark, new SyncService.SyncSink() {
+                @Override
+                public void begin(Long next, boolean full) {
+                    try {
+                        json.writeStartObject();
+                        json.writeObjectField("watermark", next);
+                        json.writeBooleanField("full", full);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                @Override
+                public void section(String name, Stream<?> items) {
+                    try {
+                        json.writeArrayFieldStart(name);
+                        items.forEach(item -> {
+                            try {
+                                json.writeObject(item);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+                        json.writeEndArray();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+            json.writeEndObject();
+        } catch (UncheckedIOException e) {
+            logger.warn("Sync aborted: {}", e.getCause().getMessage());
+            throw e.getCause();
+        }
+    }
+}
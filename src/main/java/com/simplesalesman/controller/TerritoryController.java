@@ -0,0 +1,61 @@
+package com.simplesalesman.controller;
+
+import com.simplesalesman.dto.TerritoryPlanDto;
+import com.simplesalesman.service.TerritoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for splitting a region between several reps.
+ *
+ * API Endpoints:
+ * - GET /api/v1/territories?region=Linz&reps=3 → Balanced territories of the region's open addresses
+ *
+ * Optional parameters:
+ * - closedStatus (repeatable): project statuses counting as closed, overriding
+ *   {@code simplesalesman.territories.closed-statuses}
+ *
+ * Error Handling:
+ * - 400 Bad Request for an unknown region, an invalid number of reps or too many addresses
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@RestController
+@RequestMapping("/api/v1/territories")
+@CrossOrigin(origins = "*")
+public class TerritoryController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TerritoryController.class);
+    private final TerritoryService territoryService;
+
+    public TerritoryController(TerritoryService territoryService) {
+        this.territoryService = territoryService;
+        logger.info("TerritoryController initialized");
+    }
+
+    /**
+     * Partitions the open addresses of a region.
+     *
+     * @param region       name of the region
+     * @param reps         number of reps
+     * @param closedStatus project statuses counting as closed (optional)
+     * @return HTTP 200 with one territory per rep, or 400 for an invalid request
+     */
+    @GetMapping
+    public ResponseEntity<TerritoryPlanDto> partition(@RequestParam String region, @RequestParam int reps,
+                                                      @RequestParam(required = false) List<String> closedStatus) {
+        logger.info("GET /territories called – region={}, reps={}, closedStatus={}", region, reps, closedStatus);
+        try {
+            return ResponseEntity.ok(territoryService.partition(region, reps, closedStatus));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid territory request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
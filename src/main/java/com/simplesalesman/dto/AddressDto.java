@@ -30,7 +30,7 @@ import java.util.Objects;
  * structures with the client
  * 
  * @author SimpleSalesman Team
- * @version 0.0.6
+ * @version 0.1.0
  * @since 0.0.4
  */
 @Schema(description = "Address information including linked projects and notes")
@@ -54,12 +54,20 @@ public class AddressDto {
 	@Size(max = 100, message = "Region name must not exceed 100 characters")
 	private String regionName;
 
-	@Schema(description = "List of projects linked to this address")
+	@Schema(description = "Latitude (WGS84); null until geocoded", example = "48.2082", accessMode = Schema.AccessMode.READ_ONLY)
+	@JsonProperty("latitude")
+	private Double latitude;
+
+	@Schema(description = "Longitude (WGS84); null until geocoded", example = "16.3738", accessMode = Schema.AccessMode.READ_ONLY)
+	@JsonProperty("longitude")
+	private Double longitude;
+
+	@Schema(description = "List of projects linked to this address; on update, null leaves them unchanged and an empty list removes all")
 	@JsonProperty("projects")
 	@Valid
 	private List<ProjectDto> projects;
 
-	@Schema(description = "List of notes associated with this address")
+	@Schema(description = "List of notes associated with this address; on update, null leaves them unchanged and an empty list removes all")
 	@JsonProperty("notes")
 	@Valid
 	private List<NoteDto> notes;
@@ -123,6 +131,22 @@ public class AddressDto {
 		this.regionName = regionName;
 	}
 
+	public Double getLatitude() {
+		return latitude;
+	}
+
+	public void setLatitude(Double latitude) {
+		this.latitude = latitude;
+	}
+
+	public Double getLongitude() {
+		return longitude;
+	}
+
+	public void setLongitude(Double longitude) {
+		this.longitude = longitude;
+	}
+
 	public List<ProjectDto> getProjects() {
 		return projects;
 	}
@@ -155,12 +179,13 @@ public class AddressDto {
 		return notes != null && !notes.isEmpty();
 	}
 
-	public int getProjectCount() {
-		return projects != null ? projects.size() : 0;
+	// Null (and omitted from JSON) when the lists are not included, e.g. in delta sync
+	public Integer getProjectCount() {
+		return projects != null ? projects.size() : null;
 	}
 
-	public int getNoteCount() {
-		return notes != null ? notes.size() : 0;
+	public Integer getNoteCount() {
+		return notes != null ? notes.size() : null;
 	}
 
 	// === Object Overrides ===
@@ -173,13 +198,14 @@ public class AddressDto {
 			return false;
 		AddressDto that = (AddressDto) obj;
 		return Objects.equals(id, that.id) && Objects.equals(addressText, that.addressText)
-				&& Objects.equals(regionName, that.regionName) && Objects.equals(projects, that.projects)
+				&& Objects.equals(regionName, that.regionName) && Objects.equals(latitude, that.latitude)
+				&& Objects.equals(longitude, that.longitude) && Objects.equals(projects, that.projects)
 				&& Objects.equals(notes, that.notes);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(id, addressText, regionName, projects, notes);
+		return Objects.hash(id, addressText, regionName, latitude, longitude, projects, notes);
 	}
 
 	@Override
@@ -0,0 +1,89 @@
+package com.simplesalesman.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Objects;
+
+/**
+ * Data Transfer Object (DTO) describing an address that was recognized as a
+ * duplicate of an existing one and therefore merged into it.
+ *
+ * Part of {@link ImportResultDto}. A similarity of 1.0 means the normalized
+ * addresses are identical (e.g. "Hauptstraße 5" and "Hauptstr. 5 "); lower values
+ * come from fuzzy matching within the same postal code and house number.
+ *
+ * Example JSON: { "addressText": "Hauptstr. 5, 4133, Niederkappel",
+ * "matchedAddressText": "Hauptstraße 5, 4133, Niederkappel", "similarity": 1.0 }
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Schema(description = "Duplicate address merged into an existing address")
+public class AddressDuplicateDto {
+
+	@Schema(description = "Address text that was skipped", example = "Hauptstr. 5, 4133, Niederkappel")
+	private String addressText;
+
+	@Schema(description = "Address text it was matched with; empty for duplicates within the same file",
+			example = "Hauptstraße 5, 4133, Niederkappel")
+	private String matchedAddressText;
+
+	@Schema(description = "Similarity of the normalized addresses (1.0 = identical)", example = "1.0")
+	private double similarity;
+
+	public AddressDuplicateDto() {
+	}
+
+	public AddressDuplicateDto(String addressText, String matchedAddressText, double similarity) {
+		this.addressText = addressText;
+		this.matchedAddressText = matchedAddressText;
+		this.similarity = similarity;
+	}
+
+	public String getAddressText() {
+		return addressText;
+	}
+
+	public void setAddressText(String addressText) {
+		this.addressText = addressText;
+	}
+
+	public String getMatchedAddressText() {
+		return matchedAddressText;
+	}
+
+	public void setMatchedAddressText(String matchedAddressText) {
+		this.matchedAddressText = matchedAddressText;
+	}
+
+	public double getSimilarity() {
+		return similarity;
+	}
+
+	public void setSimilarity(double similarity) {
+		this.similarity = similarity;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("AddressDuplicateDto{addressText='%s', matchedAddressText='%s', similarity=%.2f}",
+				addressText, matchedAddressText, similarity);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof AddressDuplicateDto))
+			return false;
+		AddressDuplicateDto that = (AddressDuplicateDto) o;
+		return Double.compare(similarity, that.similarity) == 0 && Objects.equals(addressText, that.addressText)
+				&& Objects.equals(matchedAddressText, that.matchedAddressText);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(addressText, matchedAddressText, similarity);
+	}
+}
@@ -0,0 +1,100 @@
+package com.simplesalesman.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Objects;
+
+/**
+ * Data Transfer Object (DTO) for one hit of the address search.
+ *
+ * Hits are ranked by their score, the trigram word similarity between the search
+ * query and the address text or region name (1.0 = every trigram of the query
+ * occurs in the address). Prefixes and small typos still score high, e.g.
+ * "hauptstr 5" or "haupstrasse" for "Hauptstraße 5, 4133, Niederkappel".
+ *
+ * Example JSON: { "id": 42, "addressText": "Hauptstraße 5, 4133, Niederkappel",
+ * "regionName": "Niederkappel 92018-001", "score": 0.83 }
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Schema(description = "Ranked hit of the address search")
+public class AddressSearchResultDto {
+
+	@Schema(description = "ID of the address", example = "42")
+	private Long id;
+
+	@Schema(description = "Address text", example = "Hauptstraße 5, 4133, Niederkappel")
+	private String addressText;
+
+	@Schema(description = "Name of the region of the address", example = "Niederkappel 92018-001")
+	private String regionName;
+
+	@Schema(description = "Trigram similarity to the query (1.0 = all query trigrams found)", example = "0.83")
+	private double score;
+
+	public AddressSearchResultDto() {
+	}
+
+	public AddressSearchResultDto(Long id, String addressText, String regionName, double score) {
+		this.id = id;
+		this.addressText = addressText;
+		this.regionName = regionName;
+		this.score = score;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getAddressText() {
+		return addressText;
+	}
+
+	public void setAddressText(String addressText) {
+		this.addressText = addressText;
+	}
+
+	public String getRegionName() {
+		return regionName;
+	}
+
+	public void setRegionName(String regionName) {
+		this.regionName = regionName;
+	}
+
+	public double getScore() {
+		return score;
+	}
+
+	public void setScore(double score) {
+		this.score = score;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("AddressSearchResultDto{id=%d, addressText='%s', regionName='%s', score=%.2f}", id,
+				addressText, regionName, score);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof AddressSearchResultDto))
+			return false;
+		AddressSearchResultDto that = (AddressSearchResultDto) o;
+		return Double.compare(score, that.score) == 0 && Objects.equals(id, that.id)
+				&& Objects.equals(addressText, that.addressText) && Objects.equals(regionName, that.regionName);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, addressText, regionName, score);
+	}
+}
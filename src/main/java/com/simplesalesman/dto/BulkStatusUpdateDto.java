@@ -0,0 +1,118 @@
+package com.simplesalesman.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Data Transfer Object (DTO) for updating the status of many projects at once.
+ *
+ * Two modes, exactly one per request:
+ * - list: {@code updates} holds one {@link StatusUpdateDto} per project
+ * - filter: {@code newStatus} is assigned to all projects matching the filter
+ *   fields; at least one filter field is required
+ *
+ * Example payloads:
+ * { "updates": [ { "projectId": 12, "newStatus": "100 In Betrieb" }, ... ] }
+ * { "street": "Hauptstraße", "postalCode": "4133", "newStatus": "100 In Betrieb" }
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Schema(description = "Bulk status update: a list of updates, or a filter plus a new status")
+public class BulkStatusUpdateDto {
+
+	@Schema(description = "Individual status updates (list mode)")
+	@Valid
+	private List<StatusUpdateDto> updates;
+
+	@Schema(description = "Status for all projects matching the filter (filter mode)", example = "100 In Betrieb")
+	private String newStatus;
+
+	@Schema(description = "Filter: exact region name", example = "Niederkappel 92018-001")
+	private String regionName;
+
+	@Schema(description = "Filter: postal code of the address", example = "4133")
+	private String postalCode;
+
+	@Schema(description = "Filter: street of the address, spelling variants allowed", example = "Hauptstr.")
+	private String street;
+
+	@Schema(description = "Filter: current project status", example = "50 In Bau")
+	private String currentStatus;
+
+	public List<StatusUpdateDto> getUpdates() {
+		return updates;
+	}
+
+	public void setUpdates(List<StatusUpdateDto> updates) {
+		this.updates = updates;
+	}
+
+	public String getNewStatus() {
+		return newStatus;
+	}
+
+	public void setNewStatus(String newStatus) {
+		this.newStatus = newStatus;
+	}
+
+	public String getRegionName() {
+		return regionName;
+	}
+
+	public void setRegionName(String regionName) {
+		this.regionName = regionName;
+	}
+
+	public String getPostalCode() {
+		return postalCode;
+	}
+
+	public void setPostalCode(String postalCode) {
+		this.postalCode = postalCode;
+	}
+
+	public String getStreet() {
+		return street;
+	}
+
+	public void setStreet(String street) {
+		this.street = street;
+	}
+
+	public String getCurrentStatus() {
+		return currentStatus;
+	}
+
+	public void setCurrentStatus(String currentStatus) {
+		this.currentStatus = currentStatus;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				"BulkStatusUpdateDto{updates=%d, newStatus='%s', regionName='%s', postalCode='%s', street='%s', currentStatus='%s'}",
+				updates != null ? updates.size() : 0, newStatus, regionName, postalCode, street, currentStatus);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof BulkStatusUpdateDto))
+			return false;
+		BulkStatusUpdateDto that = (BulkStatusUpdateDto) o;
+		return Objects.equals(updates, that.updates) && Objects.equals(newStatus, that.newStatus)
+				&& Objects.equals(regionName, that.regionName) && Objects.equals(postalCode, that.postalCode)
+				&& Objects.equals(street, that.street) && Objects.equals(currentStatus, that.currentStatus);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(updates, newStatus, regionName, postalCode, street, currentStatus);
+	}
+}
@@ -0,0 +1,104 @@
+package com.simplesalesman.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Data Transfer Object (DTO) representing the result of a bulk status update.
+ *
+ * Holds the counts per outcome and one {@link ProjectStatusResultDto} per
+ * requested (list mode) or matched (filter mode) project.
+ *
+ * Example JSON: { "updated": 2, "unchanged": 0, "notFound": 1, "results": [
+ * { "projectId": 12, "outcome": "UPDATED", "status": "100 In Betrieb" }, ... ] }
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Schema(description = "Result of a bulk status update")
+public class BulkStatusUpdateResultDto {
+
+	@Schema(description = "Number of projects whose status changed", example = "2")
+	private int updated;
+
+	@Schema(description = "Number of projects that already had the requested status", example = "0")
+	private int unchanged;
+
+	@Schema(description = "Number of requested project IDs that do not exist", example = "1")
+	private int notFound;
+
+	@Schema(description = "Outcome per project")
+	private List<ProjectStatusResultDto> results = Collections.emptyList();
+
+	public BulkStatusUpdateResultDto() {
+	}
+
+	public BulkStatusUpdateResultDto(List<ProjectStatusResultDto> results) {
+		this.results = results;
+		for (ProjectStatusResultDto result : results) {
+			switch (result.getOutcome()) {
+				case UPDATED -> updated++;
+				case UNCHANGED -> unchanged++;
+				case NOT_FOUND -> notFound++;
+			}
+		}
+	}
+
+	public int getUpdated() {
+		return updated;
+	}
+
+	public void setUpdated(int updated) {
+		this.updated = updated;
+	}
+
+	public int getUnchanged() {
+		return unchanged;
+	}
+
+	public void setUnchanged(int unchanged) {
+		this.unchanged = unchanged;
+	}
+
+	public int getNotFound() {
+		return notFound;
+	}
+
+	public void setNotFound(int notFound) {
+		this.notFound = notFound;
+	}
+
+	public List<ProjectStatusResultDto> getResults() {
+		return results;
+	}
+
+	public void setResults(List<ProjectStatusResultDto> results) {
+		this.results = results;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("BulkStatusUpdateResultDto{updated=%d, unchanged=%d, notFound=%d}", updated, unchanged,
+				notFound);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof BulkStatusUpdateResultDto))
+			return false;
+		BulkStatusUpdateResultDto that = (BulkStatusUpdateResultDto) o;
+		return updated == that.updated && unchanged == that.unchanged && notFound == that.notFound
+				&& Objects.equals(results, that.results);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(updated, unchanged, notFound, results);
+	}
+}
@@ -0,0 +1,166 @@
+package com.simplesalesman.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Data Transfer Object (DTO) for one change pushed to subscribed clients over the
+ * event stream (GET /api/v1/events).
+ *
+ * Only the fields relevant for the event type are set and serialized, e.g.:
+ * - PROJECT_STATUS: { "type": "PROJECT_STATUS", "regionName": "Wien", "addressId": 4, "projectId": 12, "status": "100 In Betrieb", ... }
+ * - NOTE_CREATED: { "type": "NOTE_CREATED", "regionName": "Wien", "addressId": 4, "noteId": 81, ... }
+ * - IMPORT_COMPLETED: { "type": "IMPORT_COMPLETED", "recordsProcessed": 1200, ... }
+ *
+ * Events carry ids, not data: clients reload what they display, e.g. via the
+ * delta sync (GET /api/v1/sync).
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Change pushed over the event stream")
+public class ChangeEventDto {
+
+	/**
+	 * Kinds of changes.
+	 */
+	public enum Type {
+		/** Status of a project changed */
+		PROJECT_STATUS,
+		/** Note added to an address */
+		NOTE_CREATED,
+		/** Note text edited */
+		NOTE_UPDATED,
+		/** Note deleted */
+		NOTE_DELETED,
+		/** Excel import finished; affects all regions */
+		IMPORT_COMPLETED
+	}
+
+	@Schema(description = "Kind of change", example = "PROJECT_STATUS")
+	private Type type;
+
+	@Schema(description = "Region of the affected address; null for imports", example = "Wien")
+	private String regionName;
+
+	@Schema(description = "ID of the affected address", example = "4")
+	private Long addressId;
+
+	@Schema(description = "ID of the project (PROJECT_STATUS)", example = "12")
+	private Long projectId;
+
+	@Schema(description = "ID of the note (NOTE_*)", example = "81")
+	private Long noteId;
+
+	@Schema(description = "New project status (PROJECT_STATUS)", example = "100 In Betrieb")
+	private String status;
+
+	@Schema(description = "Number of imported records (IMPORT_COMPLETED)", example = "1200")
+	private Integer recordsProcessed;
+
+	@Schema(description = "Time of the change", example = "2025-06-18T09:30:00Z")
+	private Instant timestamp;
+
+	public ChangeEventDto() {
+	}
+
+	public ChangeEventDto(Type type, String regionName, Long addressId) {
+		this.type = type;
+		this.regionName = regionName;
+		this.addressId = addressId;
+		this.timestamp = Instant.now();
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public void setType(Type type) {
+		this.type = type;
+	}
+
+	public String getRegionName() {
+		return regionName;
+	}
+
+	public void setRegionName(String regionName) {
+		this.regionName = regionName;
+	}
+
+	public Long getAddressId() {
+		return addressId;
+	}
+
+	public void setAddressId(Long addressId) {
+		this.addressId = addressId;
+	}
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public void setProjectId(Long projectId) {
+		this.projectId = projectId;
+	}
+
+	public Long getNoteId() {
+		return noteId;
+	}
+
+	public void setNoteId(Long noteId) {
+		this.noteId = noteId;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public Integer getRecordsProcessed() {
+		return recordsProcessed;
+	}
+
+	public void setRecordsProcessed(Integer recordsProcessed) {
+		this.recordsProcessed = recordsProcessed;
+	}
+
+	public Instant getTimestamp() {
+		return timestamp;
+	}
+
+	public void setTimestamp(Instant timestamp) {
+		this.timestamp = timestamp;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ChangeEventDto{type=%s, regionName='%s', addressId=%d, projectId=%d, noteId=%d, status='%s'}",
+				type, regionName, addressId, projectId, noteId, status);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof ChangeEventDto))
+			return false;
+		ChangeEventDto that = (ChangeEventDto) o;
+		return type == that.type && Objects.equals(regionName, that.regionName)
+				&& Objects.equals(addressId, that.addressId) && Objects.equals(projectId, that.projectId)
+				&& Objects.equals(noteId, that.noteId) && Objects.equals(status, that.status)
+				&& Objects.equals(recordsProcessed, that.recordsProcessed) && Objects.equals(timestamp, that.timestamp);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(type, regionName, addressId, projectId, noteId, status, recordsProcessed, timestamp);
+	}
+}
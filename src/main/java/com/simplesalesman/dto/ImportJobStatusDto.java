@@ -0,0 +1,148 @@
+package com.simplesalesman.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) describing the state of a background Excel import job.
+ *
+ * Returned by {@code POST /api/v1/import?async=true} right after the upload and by
+ * {@code GET /api/v1/import/{jobId}} while polling. Once the job has finished, the
+ * final {@link ImportResultDto} is included in {@code result}.
+ *
+ * Example JSON response: { "jobId": "3f1c...", "state": "RUNNING", "rowsParsed":
+ * 12000, "rowsPersisted": 9000, "rowsSkipped": 12, "rowsPerSecond": 1850.4 }
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Schema(description = "Status of a background Excel import job")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJobStatusDto {
+
+	/**
+	 * Lifecycle of an import job.
+	 */
+	public enum State {
+		QUEUED, RUNNING, COMPLETED, FAILED
+	}
+
+	@Schema(description = "Unique job identifier", example = "3f1c2a9e-7d4b-4c1e-9a55-0c2f1b7e8d61")
+	private String jobId;
+
+	@Schema(description = "Original name of the uploaded file", example = "regionen.xlsx")
+	private String fileName;
+
+	@Schema(description = "Current job state", example = "RUNNING")
+	private State state;
+
+	@Schema(description = "Rows parsed from the file so far", example = "12000")
+	private int rowsParsed;
+
+	@Schema(description = "Rows persisted to the database so far", example = "9000")
+	private int rowsPersisted;
+
+	@Schema(description = "Rows skipped (duplicates, missing region)", example = "12")
+	private int rowsSkipped;
+
+	@Schema(description = "Persisted rows per second", example = "1850.4")
+	private double rowsPerSecond;
+
+	@Schema(description = "Time the job was accepted")
+	private LocalDateTime submittedAt;
+
+	@Schema(description = "Time the job finished (completed or failed)")
+	private LocalDateTime finishedAt;
+
+	@Schema(description = "Final import result, available once the job has finished")
+	private ImportResultDto result;
+
+	public String getJobId() {
+		return jobId;
+	}
+
+	public void setJobId(String jobId) {
+		this.jobId = jobId;
+	}
+
+	public String getFileName() {
+		return fileName;
+	}
+
+	public void setFileName(String fileName) {
+		this.fileName = fileName;
+	}
+
+	public State getState() {
+		return state;
+	}
+
+	public void setState(State state) {
+		this.state = state;
+	}
+
+	public int getRowsParsed() {
+		return rowsParsed;
+	}
+
+	public void setRowsParsed(int rowsParsed) {
+		this.rowsParsed = rowsParsed;
+	}
+
+	public int getRowsPersisted() {
+		return rowsPersisted;
+	}
+
+	public void setRowsPersisted(int rowsPersisted) {
+		this.rowsPersisted = rowsPersisted;
+	}
+
+	public int getRowsSkipped() {
+		return rowsSkipped;
+	}
+
+	public void setRowsSkipped(int rowsSkipped) {
+		this.rowsSkipped = rowsSkipped;
+	}
+
+	public double getRowsPerSecond() {
+		return rowsPerSecond;
+	}
+
+	public void setRowsPerSecond(double rowsPerSecond) {
+		this.rowsPerSecond = rowsPerSecond;
+	}
+
+	public LocalDateTime getSubmittedAt() {
+		return submittedAt;
+	}
+
+	public void setSubmittedAt(LocalDateTime submittedAt) {
+		this.submittedAt = submittedAt;
+	}
+
+	public LocalDateTime getFinishedAt() {
+		return finishedAt;
+	}
+
+	public void setFinishedAt(LocalDateTime finishedAt) {
+		this.finishedAt = finishedAt;
+	}
+
+	public ImportResultDto getResult() {
+		return result;
+	}
+
+	public void setResult(ImportResultDto result) {
+		this.result = result;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ImportJobStatusDto{jobId=%s, state=%s, parsed=%d, persisted=%d, skipped=%d}", jobId,
+				state, rowsParsed, rowsPersisted, rowsSkipped);
+	}
+}
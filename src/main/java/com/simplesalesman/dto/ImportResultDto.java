@@ -13,7 +13,8 @@ import java.util.Objects;
  * operation in the SimpleSalesman system.
  *
  * Used by the import controller to return: - Whether the import was successful
- * - How many records were processed - Any validation or processing errors
+ * - How many records were processed - Any validation or processing errors -
+ * Duplicate addresses that were merged into existing ones
  *
  * Example JSON response: { "success": true, "recordsProcessed": 42, "errors":[]
  * }
@@ -36,6 +37,9 @@ public class ImportResultDto {
 	@Schema(description = "List of error messages", example = "[\"Invalid format in row 3\"]")
 	private List<String> errors;
 
+	@Schema(description = "Addresses skipped as duplicates of existing addresses")
+	private List<AddressDuplicateDto> duplicates = Collections.emptyList();
+
 	/**
 	 * Default constructor.
 	 */
@@ -86,10 +90,18 @@ public class ImportResultDto {
 		this.errors = errors != null ? errors : Collections.emptyList();
 	}
 
+	public List<AddressDuplicateDto> getDuplicates() {
+		return duplicates;
+	}
+
+	public void setDuplicates(List<AddressDuplicateDto> duplicates) {
+		this.duplicates = duplicates != null ? duplicates : Collections.emptyList();
+	}
+
 	@Override
 	public String toString() {
-		return String.format("ImportResultDto{success=%s, recordsProcessed=%d, errorCount=%d}", success,
-				recordsProcessed, errors != null ? errors.size() : 0);
+		return String.format("ImportResultDto{success=%s, recordsProcessed=%d, errorCount=%d, duplicateCount=%d}",
+				success, recordsProcessed, errors != null ? errors.size() : 0, duplicates.size());
 	}
 
 	@Override
@@ -100,11 +112,11 @@ public class ImportResultDto {
 			return false;
 		ImportResultDto that = (ImportResultDto) o;
 		return success == that.success && recordsProcessed == that.recordsProcessed
-				&& Objects.equals(errors, that.errors);
+				&& Objects.equals(errors, that.errors) && Objects.equals(duplicates, that.duplicates);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(success, recordsProcessed, errors);
+		return Objects.hash(success, recordsProcessed, errors, duplicates);
 	}
 }
@@ -0,0 +1,125 @@
+package com.simplesalesman.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Data Transfer Object (DTO) for one address found near a location.
+ *
+ * Example JSON: { "id": 42, "addressText": "Hauptstraße 5, 4133, Niederkappel",
+ * "regionName": "Niederkappel 92018-001", "latitude": 48.4681, "longitude": 14.0872,
+ * "distanceMeters": 120, "projectStatuses": ["100 In Betrieb"] }
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Schema(description = "Address near a location")
+public class NearbyAddressDto {
+
+	@Schema(description = "ID of the address", example = "42")
+	private Long id;
+
+	@Schema(description = "Address text", example = "Hauptstraße 5, 4133, Niederkappel")
+	private String addressText;
+
+	@Schema(description = "Name of the region of the address", example = "Niederkappel 92018-001")
+	private String regionName;
+
+	@Schema(description = "Latitude (WGS84)", example = "48.4681")
+	private double latitude;
+
+	@Schema(description = "Longitude (WGS84)", example = "14.0872")
+	private double longitude;
+
+	@Schema(description = "Straight-line distance from the location in metres", example = "120")
+	private long distanceMeters;
+
+	@Schema(description = "Statuses of the projects at the address, sorted")
+	private List<String> projectStatuses = Collections.emptyList();
+
+	public NearbyAddressDto() {
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getAddressText() {
+		return addressText;
+	}
+
+	public void setAddressText(String addressText) {
+		this.addressText = addressText;
+	}
+
+	public String getRegionName() {
+		return regionName;
+	}
+
+	public void setRegionName(String regionName) {
+		this.regionName = regionName;
+	}
+
+	public double getLatitude() {
+		return latitude;
+	}
+
+	public void setLatitude(double latitude) {
+		this.latitude = latitude;
+	}
+
+	public double getLongitude() {
+		return longitude;
+	}
+
+	public void setLongitude(double longitude) {
+		this.longitude = longitude;
+	}
+
+	public long getDistanceMeters() {
+		return distanceMeters;
+	}
+
+	public void setDistanceMeters(long distanceMeters) {
+		this.distanceMeters = distanceMeters;
+	}
+
+	public List<String> getProjectStatuses() {
+		return projectStatuses;
+	}
+
+	public void setProjectStatuses(List<String> projectStatuses) {
+		this.projectStatuses = projectStatuses;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("NearbyAddressDto{id=%d, distanceMeters=%d}", id, distanceMeters);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof NearbyAddressDto))
+			return false;
+		NearbyAddressDto that = (NearbyAddressDto) o;
+		return Double.compare(latitude, that.latitude) == 0 && Double.compare(longitude, that.longitude) == 0
+				&& distanceMeters == that.distanceMeters && Objects.equals(id, that.id)
+				&& Objects.equals(addressText, that.addressText) && Objects.equals(regionName, that.regionName)
+				&& Objects.equals(projectStatuses, that.projectStatuses);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, addressText, regionName, latitude, longitude, distanceMeters, projectStatuses);
+	}
+}
@@ -0,0 +1,103 @@
+package com.simplesalesman.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Data Transfer Object (DTO) for one note of a batch upload.
+ *
+ * Used by offline clients to replay the notes collected during the day in one
+ * request. The client-generated {@code clientId} identifies the note across
+ * retries: a note whose client ID is already stored is not inserted again.
+ *
+ * Example JSON:
+ * { "clientId": "5f0c2a9e-1b7d-4c1e-9a53-2f6b1d0e7c11", "addressId": 42,
+ *   "text": "Kein Interesse", "createdBy": "john.doe", "createdAt": "2025-06-18T09:30:00" }
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Schema(description = "One note of a batch upload")
+public class NoteBatchItemDto {
+
+	@Schema(description = "Client-generated unique ID, e.g. a UUID (max. 64 characters)", example = "5f0c2a9e-1b7d-4c1e-9a53-2f6b1d0e7c11", requiredMode = Schema.RequiredMode.REQUIRED)
+	private String clientId;
+
+	@Schema(description = "ID of the address the note belongs to", example = "42", requiredMode = Schema.RequiredMode.REQUIRED)
+	private Long addressId;
+
+	@Schema(description = "Text content of the note (max. 2000 characters)", example = "Kein Interesse", requiredMode = Schema.RequiredMode.REQUIRED)
+	private String text;
+
+	@Schema(description = "Username of the creator", example = "john.doe")
+	private String createdBy;
+
+	@Schema(description = "Time the note was taken on the device; defaults to the upload time", example = "2025-06-18T09:30:00")
+	private LocalDateTime createdAt;
+
+	public String getClientId() {
+		return clientId;
+	}
+
+	public void setClientId(String clientId) {
+		this.clientId = clientId;
+	}
+
+	public Long getAddressId() {
+		return addressId;
+	}
+
+	public void setAddressId(Long addressId) {
+		this.addressId = addressId;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	public void setText(String text) {
+		this.text = text;
+	}
+
+	public String getCreatedBy() {
+		return createdBy;
+	}
+
+	public void setCreatedBy(String createdBy) {
+		this.createdBy = createdBy;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(LocalDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("NoteBatchItemDto{clientId='%s', addressId=%d, createdBy='%s', createdAt=%s}", clientId,
+				addressId, createdBy, createdAt);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof NoteBatchItemDto))
+			return false;
+		NoteBatchItemDto that = (NoteBatchItemDto) o;
+		return Objects.equals(clientId, that.clientId) && Objects.equals(addressId, that.addressId)
+				&& Objects.equals(text, that.text) && Objects.equals(createdBy, that.createdBy)
+				&& Objects.equals(createdAt, that.createdAt);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(clientId, addressId, text, createdBy, createdAt);
+	}
+}
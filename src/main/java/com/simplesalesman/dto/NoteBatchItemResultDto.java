@@ -0,0 +1,98 @@
+package com.simplesalesman.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Objects;
+
+/**
+ * Data Transfer Object (DTO) with the outcome of a batch upload for one note.
+ *
+ * Part of {@link NoteBatchResultDto}.
+ *
+ * Example JSON: { "clientId": "5f0c2a9e-...", "noteId": 317, "outcome": "CREATED" }
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Schema(description = "Outcome of a batch upload for one note")
+public class NoteBatchItemResultDto {
+
+	/**
+	 * Possible outcomes per note.
+	 */
+	public enum Outcome {
+		/** Note stored */
+		CREATED,
+		/** Note with this client ID was stored before (or earlier in the same batch) */
+		DUPLICATE,
+		/** The address does not exist; note not stored */
+		ADDRESS_NOT_FOUND,
+		/** Client ID, address ID or text missing or too long; note not stored */
+		INVALID
+	}
+
+	@Schema(description = "Client-generated ID of the note", example = "5f0c2a9e-1b7d-4c1e-9a53-2f6b1d0e7c11")
+	private String clientId;
+
+	@Schema(description = "Server ID of the stored note; null if not stored", example = "317")
+	private Long noteId;
+
+	@Schema(description = "Outcome for this note", example = "CREATED")
+	private Outcome outcome;
+
+	public NoteBatchItemResultDto() {
+	}
+
+	public NoteBatchItemResultDto(String clientId, Long noteId, Outcome outcome) {
+		this.clientId = clientId;
+		this.noteId = noteId;
+		this.outcome = outcome;
+	}
+
+	public String getClientId() {
+		return clientId;
+	}
+
+	public void setClientId(String clientId) {
+		this.clientId = clientId;
+	}
+
+	public Long getNoteId() {
+		return noteId;
+	}
+
+	public void setNoteId(Long noteId) {
+		this.noteId = noteId;
+	}
+
+	public Outcome getOutcome() {
+		return outcome;
+	}
+
+	public void setOutcome(Outcome outcome) {
+		this.outcome = outcome;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("NoteBatchItemResultDto{clientId='%s', noteId=%d, outcome=%s}", clientId, noteId,
+				outcome);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof NoteBatchItemResultDto))
+			return false;
+		NoteBatchItemResultDto that = (NoteBatchItemResultDto) o;
+		return Objects.equals(clientId, that.clientId) && Objects.equals(noteId, that.noteId)
+				&& outcome == that.outcome;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(clientId, noteId, outcome);
+	}
+}
@@ -0,0 +1,104 @@
+package com.simplesalesman.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Data Transfer Object (DTO) representing the result of a batch note upload.
+ *
+ * Holds the counts per outcome and one {@link NoteBatchItemResultDto} per
+ * uploaded note, in upload order. Clients can drop all notes reported as
+ * CREATED or DUPLICATE from their outbox.
+ *
+ * Example JSON: { "created": 2, "duplicates": 1, "rejected": 0, "results": [ ... ] }
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Schema(description = "Result of a batch note upload")
+public class NoteBatchResultDto {
+
+	@Schema(description = "Number of notes stored", example = "2")
+	private int created;
+
+	@Schema(description = "Number of notes already stored by an earlier upload", example = "1")
+	private int duplicates;
+
+	@Schema(description = "Number of notes rejected (invalid or unknown address)", example = "0")
+	private int rejected;
+
+	@Schema(description = "Outcome per note, in upload order")
+	private List<NoteBatchItemResultDto> results = Collections.emptyList();
+
+	public NoteBatchResultDto() {
+	}
+
+	public NoteBatchResultDto(List<NoteBatchItemResultDto> results) {
+		this.results = results;
+		for (NoteBatchItemResultDto result : results) {
+			switch (result.getOutcome()) {
+				case CREATED -> created++;
+				case DUPLICATE -> duplicates++;
+				case ADDRESS_NOT_FOUND, INVALID -> rejected++;
+			}
+		}
+	}
+
+	public int getCreated() {
+		return created;
+	}
+
+	public void setCreated(int created) {
+		this.created = created;
+	}
+
+	public int getDuplicates() {
+		return duplicates;
+	}
+
+	public void setDuplicates(int duplicates) {
+		this.duplicates = duplicates;
+	}
+
+	public int getRejected() {
+		return rejected;
+	}
+
+	public void setRejected(int rejected) {
+		this.rejected = rejected;
+	}
+
+	public List<NoteBatchItemResultDto> getResults() {
+		return results;
+	}
+
+	public void setResults(List<NoteBatchItemResultDto> results) {
+		this.results = results;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("NoteBatchResultDto{created=%d, duplicates=%d, rejected=%d}", created, duplicates,
+				rejected);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof NoteBatchResultDto))
+			return false;
+		NoteBatchResultDto that = (NoteBatchResultDto) o;
+		return created == that.created && duplicates == that.duplicates && rejected == that.rejected
+				&& Objects.equals(results, that.results);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(created, duplicates, rejected, results);
+	}
+}
@@ -0,0 +1,100 @@
+package com.simplesalesman.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for one page of a paginated list response.
+ *
+ * Supports two pagination modes:
+ * - Offset pagination ({@code ?page=&size=}): {@code page}, {@code totalElements}
+ *   and {@code totalPages} are set
+ * - Keyset pagination ({@code ?afterId=&size=}): {@code nextAfterId} is set while
+ *   more elements follow; no count query is executed
+ *
+ * Example JSON response: { "content": [ ... ], "size": 50, "nextAfterId": 1234 }
+ *
+ * @param <T> element type
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Schema(description = "One page of a paginated list")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PageDto<T> {
+
+	@Schema(description = "Elements of this page")
+	private List<T> content;
+
+	@Schema(description = "Requested page size", example = "50")
+	private int size;
+
+	@Schema(description = "Zero-based page number (offset pagination only)", example = "0")
+	private Integer page;
+
+	@Schema(description = "Total number of elements (offset pagination only)", example = "72850")
+	private Long totalElements;
+
+	@Schema(description = "Total number of pages (offset pagination only)", example = "1457")
+	private Integer totalPages;
+
+	@Schema(description = "Value for afterId to fetch the next page; absent on the last page (keyset pagination only)",
+			example = "1234")
+	private Long nextAfterId;
+
+	public List<T> getContent() {
+		return content;
+	}
+
+	public void setContent(List<T> content) {
+		this.content = content;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public void setSize(int size) {
+		this.size = size;
+	}
+
+	public Integer getPage() {
+		return page;
+	}
+
+	public void setPage(Integer page) {
+		this.page = page;
+	}
+
+	public Long getTotalElements() {
+		return totalElements;
+	}
+
+	public void setTotalElements(Long totalElements) {
+		this.totalElements = totalElements;
+	}
+
+	public Integer getTotalPages() {
+		return totalPages;
+	}
+
+	public void setTotalPages(Integer totalPages) {
+		this.totalPages = totalPages;
+	}
+
+	public Long getNextAfterId() {
+		return nextAfterId;
+	}
+
+	public void setNextAfterId(Long nextAfterId) {
+		this.nextAfterId = nextAfterId;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PageDto{size=%d, elements=%d, page=%s, totalElements=%s, nextAfterId=%s}", size,
+				content != null ? content.size() : 0, page, totalElements, nextAfterId);
+	}
+}
@@ -19,7 +19,7 @@ import java.util.Objects;
  * backend.
  *
  * @author SimpleSalesman Team
- * @version 0.0.6
+ * @version 0.1.0
  * @since 0.0.3
  */
 @Schema(description = "Project data linked to an address")
@@ -72,6 +72,9 @@ public class ProjectDto {
 	@Schema(description = "Indicates whether an outdoor fee applies", example = "true")
 	private boolean outdoorFeePresent;
 
+	@Schema(description = "ID of the address the project belongs to", example = "42", accessMode = Schema.AccessMode.READ_ONLY)
+	private Long addressId;
+
 
 
 	public Long getId() {
@@ -202,6 +205,14 @@ public class ProjectDto {
 
 
 
+	public Long getAddressId() {
+		return addressId;
+	}
+
+	public void setAddressId(Long addressId) {
+		this.addressId = addressId;
+	}
+
 	@Override
 	public String toString() {
 		return String.format("ProjectDto{id=%d, status='%s', homes=%d, operator='%s', price=%s}", id, status,
@@ -223,13 +234,14 @@ public class ProjectDto {
 				&& Objects.equals(plannedConstructionEnd, that.plannedConstructionEnd)
 				&& Objects.equals(salesStart, that.salesStart) && Objects.equals(salesEnd, that.salesEnd)
 				&& Objects.equals(commissionCategory, that.commissionCategory)
-				&& Objects.equals(kgNumber, that.kgNumber) && Objects.equals(productPrice, that.productPrice);
+				&& Objects.equals(kgNumber, that.kgNumber) && Objects.equals(productPrice, that.productPrice)
+				&& Objects.equals(addressId, that.addressId);
 	}
 
 	@Override
 	public int hashCode() {
 		return Objects.hash(id, status, operator, constructionCompany, plannedConstructionEnd, constructionCompleted,
 				salesStart, salesEnd, numberOfHomes, contractPresent, commissionCategory, kgNumber, productPrice,
-				outdoorFeePresent);
+				outdoorFeePresent, addressId);
 	}
 }
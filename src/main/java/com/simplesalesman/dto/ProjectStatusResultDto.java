@@ -0,0 +1,96 @@
+package com.simplesalesman.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Objects;
+
+/**
+ * Data Transfer Object (DTO) with the outcome of a bulk status update for one project.
+ *
+ * Part of {@link BulkStatusUpdateResultDto}.
+ *
+ * Example JSON: { "projectId": 12, "outcome": "UPDATED", "status": "100 In Betrieb" }
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Schema(description = "Outcome of a bulk status update for one project")
+public class ProjectStatusResultDto {
+
+	/**
+	 * Possible outcomes per project.
+	 */
+	public enum Outcome {
+		/** Status changed */
+		UPDATED,
+		/** Project already had the requested status */
+		UNCHANGED,
+		/** No project with this ID */
+		NOT_FOUND
+	}
+
+	@Schema(description = "ID of the project", example = "12")
+	private Long projectId;
+
+	@Schema(description = "Outcome for this project", example = "UPDATED")
+	private Outcome outcome;
+
+	@Schema(description = "Status of the project after the update; null if not found", example = "100 In Betrieb")
+	private String status;
+
+	public ProjectStatusResultDto() {
+	}
+
+	public ProjectStatusResultDto(Long projectId, Outcome outcome, String status) {
+		this.projectId = projectId;
+		this.outcome = outcome;
+		this.status = status;
+	}
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public void setProjectId(Long projectId) {
+		this.projectId = projectId;
+	}
+
+	public Outcome getOutcome() {
+		return outcome;
+	}
+
+	public void setOutcome(Outcome outcome) {
+		this.outcome = outcome;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ProjectStatusResultDto{projectId=%d, outcome=%s, status='%s'}", projectId, outcome,
+				status);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof ProjectStatusResultDto))
+			return false;
+		ProjectStatusResultDto that = (ProjectStatusResultDto) o;
+		return Objects.equals(projectId, that.projectId) && outcome == that.outcome
+				&& Objects.equals(status, that.status);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(projectId, outcome, status);
+	}
+}
@@ -0,0 +1,106 @@
+package com.simplesalesman.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Data Transfer Object (DTO) representing a planned route.
+ *
+ * Holds the geocoded addresses in visiting order. Addresses without coordinates
+ * cannot be placed on the route; they are listed separately, ordered by street
+ * and house number.
+ *
+ * Example JSON: { "totalDistanceMeters": 1840, "stops": [ { "addressId": 7, ... }, ... ],
+ * "unlocatedAddressIds": [12], "notFoundAddressIds": [], "computeTimeMs": 35 }
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Schema(description = "Planned route through a set of addresses")
+public class RouteDto {
+
+	@Schema(description = "Geocoded addresses in visiting order")
+	private List<RouteStopDto> stops = Collections.emptyList();
+
+	@Schema(description = "Straight-line length of the route from the start point in metres", example = "1840")
+	private long totalDistanceMeters;
+
+	@Schema(description = "Addresses without coordinates, by street and house number")
+	private List<Long> unlocatedAddressIds = Collections.emptyList();
+
+	@Schema(description = "Requested IDs that do not exist")
+	private List<Long> notFoundAddressIds = Collections.emptyList();
+
+	@Schema(description = "Time spent planning in milliseconds", example = "35")
+	private long computeTimeMs;
+
+	public RouteDto() {
+	}
+
+	public List<RouteStopDto> getStops() {
+		return stops;
+	}
+
+	public void setStops(List<RouteStopDto> stops) {
+		this.stops = stops;
+	}
+
+	public long getTotalDistanceMeters() {
+		return totalDistanceMeters;
+	}
+
+	public void setTotalDistanceMeters(long totalDistanceMeters) {
+		this.totalDistanceMeters = totalDistanceMeters;
+	}
+
+	public List<Long> getUnlocatedAddressIds() {
+		return unlocatedAddressIds;
+	}
+
+	public void setUnlocatedAddressIds(List<Long> unlocatedAddressIds) {
+		this.unlocatedAddressIds = unlocatedAddressIds;
+	}
+
+	public List<Long> getNotFoundAddressIds() {
+		return notFoundAddressIds;
+	}
+
+	public void setNotFoundAddressIds(List<Long> notFoundAddressIds) {
+		this.notFoundAddressIds = notFoundAddressIds;
+	}
+
+	public long getComputeTimeMs() {
+		return computeTimeMs;
+	}
+
+	public void setComputeTimeMs(long computeTimeMs) {
+		this.computeTimeMs = computeTimeMs;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("RouteDto{stops=%d, totalDistanceMeters=%d, unlocated=%d, notFound=%d, computeTimeMs=%d}",
+				stops.size(), totalDistanceMeters, unlocatedAddressIds.size(), notFoundAddressIds.size(), computeTimeMs);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof RouteDto))
+			return false;
+		RouteDto that = (RouteDto) o;
+		return totalDistanceMeters == that.totalDistanceMeters && Objects.equals(stops, that.stops)
+				&& Objects.equals(unlocatedAddressIds, that.unlocatedAddressIds)
+				&& Objects.equals(notFoundAddressIds, that.notFoundAddressIds);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(stops, totalDistanceMeters, unlocatedAddressIds, notFoundAddressIds);
+	}
+}
@@ -0,0 +1,83 @@
+package com.simplesalesman.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Data Transfer Object (DTO) for requesting a route through a set of addresses.
+ *
+ * Example JSON: { "addressIds": [4, 7, 12], "startLatitude": 48.2082, "startLongitude": 16.3738 }
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Schema(description = "Addresses to visit and start point of the route")
+public class RouteRequestDto {
+
+	@Schema(description = "IDs of the addresses to visit", example = "[4, 7, 12]", required = true)
+	private List<Long> addressIds;
+
+	@Schema(description = "Latitude of the start point (WGS84)", example = "48.2082", required = true)
+	private Double startLatitude;
+
+	@Schema(description = "Longitude of the start point (WGS84)", example = "16.3738", required = true)
+	private Double startLongitude;
+
+	public RouteRequestDto() {
+	}
+
+	public RouteRequestDto(List<Long> addressIds, Double startLatitude, Double startLongitude) {
+		this.addressIds = addressIds;
+		this.startLatitude = startLatitude;
+		this.startLongitude = startLongitude;
+	}
+
+	public List<Long> getAddressIds() {
+		return addressIds;
+	}
+
+	public void setAddressIds(List<Long> addressIds) {
+		this.addressIds = addressIds;
+	}
+
+	public Double getStartLatitude() {
+		return startLatitude;
+	}
+
+	public void setStartLatitude(Double startLatitude) {
+		this.startLatitude = startLatitude;
+	}
+
+	public Double getStartLongitude() {
+		return startLongitude;
+	}
+
+	public void setStartLongitude(Double startLongitude) {
+		this.startLongitude = startLongitude;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("RouteRequestDto{addresses=%d, start=(%s, %s)}",
+				addressIds != null ? addressIds.size() : 0, startLatitude, startLongitude);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof RouteRequestDto))
+			return false;
+		RouteRequestDto that = (RouteRequestDto) o;
+		return Objects.equals(addressIds, that.addressIds) && Objects.equals(startLatitude, that.startLatitude)
+				&& Objects.equals(startLongitude, that.startLongitude);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(addressIds, startLatitude, startLongitude);
+	}
+}
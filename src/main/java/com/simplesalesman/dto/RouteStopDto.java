@@ -0,0 +1,109 @@
+package com.simplesalesman.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Objects;
+
+/**
+ * Data Transfer Object (DTO) for one stop of a planned route.
+ *
+ * Part of {@link RouteDto}.
+ *
+ * Example JSON: { "addressId": 7, "addressText": "Hauptstraße 5, 4020 Linz",
+ * "latitude": 48.3069, "longitude": 14.2858, "distanceMeters": 85 }
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Schema(description = "One stop of a planned route")
+public class RouteStopDto {
+
+	@Schema(description = "ID of the address", example = "7")
+	private Long addressId;
+
+	@Schema(description = "Full address text", example = "Hauptstraße 5, 4020 Linz")
+	private String addressText;
+
+	@Schema(description = "Latitude (WGS84)", example = "48.3069")
+	private double latitude;
+
+	@Schema(description = "Longitude (WGS84)", example = "14.2858")
+	private double longitude;
+
+	@Schema(description = "Straight-line distance from the previous stop or the start point in metres", example = "85")
+	private long distanceMeters;
+
+	public RouteStopDto() {
+	}
+
+	public RouteStopDto(Long addressId, String addressText, double latitude, double longitude, long distanceMeters) {
+		this.addressId = addressId;
+		this.addressText = addressText;
+		this.latitude = latitude;
+		this.longitude = longitude;
+		this.distanceMeters = distanceMeters;
+	}
+
+	public Long getAddressId() {
+		return addressId;
+	}
+
+	public void setAddressId(Long addressId) {
+		this.addressId = addressId;
+	}
+
+	public String getAddressText() {
+		return addressText;
+	}
+
+	public void setAddressText(String addressText) {
+		this.addressText = addressText;
+	}
+
+	public double getLatitude() {
+		return latitude;
+	}
+
+	public void setLatitude(double latitude) {
+		this.latitude = latitude;
+	}
+
+	public double getLongitude() {
+		return longitude;
+	}
+
+	public void setLongitude(double longitude) {
+		this.longitude = longitude;
+	}
+
+	public long getDistanceMeters() {
+		return distanceMeters;
+	}
+
+	public void setDistanceMeters(long distanceMeters) {
+		this.distanceMeters = distanceMeters;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("RouteStopDto{addressId=%d, distanceMeters=%d}", addressId, distanceMeters);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof RouteStopDto))
+			return false;
+		RouteStopDto that = (RouteStopDto) o;
+		return Double.compare(latitude, that.latitude) == 0 && Double.compare(longitude, that.longitude) == 0
+				&& distanceMeters == that.distanceMeters && Objects.equals(addressId, that.addressId)
+				&& Objects.equals(addressText, that.addressText);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(addressId, addressText, latitude, longitude, distanceMeters);
+	}
+}
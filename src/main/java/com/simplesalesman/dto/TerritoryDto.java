@@ -0,0 +1,104 @@
+package com.simplesalesman.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Data Transfer Object (DTO) for one territory of a region, i.e. the addresses of one rep.
+ *
+ * Part of {@link TerritoryPlanDto}.
+ *
+ * Example JSON: { "index": 0, "centerLatitude": 48.3069, "centerLongitude": 14.2858,
+ * "radiusMeters": 1250, "addressIds": [4, 7, 12] }
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Schema(description = "Territory of one rep")
+public class TerritoryDto {
+
+	@Schema(description = "Number of the territory, starting at 0", example = "0")
+	private int index;
+
+	@Schema(description = "Latitude of the territory centre (WGS84)", example = "48.3069")
+	private double centerLatitude;
+
+	@Schema(description = "Longitude of the territory centre (WGS84)", example = "14.2858")
+	private double centerLongitude;
+
+	@Schema(description = "Straight-line distance from the centre to the farthest address in metres", example = "1250")
+	private long radiusMeters;
+
+	@Schema(description = "Addresses of the territory, ordered by ID")
+	private List<Long> addressIds = Collections.emptyList();
+
+	public TerritoryDto() {
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public void setIndex(int index) {
+		this.index = index;
+	}
+
+	public double getCenterLatitude() {
+		return centerLatitude;
+	}
+
+	public void setCenterLatitude(double centerLatitude) {
+		this.centerLatitude = centerLatitude;
+	}
+
+	public double getCenterLongitude() {
+		return centerLongitude;
+	}
+
+	public void setCenterLongitude(double centerLongitude) {
+		this.centerLongitude = centerLongitude;
+	}
+
+	public long getRadiusMeters() {
+		return radiusMeters;
+	}
+
+	public void setRadiusMeters(long radiusMeters) {
+		this.radiusMeters = radiusMeters;
+	}
+
+	public List<Long> getAddressIds() {
+		return addressIds;
+	}
+
+	public void setAddressIds(List<Long> addressIds) {
+		this.addressIds = addressIds;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("TerritoryDto{index=%d, addresses=%d, radiusMeters=%d}", index, addressIds.size(),
+				radiusMeters);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof TerritoryDto))
+			return false;
+		TerritoryDto that = (TerritoryDto) o;
+		return index == that.index && Double.compare(centerLatitude, that.centerLatitude) == 0
+				&& Double.compare(centerLongitude, that.centerLongitude) == 0 && radiusMeters == that.radiusMeters
+				&& Objects.equals(addressIds, that.addressIds);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(index, centerLatitude, centerLongitude, radiusMeters, addressIds);
+	}
+}
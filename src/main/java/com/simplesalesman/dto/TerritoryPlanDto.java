@@ -0,0 +1,106 @@
+package com.simplesalesman.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Data Transfer Object (DTO) representing the split of a region's open addresses
+ * between several reps.
+ *
+ * Territory sizes differ by at most one address where possible. Addresses without
+ * coordinates cannot be placed; they are listed separately.
+ *
+ * Example JSON: { "regionName": "Linz", "reps": 3, "territories": [ { "index": 0, ... }, ... ],
+ * "unlocatedAddressIds": [12], "computeTimeMs": 140 }
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Schema(description = "Territories of a region, one per rep")
+public class TerritoryPlanDto {
+
+	@Schema(description = "Name of the region", example = "Linz")
+	private String regionName;
+
+	@Schema(description = "Number of reps", example = "3")
+	private int reps;
+
+	@Schema(description = "One territory per rep; fewer if there are fewer geocoded addresses than reps")
+	private List<TerritoryDto> territories = Collections.emptyList();
+
+	@Schema(description = "Open addresses without coordinates, ordered by ID")
+	private List<Long> unlocatedAddressIds = Collections.emptyList();
+
+	@Schema(description = "Time spent partitioning in milliseconds", example = "140")
+	private long computeTimeMs;
+
+	public TerritoryPlanDto() {
+	}
+
+	public String getRegionName() {
+		return regionName;
+	}
+
+	public void setRegionName(String regionName) {
+		this.regionName = regionName;
+	}
+
+	public int getReps() {
+		return reps;
+	}
+
+	public void setReps(int reps) {
+		this.reps = reps;
+	}
+
+	public List<TerritoryDto> getTerritories() {
+		return territories;
+	}
+
+	public void setTerritories(List<TerritoryDto> territories) {
+		this.territories = territories;
+	}
+
+	public List<Long> getUnlocatedAddressIds() {
+		return unlocatedAddressIds;
+	}
+
+	public void setUnlocatedAddressIds(List<Long> unlocatedAddressIds) {
+		this.unlocatedAddressIds = unlocatedAddressIds;
+	}
+
+	public long getComputeTimeMs() {
+		return computeTimeMs;
+	}
+
+	public void setComputeTimeMs(long computeTimeMs) {
+		this.computeTimeMs = computeTimeMs;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("TerritoryPlanDto{regionName='%s', reps=%d, territories=%d, unlocated=%d, computeTimeMs=%d}",
+				regionName, reps, territories.size(), unlocatedAddressIds.size(), computeTimeMs);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof TerritoryPlanDto))
+			return false;
+		TerritoryPlanDto that = (TerritoryPlanDto) o;
+		return reps == that.reps && Objects.equals(regionName, that.regionName)
+				&& Objects.equals(territories, that.territories)
+				&& Objects.equals(unlocatedAddressIds, that.unlocatedAddressIds);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(regionName, reps, territories, unlocatedAddressIds);
+	}
+}
@@ -1,6 +1,8 @@
 package com.simplesalesman.entity;
 
+import com.simplesalesman.util.AddressNormalizer;
 import jakarta.persistence.*;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -12,19 +14,69 @@ import java.util.Set;
  *
  * Relationships: - ManyToOne: Region - OneToMany: Project, Note
  *
+ * The indexed {@code addressFingerprint} and {@code addressBlockKey} are derived
+ * from {@code addressText} (see {@link AddressNormalizer}) and kept in sync by its setter.
+ * The same applies to the sort keys {@code postalCode}, {@code streetKey} and
+ * {@code houseNumber}, which back the server-side table sorting by PLZ, street and
+ * house number, and to {@code searchText}, which backs the trigram address search.
+ *
+ * {@code changeVersion} backs the delta sync: on PostgreSQL a trigger stamps it with
+ * the id of the writing transaction on every insert and update (see {@code SyncService}).
+ *
+ * {@code latitude} and {@code longitude} (WGS84) locate the address for route
+ * planning; they are null until the address is geocoded (see {@code GeocodingService})
+ * and are cleared when the address text changes.
+ *
  * @author: SimpleSalesman Team
  * @version 0.1.0
  * @since 0.0.1
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_address_fingerprint", columnList = "address_fingerprint"),
+        @Index(name = "idx_address_block_key", columnList = "address_block_key"),
+        @Index(name = "idx_address_postal_code_sort", columnList = "postal_code, street_key, house_number, id"),
+        @Index(name = "idx_address_street_sort", columnList = "street_key, house_number, id"),
+        @Index(name = "idx_address_house_number_sort", columnList = "house_number, id"),
+        @Index(name = "idx_address_region", columnList = "region_id"),
+        @Index(name = "idx_address_change_version", columnList = "change_version")
+})
 public class Address {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "address_seq")
+    @SequenceGenerator(name = "address_seq", sequenceName = "address_seq", allocationSize = 50)
     private Long id;
 
     private String addressText;
 
+    @Column(name = "address_fingerprint")
+    private Long addressFingerprint;
+
+    @Column(name = "address_block_key")
+    private Long addressBlockKey;
+
+    @Column(name = "postal_code", length = 10)
+    private String postalCode;
+
+    @Column(name = "street_key")
+    private String streetKey;
+
+    @Column(name = "house_number")
+    private Integer houseNumber;
+
+    @Column(name = "search_text")
+    private String searchText;
+
+    @Column(name = "change_version", insertable = false, updatable = false)
+    private Long changeVersion;
+
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @ManyToOne
     @JoinColumn(name = "region_id")
     private Region region;
@@ -49,7 +101,63 @@ public class Address {
     }
 
     public void setAddressText(String addressText) {
+        if (!Objects.equals(this.addressText, addressText)) {
+            // Coordinates belong to the old text
+            this.latitude = null;
+            this.longitude = null;
+        }
         this.addressText = addressText;
+        AddressNormalizer.NormalizedAddress normalized = AddressNormalizer.normalize(addressText);
+        this.addressFingerprint = normalized != null ? normalized.getFingerprint() : null;
+        this.addressBlockKey = normalized != null ? normalized.getBlockKey() : null;
+        this.postalCode = normalized != null ? normalized.getPostalCode() : null;
+        this.streetKey = normalized != null ? normalized.getStreet() : null;
+        this.houseNumber = normalized != null ? normalized.getHouseNumberValue() : null;
+        this.searchText = AddressNormalizer.searchText(addressText);
+    }
+
+    public Long getAddressFingerprint() {
+        return addressFingerprint;
+    }
+
+    public Long getAddressBlockKey() {
+        return addressBlockKey;
+    }
+
+    public String getPostalCode() {
+        return postalCode;
+    }
+
+    public String getStreetKey() {
+        return streetKey;
+    }
+
+    public Integer getHouseNumber() {
+        return houseNumber;
+    }
+
+    public String getSearchText() {
+        return searchText;
+    }
+
+    public Long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * Sets the coordinates, e.g. from geocoding; both or neither must be null.
+     */
+    public void setCoordinates(Double latitude, Double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
     }
 
     public Region getRegion() {
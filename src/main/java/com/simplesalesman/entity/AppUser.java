@@ -1,6 +1,9 @@
 package com.simplesalesman.entity;
 
+import com.simplesalesman.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * JPA Entity representing an application user in the SimpleSalesman
@@ -16,12 +19,17 @@ import jakarta.persistence.*;
  *
  * Constraints: - keycloakId must be unique and not null
  *
+ * Users are read on every request for the current user and kept in the
+ * second-level cache (see {@link SecondLevelCacheConfig}).
+ *
  * @author SimpleSalesman Team
  * @version 0.0.6
  * @since 0.0.1
  */
 @Entity
 @Table(name = "app_user")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.APP_USER)
 public class AppUser {
 
 	@Id
@@ -16,18 +16,36 @@ import java.time.LocalDateTime;
  * - Maximum text length: 2000 characters
  * - createdAt and createdBy must be set when the note is created (typically by the backend)
  *
+ * Indexes back the server-side sorting of the notes table by date and author
+ * and the lookup of the notes of an address.
+ *
+ * Notes uploaded in batches by offline clients carry a client-generated id
+ * ({@code clientId}, e.g. a UUID). It is unique, so a repeated upload of the
+ * same note is recognized instead of stored twice.
+ *
+ * {@code changeVersion} backs the delta sync: on PostgreSQL a trigger stamps it with
+ * the id of the writing transaction on every insert and update (see {@code SyncService}).
+ *
  * Example use case:
  * - A user visits an address and logs feedback like "Customer interested, follow-up next week"
  *
  * @author SimpleSalesman Team
- * @version 0.0.6
+ * @version 0.1.0
  * @since 0.0.1
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_note_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_note_created_by", columnList = "created_by, id"),
+        @Index(name = "idx_note_address", columnList = "address_id"),
+        @Index(name = "uk_note_client_id", columnList = "client_id", unique = true),
+        @Index(name = "idx_note_change_version", columnList = "change_version")
+})
 public class Note {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "note_seq")
+    @SequenceGenerator(name = "note_seq", sequenceName = "note_seq", allocationSize = 50)
     private Long id;
 
     @Column(length = 2000)
@@ -37,6 +55,12 @@ public class Note {
 
     private String createdBy; // z. B. Verkäufername oder User-ID
 
+    @Column(length = 64)
+    private String clientId; // nur bei Batch-Uploads gesetzt
+
+    @Column(name = "change_version", insertable = false, updatable = false)
+    private Long changeVersion;
+
     @ManyToOne
     @JoinColumn(name = "address_id")
     private Address address;
@@ -75,6 +99,18 @@ public class Note {
         this.createdBy = createdBy;
     }
 
+    public String getClientId() {
+        return clientId;
+    }
+
+    public void setClientId(String clientId) {
+        this.clientId = clientId;
+    }
+
+    public Long getChangeVersion() {
+        return changeVersion;
+    }
+
     public Address getAddress() {
         return address;
     }
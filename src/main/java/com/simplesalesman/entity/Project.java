@@ -18,18 +18,24 @@ import java.time.LocalDate;
  * (start and end) - Commission and price details - Administrative data (e.g. KG
  * number, operator, category)
  *
+ * {@code changeVersion} backs the delta sync: on PostgreSQL a trigger stamps it with
+ * the id of the writing transaction on every insert and update, including bulk
+ * status updates (see {@code SyncService}).
+ *
  * Example use case: - Project "A45 Oberfeldstraße" has 30 homes, sales start in
  * Q2/2025, ANO is the operator, product price is €799.00, contract is present.
  *
  * @author SimpleSalesman Team
- * @version 0.0.6
+ * @version 0.1.0
  * @since 0.0.1
  */
 @Entity
+@Table(indexes = @Index(name = "idx_project_change_version", columnList = "change_version"))
 public class Project {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+	@SequenceGenerator(name = "project_seq", sequenceName = "project_seq", allocationSize = 50)
 	private Long id;
 
 	private String status;
@@ -55,6 +61,9 @@ public class Project {
 	@JoinColumn(name = "address_id")
 	private Address address;
 
+	@Column(name = "change_version", insertable = false, updatable = false)
+	private Long changeVersion;
+
 	// Getter und Setter...
 
 	public Long getId() {
@@ -177,6 +186,10 @@ public class Project {
 		this.address = address;
 	}
 
+	public Long getChangeVersion() {
+		return changeVersion;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o)
@@ -1,6 +1,10 @@
 package com.simplesalesman.entity;
 
+import com.simplesalesman.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.util.List;
 /**
  * JPA Entity representing a geographic or administrative region grouping multiple addresses.
@@ -11,6 +15,9 @@ import java.util.List;
  * Relationships:
  * - OneToMany: Address (each region may contain many addresses)
  *
+ * Regions change rarely but are looked up by name on every address write,
+ * so they are kept in the second-level cache (see {@link SecondLevelCacheConfig}).
+ *
  * Example:
  * - Region name: "Wels Land 92018-001"
  *
@@ -19,10 +26,13 @@ import java.util.List;
  * @since 0.0.1
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.REGION)
 public class Region {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "region_seq")
+    @SequenceGenerator(name = "region_seq", sequenceName = "region_seq", allocationSize = 50)
     private Long id;
 
     private String name; // z. B. "Adlwang 92018-011"
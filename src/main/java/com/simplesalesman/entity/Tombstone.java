@@ -0,0 +1,79 @@
+package com.simplesalesman.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * JPA Entity recording the deletion of an address, project or note.
+ *
+ * Deleted rows cannot report their own deletion, so the delta sync (see
+ * {@code SyncService}) reads these records to tell clients which entities to
+ * drop. Like the synced entities, tombstones carry a {@code changeVersion}
+ * stamped by the database. They are pruned after the configured retention;
+ * clients whose watermark is older receive a full sync instead.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_tombstone_deleted_at", columnList = "deleted_at"),
+        @Index(name = "idx_tombstone_change_version", columnList = "change_version")
+})
+public class Tombstone {
+
+    /**
+     * Kind of the deleted entity.
+     */
+    public enum EntityType {
+        ADDRESS, PROJECT, NOTE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tombstone_seq")
+    @SequenceGenerator(name = "tombstone_seq", sequenceName = "tombstone_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", length = 16, nullable = false)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    @Column(name = "change_version", insertable = false, updatable = false)
+    private Long changeVersion;
+
+    public Tombstone() {
+    }
+
+    public Tombstone(EntityType entityType, Long entityId, Instant deletedAt) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.deletedAt = deletedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    public Long getChangeVersion() {
+        return changeVersion;
+    }
+}
@@ -0,0 +1,28 @@
+package com.simplesalesman.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a new address is a duplicate of an existing one.
+ *
+ * Thrown by the service layer when address creation detects an exact or fuzzy
+ * match (see {@link com.simplesalesman.service.AddressDeduplicationService}).
+ * Results in an HTTP 409 Conflict response.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class DuplicateAddressException extends RuntimeException {
+
+    /**
+     * Constructs a new DuplicateAddressException with the specified detail message.
+     *
+     * @param message a descriptive message naming the existing address
+     */
+    public DuplicateAddressException(String message) {
+        super(message);
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
  * user-friendly error messages to clients.
  *
  * Supported exception types:
+ * - DuplicateAddressException → HTTP 409 with the matched address
  * - RuntimeException → HTTP 400 with detailed message
  * - Exception        → HTTP 500 with generic error text
  *
@@ -29,6 +30,17 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    @ExceptionHandler(DuplicateAddressException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateAddress(DuplicateAddressException ex) {
+        logger.warn("Duplicate address rejected: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException ex) {
         logger.warn("Handled RuntimeException: {}", ex.getMessage(), ex);
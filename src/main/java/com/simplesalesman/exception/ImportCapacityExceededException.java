@@ -0,0 +1,26 @@
+package com.simplesalesman.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when an import is started while the maximum number of imports
+ * is already running (see {@link com.simplesalesman.service.ImportConcurrencyLimiter}).
+ * Results in an HTTP 429 Too Many Requests response; the client may retry later.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class ImportCapacityExceededException extends RuntimeException {
+
+    /**
+     * Constructs a new ImportCapacityExceededException with the specified detail message.
+     *
+     * @param message a descriptive message naming the limit
+     */
+    public ImportCapacityExceededException(String message) {
+        super(message);
+    }
+}
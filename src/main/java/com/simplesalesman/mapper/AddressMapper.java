@@ -36,6 +36,8 @@ public class AddressMapper {
         dto.setId(address.getId());
         dto.setAddressText(address.getAddressText());
         dto.setRegionName(address.getRegion() != null ? address.getRegion().getName() : null);
+        dto.setLatitude(address.getLatitude());
+        dto.setLongitude(address.getLongitude());
         dto.setProjects(
                 address.getProjects() != null
                         ? address.getProjects().stream().map(projectMapper::toDto).collect(Collectors.toList())
@@ -49,6 +51,22 @@ public class AddressMapper {
         return dto;
     }
 
+    /**
+     * Maps only the address itself, without projects and notes (which stay
+     * unloaded), e.g. for the delta sync that delivers them separately.
+     */
+    public AddressDto toSummaryDto(Address address) {
+        if (address == null) return null;
+
+        AddressDto dto = new AddressDto();
+        dto.setId(address.getId());
+        dto.setAddressText(address.getAddressText());
+        dto.setRegionName(address.getRegion() != null ? address.getRegion().getName() : null);
+        dto.setLatitude(address.getLatitude());
+        dto.setLongitude(address.getLongitude());
+        return dto;
+    }
+
     public Address toEntity(AddressDto dto) {
         if (dto == null) return null;
 
@@ -10,7 +10,7 @@ import org.springframework.stereotype.Component;
  * Für Importe und einfache Konvertierung gedacht.
  * 
  * @author SimpleSalesman Team
- * @version 0.0.6
+ * @version 0.1.0
  * @since 0.0.2
  */
 @Component
@@ -34,6 +34,7 @@ public class ProjectMapper {
         dto.setKgNumber(project.getKgNumber());
         dto.setProductPrice(project.getProductPrice());
         dto.setOutdoorFeePresent(project.isOutdoorFeePresent());
+        dto.setAddressId(project.getAddress() != null ? project.getAddress().getId() : null);
         return dto;
     }
 
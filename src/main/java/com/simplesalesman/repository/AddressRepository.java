@@ -1,10 +1,19 @@
 package com.simplesalesman.repository;
 
 import com.simplesalesman.entity.Address;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link Address} entities in the SimpleSalesman application.
@@ -29,20 +38,125 @@ import java.util.List;
  */
 public interface AddressRepository extends JpaRepository<Address, Long> {
 
-    @Query("""
-        SELECT DISTINCT a FROM Address a
-        LEFT JOIN FETCH a.notes
-        LEFT JOIN FETCH a.projects
-        LEFT JOIN FETCH a.region
-    """)
-    List<Address> findAllWithNotesProjectsAndRegion();
+    /**
+     * Loads one page of addresses (offset pagination) with their region.
+     * Notes and projects are loaded per page via batch fetching.
+     * The sort order may refer to the region by its alias {@code r}.
+     *
+     * @param pageable page number, size and sort order
+     * @return the page including the total count
+     */
+    @Query(value = "SELECT a FROM Address a LEFT JOIN FETCH a.region r", countQuery = "SELECT count(a) FROM Address a")
+    Page<Address> findPage(Pageable pageable);
+
+    /**
+     * Loads one page of addresses whose search text or region name contains the search term.
+     * On PostgreSQL the substring match on {@code search_text} uses its trigram GIN index
+     * (see {@link com.simplesalesman.service.AddressSearchService}).
+     * The sort order may refer to the region by its alias {@code r}.
+     *
+     * @param pattern       LIKE pattern over the folded search text, escaped with '!'
+     *                      (see {@link com.simplesalesman.util.TableQuery})
+     * @param regionPattern lower-case LIKE pattern over the region name, escaped with '!'
+     * @param pageable      page number, size and sort order
+     * @return the matching page including the total count
+     */
+    @Query(value = "SELECT a FROM Address a LEFT JOIN FETCH a.region r "
+            + "WHERE a.searchText LIKE :pattern ESCAPE '!' OR LOWER(r.name) LIKE :regionPattern ESCAPE '!'",
+            countQuery = "SELECT count(a) FROM Address a LEFT JOIN a.region r "
+            + "WHERE a.searchText LIKE :pattern ESCAPE '!' OR LOWER(r.name) LIKE :regionPattern ESCAPE '!'")
+    Page<Address> searchPage(@Param("pattern") String pattern, @Param("regionPattern") String regionPattern,
+                             Pageable pageable);
+
+    /**
+     * Loads the next addresses after the given id (keyset pagination) with their region.
+     * Uses the primary key index and needs no count query, so the cost per page
+     * does not grow with the position in the table.
+     *
+     * @param afterId last id of the previous page (0 for the first page)
+     * @param limit   maximum number of addresses
+     * @return addresses ordered by id
+     */
+    @EntityGraph(attributePaths = "region")
+    List<Address> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    /**
+     * Streams all addresses with their region, ordered by id, over a forward-only
+     * cursor. Rows are fetched from the database in chunks of the fetch size.
+     * Must be consumed inside a transaction and closed afterwards.
+     *
+     * @return stream of all addresses
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Address a LEFT JOIN FETCH a.region ORDER BY a.id")
+    Stream<Address> streamAllOrderById();
     
     /**
-     * Retrieves all address texts for duplicate checking during import.
-     * Uses projection for better performance - only loads addressText field.
+     * Loads the address texts of the given duplicate-detection blocks.
+     * Used for batched duplicate checking during import and address creation (indexed lookup).
      * 
-     * @return List of all address text strings in the database
+     * @param blockKeys block keys of one batch of candidate addresses
+     * @return address texts stored in these blocks
+     */
+    @Query("SELECT a.addressText FROM Address a WHERE a.addressBlockKey IN :blockKeys")
+    List<String> findAddressTextsByBlockKeys(@Param("blockKeys") Collection<Long> blockKeys);
+
+    /**
+     * Checks which of the given address ids exist and loads their region names,
+     * without loading the addresses.
+     *
+     * @param ids address ids
+     * @return rows of {@code [addressId, regionName]} for the existing ids
+     */
+    @Query("SELECT a.id, r.name FROM Address a LEFT JOIN a.region r WHERE a.id IN :ids")
+    List<Object[]> findRegionNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads what route planning needs of the given addresses, without loading the entities.
+     *
+     * @param ids address ids
+     * @return rows of {@code [addressId, addressText, latitude, longitude, streetKey, houseNumber]}
+     *         for the existing ids
+     */
+    @Query("SELECT a.id, a.addressText, a.latitude, a.longitude, a.streetKey, a.houseNumber "
+            + "FROM Address a WHERE a.id IN :ids")
+    List<Object[]> findRouteRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads id and coordinates of the open addresses of a region, for territory partitioning.
+     * An address is open if it has no project or at least one project whose status is not closed.
+     *
+     * @param regionName     name of the region
+     * @param filterStatus   false to return all addresses of the region
+     * @param closedStatuses statuses counting as closed; must not be empty, pass a dummy value
+     *                       when {@code filterStatus} is false
+     * @return rows of {@code [addressId, latitude, longitude]} ordered by id
+     */
+    @Query("SELECT a.id, a.latitude, a.longitude FROM Address a JOIN a.region r "
+            + "WHERE r.name = :regionName AND (:filterStatus = false "
+            + "OR NOT EXISTS (SELECT p.id FROM Project p WHERE p.address = a) "
+            + "OR EXISTS (SELECT p.id FROM Project p WHERE p.address = a "
+            + "AND (p.status IS NULL OR p.status NOT IN :closedStatuses))) "
+            + "ORDER BY a.id")
+    List<Object[]> findTerritoryRowsByRegionName(@Param("regionName") String regionName,
+                                                 @Param("filterStatus") boolean filterStatus,
+                                                 @Param("closedStatuses") Collection<String> closedStatuses);
+
+    /**
+     * Streams all addresses changed since the watermark with their region (delta sync).
+     * Projects and notes are not loaded. Must be consumed inside a transaction.
+     *
+     * @param since change version (inclusive), or null for all addresses
+     * @return stream of addresses ordered by id
      */
-    @Query("SELECT a.addressText FROM Address a")
-    List<String> findAllAddressTexts();
-}
\ No newline at end of file
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Address a LEFT JOIN FETCH a.region "
+            + "WHERE :since IS NULL OR a.changeVersion >= :since ORDER BY a.id")
+    Stream<Address> streamChangedSince(@Param("since") Long since);
+}
@@ -2,9 +2,18 @@ package com.simplesalesman.repository;
 
 import com.simplesalesman.entity.Note;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
 /**
  * Repository interface for managing {@link Note} entities in the SimpleSalesman
@@ -15,7 +24,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * efficient persistence and retrieval.
  *
  * Typical Use Cases: - Storing new notes related to an address - Fetching,
- * updating, or deleting notes linked to D2D visits
+ * updating, or deleting notes linked to D2D visits - Server-side paging,
+ * sorting and searching of the notes table - Loading full-text search hits
  *
  * Entity: {@link Note} ID Type: {@link Long}
  *
@@ -28,4 +38,72 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface NoteRepository extends JpaRepository<Note, Long> {
     List<Note> findByAddressId(Long addressId);
+
+    /**
+     * Loads one page of notes with their address.
+     * The sort order may refer to the address by its alias {@code a}.
+     *
+     * @param pageable page number, size and sort order
+     * @return the page including the total count
+     */
+    @Query(value = "SELECT n FROM Note n LEFT JOIN FETCH n.address a LEFT JOIN FETCH a.region",
+            countQuery = "SELECT count(n) FROM Note n")
+    Page<Note> findPage(Pageable pageable);
+
+    /**
+     * Loads one page of notes whose text, author or address text contains the search term.
+     * The sort order may refer to the address by its alias {@code a}.
+     *
+     * @param pattern  lower-case LIKE pattern, escaped with '!' (see {@link com.simplesalesman.util.TableQuery})
+     * @param pageable page number, size and sort order
+     * @return the matching page including the total count
+     */
+    @Query(value = "SELECT n FROM Note n LEFT JOIN FETCH n.address a LEFT JOIN FETCH a.region "
+            + "WHERE LOWER(n.text) LIKE :pattern ESCAPE '!' OR LOWER(n.createdBy) LIKE :pattern ESCAPE '!' "
+            + "OR LOWER(a.addressText) LIKE :pattern ESCAPE '!'",
+            countQuery = "SELECT count(n) FROM Note n LEFT JOIN n.address a "
+            + "WHERE LOWER(n.text) LIKE :pattern ESCAPE '!' OR LOWER(n.createdBy) LIKE :pattern ESCAPE '!' "
+            + "OR LOWER(a.addressText) LIKE :pattern ESCAPE '!'")
+    Page<Note> searchPage(@Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * Loads the given notes with their address, e.g. the hits of one result page
+     * of the full-text search. The order of the result is undefined.
+     *
+     * @param ids note ids
+     * @return the notes that still exist
+     */
+    @Query("SELECT n FROM Note n LEFT JOIN FETCH n.address a LEFT JOIN FETCH a.region WHERE n.id IN :ids")
+    List<Note> findWithAddressByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Looks up notes by their client-generated ids (batch uploads).
+     *
+     * @param clientIds client ids
+     * @return rows of {@code [clientId, noteId]} for the client ids already stored
+     */
+    @Query("SELECT n.clientId, n.id FROM Note n WHERE n.clientId IN :clientIds")
+    List<Object[]> findIdsByClientIdIn(@Param("clientIds") Collection<String> clientIds);
+
+    /**
+     * Streams all notes changed since the watermark with their address (delta sync).
+     * Must be consumed inside a transaction.
+     *
+     * @param since change version (inclusive), or null for all notes
+     * @return stream of notes ordered by id
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT n FROM Note n LEFT JOIN FETCH n.address a LEFT JOIN FETCH a.region "
+            + "WHERE :since IS NULL OR n.changeVersion >= :since ORDER BY n.id")
+    Stream<Note> streamChangedSince(@Param("since") Long since);
+
+    /**
+     * @param addressId id of the address
+     * @return ids of the notes of the address
+     */
+    @Query("SELECT n.id FROM Note n WHERE n.address.id = :addressId")
+    List<Long> findIdsByAddressId(@Param("addressId") Long addressId);
 }
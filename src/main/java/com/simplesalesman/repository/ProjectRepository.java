@@ -2,6 +2,16 @@ package com.simplesalesman.repository;
 
 import com.simplesalesman.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link Project} entities in the
@@ -21,8 +31,74 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * Project(...));
  *
  * @author SimpleSalesman Team
- * @version 0.0.6
+ * @version 0.1.0
  * @since 0.0.3
  */
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    /**
+     * Loads id, address id, status and region of the given projects without loading the entities.
+     * Used by bulk status updates to classify the requested ids.
+     *
+     * @param ids project ids
+     * @return rows of {@code [projectId, addressId, status, regionName]}; missing ids have no row
+     */
+    @Query("SELECT p.id, a.id, p.status, r.name FROM Project p LEFT JOIN p.address a LEFT JOIN a.region r "
+            + "WHERE p.id IN :ids")
+    List<Object[]> findStatusRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads id, address id, status and region of all projects matching the filter.
+     * Null parameters do not restrict the result.
+     *
+     * @param regionName    exact region name of the address
+     * @param postalCode    postal code of the address
+     * @param streetKey     normalized street of the address (see {@link com.simplesalesman.util.AddressNormalizer})
+     * @param currentStatus current project status
+     * @return rows of {@code [projectId, addressId, status, regionName]} ordered by project id
+     */
+    @Query("SELECT p.id, a.id, p.status, r.name FROM Project p LEFT JOIN p.address a LEFT JOIN a.region r "
+            + "WHERE (:regionName IS NULL OR r.name = :regionName) "
+            + "AND (:postalCode IS NULL OR a.postalCode = :postalCode) "
+            + "AND (:streetKey IS NULL OR a.streetKey = :streetKey) "
+            + "AND (:currentStatus IS NULL OR p.status = :currentStatus) "
+            + "ORDER BY p.id")
+    List<Object[]> findStatusRowsByFilter(@Param("regionName") String regionName,
+                                          @Param("postalCode") String postalCode,
+                                          @Param("streetKey") String streetKey,
+                                          @Param("currentStatus") String currentStatus);
+
+    /**
+     * Sets the status of the given projects with a single set-based UPDATE,
+     * bypassing the persistence context (and therefore the lifecycle callbacks).
+     *
+     * @param ids    project ids
+     * @param status new status
+     * @return number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE Project p SET p.status = :status WHERE p.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") String status);
+
+    /**
+     * Streams all projects changed since the watermark with their address (delta sync).
+     * Must be consumed inside a transaction.
+     *
+     * @param since change version (inclusive), or null for all projects
+     * @return stream of projects ordered by id
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Project p LEFT JOIN FETCH p.address a LEFT JOIN FETCH a.region "
+            + "WHERE :since IS NULL OR p.changeVersion >= :since ORDER BY p.id")
+    Stream<Project> streamChangedSince(@Param("since") Long since);
+
+    /**
+     * @param addressId id of the address
+     * @return ids of the projects of the address
+     */
+    @Query("SELECT p.id FROM Project p WHERE p.address.id = :addressId")
+    List<Long> findIdsByAddressId(@Param("addressId") Long addressId);
 }
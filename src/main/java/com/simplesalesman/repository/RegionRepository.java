@@ -1,7 +1,11 @@
 package com.simplesalesman.repository;
 
+import com.simplesalesman.config.SecondLevelCacheConfig;
 import com.simplesalesman.entity.Region;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
@@ -17,7 +21,7 @@ import java.util.Optional;
  * Mapping addresses to regions during import or UI filtering
  *
  * Custom Methods: - {@code Optional<Region> findByName(String name)}: Find a
- * region by its name
+ * region by its name (results are kept in the query cache)
  *
  * Entity: {@link Region} ID Type: {@link Long}
  *
@@ -29,5 +33,9 @@ import java.util.Optional;
  * @since 0.0.3
  */
 public interface RegionRepository extends JpaRepository<Region, Long> {
+	@QueryHints({
+			@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.REGION_QUERY)
+	})
 	Optional<Region> findByName(String name);
 }
@@ -0,0 +1,65 @@
+package com.simplesalesman.repository;
+
+import com.simplesalesman.entity.Tombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for {@link Tombstone} records of deleted entities.
+ *
+ * Use Cases:
+ * - Recording deletions of addresses, projects and notes
+ * - Reading the deletions since a client watermark (delta sync)
+ * - Pruning records older than the retention period
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    /**
+     * @param since change version (inclusive)
+     * @return rows of {@code [entityType, entityId]} deleted since the watermark
+     */
+    @Query("SELECT t.entityType, t.entityId FROM Tombstone t WHERE t.changeVersion >= :since")
+    List<Object[]> findDeletedSince(@Param("since") Long since);
+
+    /**
+     * @return lowest change version of all tombstones, or null if there are none
+     */
+    @Query("SELECT MIN(t.changeVersion) FROM Tombstone t")
+    Long findOldestVersion();
+
+    /**
+     * @param since instant (inclusive)
+     * @return lowest change version of the tombstones recorded since the instant, or null if there are none
+     */
+    @Query("SELECT MIN(t.changeVersion) FROM Tombstone t WHERE t.deletedAt >= :since")
+    Long findOldestVersionRecordedSince(@Param("since") Instant since);
+
+    /**
+     * @param before instant (exclusive)
+     * @param below  change version (exclusive)
+     * @return highest change version below {@code below} of the tombstones recorded
+     *         before the instant, or null if there are none
+     */
+    @Query("SELECT MAX(t.changeVersion) FROM Tombstone t WHERE t.deletedAt < :before AND t.changeVersion < :below")
+    Long findNewestVersionRecordedBefore(@Param("before") Instant before, @Param("below") long below);
+
+    /**
+     * Removes the tombstones recorded before the given instant whose change
+     * version lies below the given one (or which have none).
+     *
+     * @return number of removed tombstones
+     */
+    @Modifying
+    @Query("DELETE FROM Tombstone t WHERE t.deletedAt < :before "
+            + "AND (t.changeVersion IS NULL OR t.changeVersion < :version)")
+    int deleteRecordedBefore(@Param("before") Instant before, @Param("version") long version);
+}
@@ -1,7 +1,11 @@
 package com.simplesalesman.repository;
 
+import com.simplesalesman.config.SecondLevelCacheConfig;
 import com.simplesalesman.entity.AppUser;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
@@ -18,7 +22,7 @@ import java.util.Optional;
  *
  * Custom Methods: -
  * {@code Optional<AppUser> findByKeycloakId(String keycloakId)}: Look up a user
- * via their Keycloak identifier
+ * via their Keycloak identifier (results are kept in the query cache)
  *
  * Entity: {@link AppUser} ID Type: {@link Long}
  *
@@ -31,5 +35,9 @@ import java.util.Optional;
  */
 
 public interface UserRepository extends JpaRepository<AppUser, Long> {
+	@QueryHints({
+			@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.APP_USER_QUERY)
+	})
 	Optional<AppUser> findByKeycloakId(String keycloakId);
 }
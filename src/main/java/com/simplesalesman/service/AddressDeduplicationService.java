@@ -0,0 +1,188 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.dto.AddressDuplicateDto;
+import com.simplesalesman.repository.AddressRepository;
+import com.simplesalesman.util.AddressNormalizer;
+import com.simplesalesman.util.AddressNormalizer.NormalizedAddress;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Service for detecting duplicate addresses during imports and address creation.
+ *
+ * Addresses are normalized by {@link AddressNormalizer} and grouped into blocks
+ * (same postal code and house number). Only addresses within a block are compared,
+ * so the cost grows linearly with the number of checked addresses:
+ * - equal canonical keys are exact duplicates (similarity 1.0)
+ * - otherwise streets (and localities, if both are known) are compared with
+ *   normalized Levenshtein similarity, and pairs at or above {@link #SIMILARITY_THRESHOLD} are duplicates
+ *
+ * Candidates are loaded with one indexed query on {@code address_block_key} per
+ * batch. A {@link Session} additionally remembers the addresses accepted so far,
+ * so duplicates within one import file are caught across batches as well; the
+ * import's resolve stage cannot see rows of earlier batches in the database before
+ * the import commits.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Service
+public class AddressDeduplicationService {
+
+    static final double SIMILARITY_THRESHOLD = 0.9; // About one typo per ten characters
+    static final int MAX_ACCEPTED_PER_BLOCK = 64;    // Fuzzy candidates a session keeps per block
+
+    private final AddressRepository addressRepository;
+
+    public AddressDeduplicationService(AddressRepository addressRepository) {
+        this.addressRepository = addressRepository;
+    }
+
+    /**
+     * Checks a single address against the database.
+     *
+     * @param addressText the address to check
+     * @return the best matching existing address, if any
+     */
+    public Optional<AddressDuplicateDto> findDuplicate(String addressText) {
+        return Optional.ofNullable(newSession().check(List.of(addressText)).get(0));
+    }
+
+    /**
+     * Starts a deduplication session, e.g. for one import.
+     */
+    public Session newSession() {
+        return new Session();
+    }
+
+    /**
+     * Stateful duplicate check over consecutive batches. Not thread-safe.
+     *
+     * Memory stays small for large files:
+     * - exact duplicates are found by the fingerprint of every accepted address
+     * - fuzzy duplicates are found among the first {@link #MAX_ACCEPTED_PER_BLOCK}
+     *   accepted addresses of each block, of which only the normalized form is
+     *   kept, not the address text
+     *
+     * Matches with addresses of earlier batches therefore carry an empty matched
+     * address text.
+     */
+    public class Session {
+
+        // Addresses accepted so far: fingerprints of all, scorer fields of some per block key
+        private final Set<Long> acceptedFingerprints = new HashSet<>();
+        private final Map<Long, List<NormalizedAddress>> acceptedBlocks = new HashMap<>();
+
+        private Session() {
+        }
+
+        /**
+         * Checks a batch of address texts against the database, earlier batches
+         * of this session and earlier entries of the same batch. Addresses that
+         * are not duplicates are accepted into the session.
+         *
+         * @param addressTexts address texts of one batch
+         * @return per input position the duplicate match, or null if the address is new
+         */
+        public List<AddressDuplicateDto> check(List<String> addressTexts) {
+            NormalizedAddress[] normalized = new NormalizedAddress[addressTexts.size()];
+            Set<Long> blockKeys = new HashSet<>();
+            for (int i = 0; i < normalized.length; i++) {
+                normalized[i] = AddressNormalizer.normalize(addressTexts.get(i));
+                if (normalized[i] != null) {
+                    blockKeys.add(normalized[i].getBlockKey());
+                }
+            }
+
+            Map<Long, List<Candidate>> blocks = new HashMap<>();
+            if (!blockKeys.isEmpty()) {
+                for (String existing : addressRepository.findAddressTextsByBlockKeys(blockKeys)) {
+                    addCandidate(blocks, existing, AddressNormalizer.normalize(existing));
+                }
+                for (Long blockKey : blockKeys) {
+                    for (NormalizedAddress accepted : acceptedBlocks.getOrDefault(blockKey, List.of())) {
+                        addCandidate(blocks, "", accepted);
+                    }
+                }
+            }
+
+            AddressDuplicateDto[] result = new AddressDuplicateDto[normalized.length];
+            for (int i = 0; i < normalized.length; i++) {
+                NormalizedAddress address = normalized[i];
+                if (address == null) continue;
+
+                String text = addressTexts.get(i);
+                result[i] = bestMatch(text, address, blocks);
+                if (result[i] == null && acceptedFingerprints.contains(address.getFingerprint())) {
+                    result[i] = new AddressDuplicateDto(text, "", 1.0); // Beyond the fuzzy candidates of its block
+                }
+                if (result[i] == null) {
+                    addCandidate(blocks, text, address);
+                    accept(address);
+                }
+            }
+            return Arrays.asList(result);
+        }
+
+        private void accept(NormalizedAddress address) {
+            acceptedFingerprints.add(address.getFingerprint());
+            List<NormalizedAddress> block = acceptedBlocks.computeIfAbsent(address.getBlockKey(), k -> new ArrayList<>(2));
+            if (block.size() < MAX_ACCEPTED_PER_BLOCK) {
+                block.add(address);
+            }
+        }
+    }
+
+    private static AddressDuplicateDto bestMatch(String text, NormalizedAddress address,
+                                                 Map<Long, List<Candidate>> blocks) {
+        Candidate best = null;
+        double bestScore = 0.0;
+        for (Candidate candidate : blocks.getOrDefault(address.getBlockKey(), List.of())) {
+            double score = score(address, candidate.normalized);
+            if (score > bestScore) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        return bestScore >= SIMILARITY_THRESHOLD ? new AddressDuplicateDto(text, best.text, bestScore) : null;
+    }
+
+    private static double score(NormalizedAddress a, NormalizedAddress b) {
+        if (a.getCanonicalKey().equals(b.getCanonicalKey())) {
+            return 1.0;
+        }
+        // Same block: only the house number is known to match if present
+        if (!a.getHouseNumber().equals(b.getHouseNumber())) {
+            return 0.0;
+        }
+        double score = AddressNormalizer.similarity(a.getStreet(), b.getStreet());
+        if (!a.getLocality().isEmpty() && !b.getLocality().isEmpty()) {
+            score = Math.min(score, AddressNormalizer.similarity(a.getLocality(), b.getLocality()));
+        }
+        return score;
+    }
+
+    private static void addCandidate(Map<Long, List<Candidate>> blocks, String text, NormalizedAddress normalized) {
+        if (normalized == null) return;
+        blocks.computeIfAbsent(normalized.getBlockKey(), k -> new ArrayList<>(2)).add(new Candidate(text, normalized));
+    }
+
+    private static final class Candidate {
+        private final String text;
+        private final NormalizedAddress normalized;
+
+        Candidate(String text, NormalizedAddress normalized) {
+            this.text = text;
+            this.normalized = normalized;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.dto.AddressSearchResultDto;
+import com.simplesalesman.entity.Address;
+import com.simplesalesman.util.AddressNormalizer;
+import com.simplesalesman.util.TrigramIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked, typo- and prefix-tolerant search over address texts and region names.
+ *
+ * Two engines, chosen once at startup:
+ * - PostgreSQL: {@code pg_trgm} word similarity ({@code <%}) over {@code address.search_text}
+ *   and {@code lower(region.name)}, both backed by GIN trigram indexes that are
+ *   created here if missing. The address index also serves the substring search
+ *   of the address table ({@code LIKE '%...%'}).
+ * - Fallback (H2, or PostgreSQL without the extension): an in-memory {@link TrigramIndex}
+ *   built from the address table and kept current by {@link AddressService} and imports;
+ *   changes are applied after commit, so rolled-back writes never become searchable.
+ *
+ * Addresses and queries are folded by {@link AddressNormalizer#searchText(String)},
+ * so "Hauptstr." finds "Hauptstraße".
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Service
+public class AddressSearchService implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(AddressSearchService.class);
+
+    private static final String[] TRIGRAM_SETUP_SQL = {
+        "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+        "CREATE INDEX IF NOT EXISTS idx_address_search_text_trgm ON address USING gin (search_text gin_trgm_ops)",
+        "CREATE INDEX IF NOT EXISTS idx_region_name_trgm ON region USING gin (lower(name) gin_trgm_ops)"
+    };
+
+    // Address hits and hits via the region name, best score per address
+    private static final String TRIGRAM_SEARCH_SQL = """
+        WITH hits AS (
+            SELECT a.id, word_similarity(:query, a.search_text) AS score
+            FROM address a
+            WHERE :query <% a.search_text
+            UNION ALL
+            SELECT a.id, word_similarity(:query, lower(r.name))
+            FROM region r JOIN address a ON a.region_id = r.id
+            WHERE :query <% lower(r.name)
+        )
+        SELECT a.id, a.address_text, r.name AS region_name, max(h.score) AS score
+        FROM hits h
+        JOIN address a ON a.id = h.id
+        LEFT JOIN region r ON r.id = a.region_id
+        GROUP BY a.id, a.address_text, r.name
+        ORDER BY score DESC, a.id
+        LIMIT :limit
+    """;
+
+    private static final String INDEX_SOURCE_SQL =
+        "SELECT a.id, a.address_text, r.name FROM address a LEFT JOIN region r ON r.id = a.region_id";
+
+    private static final String HIT_DETAILS_SQL =
+        "SELECT a.id, a.address_text, r.name FROM address a LEFT JOIN region r ON r.id = a.region_id "
+            + "WHERE a.id IN (:ids)";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Value("${simplesalesman.search.similarity-threshold:0.5}")
+    private double similarityThreshold;
+
+    @Value("${simplesalesman.search.default-limit:20}")
+    private int defaultLimit;
+
+    @Value("${simplesalesman.search.max-limit:100}")
+    private int maxLimit;
+
+    private volatile boolean trigramIndexAvailable;
+    private volatile TrigramIndex memoryIndex = new TrigramIndex();
+    private volatile boolean memoryIndexStale = true;
+
+    public AddressSearchService(DataSource dataSource, JdbcTemplate jdbcTemplate,
+                                NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        trigramIndexAvailable = isPostgres() && createTrigramIndexes();
+        if (trigramIndexAvailable) {
+            logger.info("Address search uses pg_trgm GIN indexes");
+        } else {
+            logger.info("Address search uses the in-memory trigram index");
+            rebuildMemoryIndex();
+        }
+    }
+
+    /**
+     * Searches addresses by address text and region name.
+     *
+     * @param query search text, e.g. "hauptstr 5 niederkappel"
+     * @param limit maximum number of hits, or null for the configured default
+     * @return hits ordered by descending score, then id
+     * @throws IllegalArgumentException for an empty query or a limit below 1
+     */
+    @Transactional(readOnly = true)
+    public List<AddressSearchResultDto> search(String query, Integer limit) {
+        String folded = AddressNormalizer.searchText(query);
+        if (folded == null || folded.isEmpty()) {
+            throw new IllegalArgumentException("Suchbegriff darf nicht leer sein");
+        }
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Limit muss >= 1 sein");
+        }
+        int maxHits = limit != null ? Math.min(limit, maxLimit) : defaultLimit;
+
+        return trigramIndexAvailable ? searchTrigramIndex(folded, maxHits) : searchMemoryIndex(folded, maxHits);
+    }
+
+    /**
+     * Adds or updates an address in the in-memory index (no-op with pg_trgm).
+     * Inside a transaction this takes effect after commit.
+     */
+    public void addressSaved(Address address) {
+        if (!trigramIndexAvailable && address.getId() != null) {
+            long id = address.getId();
+            String text = documentText(address.getAddressText(),
+                    address.getRegion() != null ? address.getRegion().getName() : null);
+            afterCommit(() -> update(index -> index.put(id, text)));
+        }
+    }
+
+    /**
+     * Removes an address from the in-memory index (no-op with pg_trgm).
+     * Inside a transaction this takes effect after commit.
+     */
+    public void addressDeleted(Long id) {
+        if (!trigramIndexAvailable) {
+            afterCommit(() -> update(index -> index.remove(id)));
+        }
+    }
+
+    /**
+     * Marks the in-memory index as outdated after bulk changes such as imports;
+     * it is rebuilt on the next search. Inside a transaction this takes effect
+     * after commit, so a rebuild never reads uncommitted rows.
+     */
+    public void invalidate() {
+        if (!trigramIndexAvailable) {
+            afterCommit(() -> memoryIndexStale = true);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Synchronized with the rebuild, so no change is applied to an index about to be replaced
+    private synchronized void update(Consumer<TrigramIndex> change) {
+        change.accept(memoryIndex);
+    }
+
+    private List<AddressSearchResultDto> searchTrigramIndex(String query, int limit) {
+        // Transaction-local threshold for the <% operator
+        jdbcTemplate.queryForObject("SELECT set_config('pg_trgm.word_similarity_threshold', ?, true)",
+                String.class, String.valueOf(similarityThreshold));
+
+        return namedJdbcTemplate.query(TRIGRAM_SEARCH_SQL,
+                new MapSqlParameterSource("query", query).addValue("limit", limit),
+                (rs, rowNum) -> new AddressSearchResultDto(rs.getLong("id"), rs.getString("address_text"),
+                        rs.getString("region_name"), rs.getDouble("score")));
+    }
+
+    private List<AddressSearchResultDto> searchMemoryIndex(String query, int limit) {
+        if (memoryIndexStale) {
+            rebuildMemoryIndex();
+        }
+        List<TrigramIndex.Hit> hits = memoryIndex.search(query, similarityThreshold, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = hits.stream().collect(Collectors.toMap(TrigramIndex.Hit::getId, TrigramIndex.Hit::getScore));
+        Map<Long, AddressSearchResultDto> details = namedJdbcTemplate.query(HIT_DETAILS_SQL,
+                        new MapSqlParameterSource("ids", scores.keySet()),
+                        (rs, rowNum) -> new AddressSearchResultDto(rs.getLong(1), rs.getString(2), rs.getString(3),
+                                scores.get(rs.getLong(1))))
+                .stream().collect(Collectors.toMap(AddressSearchResultDto::getId, Function.identity()));
+
+        // Keep the index order; addresses deleted in the meantime are dropped
+        return hits.stream()
+                .map(hit -> details.get(hit.getId()))
+                .filter(dto -> dto != null)
+                .collect(Collectors.toList());
+    }
+
+    private synchronized void rebuildMemoryIndex() {
+        if (!memoryIndexStale) {
+            return;
+        }
+        memoryIndexStale = false; // Set first: invalidations during the rebuild trigger another one
+        long start = System.currentTimeMillis();
+        TrigramIndex index = new TrigramIndex();
+        try {
+            jdbcTemplate.query(INDEX_SOURCE_SQL, rs -> {
+                index.put(rs.getLong(1), documentText(rs.getString(2), rs.getString(3)));
+            });
+            memoryIndex = index;
+            logger.info("Built in-memory address search index with {} addresses in {} ms",
+                    index.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            memoryIndexStale = true;
+            logger.warn("Could not build in-memory address search index: {}", e.getMessage());
+        }
+    }
+
+    private static String documentText(String addressText, String regionName) {
+        String address = AddressNormalizer.searchText(addressText);
+        String region = AddressNormalizer.searchText(regionName);
+        return (address != null ? address : "") + " " + (region != null ? region : "");
+    }
+
+    private boolean createTrigramIndexes() {
+        try {
+            for (String sql : TRIGRAM_SETUP_SQL) {
+                jdbcTemplate.execute(sql);
+            }
+            return true;
+        } catch (Exception e) {
+            logger.warn("pg_trgm is not available, falling back to the in-memory search index: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isPostgres() {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        } catch (Exception e) {
+            logger.warn("Could not determine database type: {}", e.getMessage());
+            return false;
+        }
+    }
+}
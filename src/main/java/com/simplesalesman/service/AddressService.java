@@ -1,22 +1,44 @@
 package com.simplesalesman.service;
 
+import com.simplesalesman.config.CacheConfig;
 import com.simplesalesman.dto.AddressDto;
+import com.simplesalesman.dto.PageDto;
 import com.simplesalesman.dto.ProjectDto;
 import com.simplesalesman.dto.NoteDto;
 import com.simplesalesman.entity.Address;
 import com.simplesalesman.entity.Project;
 import com.simplesalesman.entity.Note;
 import com.simplesalesman.entity.Region;
+import com.simplesalesman.entity.Tombstone;
+import com.simplesalesman.exception.DuplicateAddressException;
 import com.simplesalesman.mapper.AddressMapper;
 import com.simplesalesman.repository.AddressRepository;
 import com.simplesalesman.repository.RegionRepository;
 import com.simplesalesman.repository.ProjectRepository;
 import com.simplesalesman.repository.NoteRepository;
+import com.simplesalesman.util.AddressNormalizer;
+import com.simplesalesman.util.TableQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service class for managing address-related operations in the SimpleSalesman application.
@@ -28,33 +50,148 @@ import java.util.stream.Collectors;
 @Service
 public class AddressService {
 
+    private static final int EXPORT_CHUNK_SIZE = 100; // Matches hibernate.default_batch_fetch_size
+
+    // Table sort fields of the GUI -> indexed entity paths (r = region alias of the page queries)
+    private static final Map<String, List<String>> SORT_FIELDS = Map.of(
+            "id", List.of("id"),
+            "plz", List.of("postalCode", "streetKey", "houseNumber"),
+            "street", List.of("streetKey", "houseNumber"),
+            "number", List.of("houseNumber"),
+            "region", List.of("r.name"),
+            "address", List.of("addressText"));
+
     private final AddressRepository addressRepository;
     private final AddressMapper addressMapper;
     private final RegionRepository regionRepository;
     private final ProjectRepository projectRepository;
     private final NoteRepository noteRepository;
+    private final AddressDeduplicationService deduplicationService;
+    private final AddressSearchService searchService;
+    private final NoteSearchService noteSearchService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final SyncService syncService;
+    private final GeocodingService geocodingService;
+    private final NearbyAddressService nearbyAddressService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${simplesalesman.pagination.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${simplesalesman.pagination.max-size:500}")
+    private int maxPageSize;
 
     public AddressService(AddressRepository addressRepository,
                          AddressMapper addressMapper,
                          RegionRepository regionRepository,
                          ProjectRepository projectRepository,
-                         NoteRepository noteRepository) {
+                         NoteRepository noteRepository,
+                         AddressDeduplicationService deduplicationService,
+                         AddressSearchService searchService,
+                         NoteSearchService noteSearchService,
+                         CacheInvalidationService cacheInvalidationService,
+                         SyncService syncService,
+                         GeocodingService geocodingService,
+                         NearbyAddressService nearbyAddressService) {
         this.addressRepository = addressRepository;
         this.addressMapper = addressMapper;
         this.regionRepository = regionRepository;
         this.projectRepository = projectRepository;
         this.noteRepository = noteRepository;
+        this.deduplicationService = deduplicationService;
+        this.searchService = searchService;
+        this.noteSearchService = noteSearchService;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.syncService = syncService;
+        this.geocodingService = geocodingService;
+        this.nearbyAddressService = nearbyAddressService;
     }
 
     /**
-     * Retrieves all addresses from the database.
+     * Retrieves one page of addresses (offset pagination), optionally filtered and sorted.
+     *
+     * Sort fields: {@code id} (default), {@code plz}, {@code street}, {@code number},
+     * {@code region} and {@code address}. The search term matches the address text
+     * (folded like the trigram search, so "hauptstr." finds "Hauptstraße") and the
+     * region name, case-insensitively.
      *
-     * @return list of all addresses as DTOs
+     * @param page   zero-based page number
+     * @param size   page size, or null for the configured default
+     * @param search search term, or null for all addresses
+     * @param sort   sort field, or null for id
+     * @param order  "asc" (default) or "desc"
+     * @return the page including total counts
+     * @throws IllegalArgumentException for invalid paging or sort parameters
      */
-    public List<AddressDto> getAllAddresses() {
-        return addressRepository.findAllWithNotesProjectsAndRegion().stream()
-                .map(addressMapper::toDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public PageDto<AddressDto> getAddressPage(int page, Integer size, String search, String sort, String order) {
+        int pageSize = resolvePageSize(size);
+        Pageable pageable = TableQuery.pageable(page, pageSize, sort, order, SORT_FIELDS, "id");
+        String regionPattern = TableQuery.likePattern(search);
+        String foldedPattern = TableQuery.likePattern(AddressNormalizer.searchText(search));
+        Page<Address> result = regionPattern != null
+                ? addressRepository.searchPage(foldedPattern != null ? foldedPattern : regionPattern,
+                        regionPattern, pageable)
+                : addressRepository.findPage(pageable);
+
+        PageDto<AddressDto> dto = new PageDto<>();
+        dto.setContent(result.getContent().stream().map(addressMapper::toDto).collect(Collectors.toList()));
+        dto.setSize(pageSize);
+        dto.setPage(page);
+        dto.setTotalElements(result.getTotalElements());
+        dto.setTotalPages(result.getTotalPages());
+        return dto;
+    }
+
+    /**
+     * Retrieves the addresses following the given id (keyset pagination).
+     *
+     * @param afterId last id of the previous page, 0 for the first page
+     * @param size    page size, or null for the configured default
+     * @return the page; {@code nextAfterId} is set if more addresses may follow
+     */
+    @Transactional(readOnly = true)
+    public PageDto<AddressDto> getAddressesAfter(long afterId, Integer size) {
+        int pageSize = resolvePageSize(size);
+        List<Address> addresses = addressRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize));
+
+        PageDto<AddressDto> dto = new PageDto<>();
+        dto.setContent(addresses.stream().map(addressMapper::toDto).collect(Collectors.toList()));
+        dto.setSize(pageSize);
+        if (addresses.size() == pageSize) {
+            dto.setNextAfterId(addresses.get(addresses.size() - 1).getId());
+        }
+        return dto;
+    }
+
+    /**
+     * Streams all addresses, ordered by id, to the given consumer.
+     *
+     * Addresses are read over a database cursor and mapped in chunks of
+     * {@link #EXPORT_CHUNK_SIZE}, so projects and notes are batch-loaded once per
+     * chunk. The persistence context is cleared after each chunk, keeping memory
+     * use flat regardless of the number of addresses.
+     *
+     * @param sink receives each address as DTO
+     * @return number of exported addresses
+     */
+    @Transactional(readOnly = true)
+    public int exportAddresses(Consumer<AddressDto> sink) {
+        int exported = 0;
+        List<Address> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+        try (Stream<Address> addresses = addressRepository.streamAllOrderById()) {
+            Iterator<Address> iterator = addresses.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    exported += exportChunk(chunk, sink);
+                }
+            }
+            exported += exportChunk(chunk, sink);
+        }
+        return exported;
     }
 
     /**
@@ -63,6 +200,7 @@ public class AddressService {
      * @param id the address ID
      * @return the corresponding AddressDto or null if not found
      */
+    @Cacheable(cacheNames = CacheConfig.ADDRESSES, key = "#id", unless = "#result == null")
     public AddressDto getAddressById(Long id) {
         return addressRepository.findById(id)
                 .map(addressMapper::toDto)
@@ -74,8 +212,15 @@ public class AddressService {
      *
      * @param dto the input AddressDto
      * @return the saved AddressDto
+     * @throws DuplicateAddressException if the address matches an existing one
+     * @throws RuntimeException if the region or any linked project or note does not exist
      */
+    @Transactional
     public AddressDto createAddress(AddressDto dto) {
+        deduplicationService.findDuplicate(dto.getAddressText()).ifPresent(duplicate -> {
+            throw new DuplicateAddressException("Adresse existiert bereits: " + duplicate.getMatchedAddressText());
+        });
+
         Address address = addressMapper.toEntity(dto);
 
         setRegion(dto.getRegionName(), address);
@@ -83,16 +228,26 @@ public class AddressService {
         setNotes(dto.getNotes(), address);
 
         Address saved = addressRepository.save(address);
+        searchService.addressSaved(saved);
+        geocodingService.requestGeocoding(saved.getId());
+        nearbyAddressService.addressesChanged(List.of(saved.getId()));
         return addressMapper.toDto(saved);
     }
 
     /**
      * Updates an existing address and its associated region, notes, and projects.
      *
+     * Region, projects and notes are only changed if the DTO contains them: a null
+     * value leaves them as they are. A project or note list replaces the current
+     * collection, so projects and notes missing from it are deleted; an empty list
+     * removes all of them.
+     *
      * @param id  the ID of the address to update
      * @param dto the updated AddressDto
      * @return the updated AddressDto
+     * @throws RuntimeException if the address, the region or any linked project or note does not exist
      */
+    @Transactional
     public AddressDto updateAddress(Long id, AddressDto dto) {
         Address existing = addressRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Adresse nicht gefunden"));
@@ -104,6 +259,12 @@ public class AddressService {
         setNotes(dto.getNotes(), existing);
 
         Address saved = addressRepository.save(existing);
+        searchService.addressSaved(saved);
+        cacheInvalidationService.evictAddress(id);
+        if (saved.getLatitude() == null) {
+            geocodingService.requestGeocoding(id); // New text
+        }
+        nearbyAddressService.addressesChanged(List.of(id));
         return addressMapper.toDto(saved);
     }
 
@@ -113,14 +274,48 @@ public class AddressService {
      * @param id the ID of the address to delete
      * @return true if deleted, false if not found
      */
+    @Transactional
     public boolean deleteAddress(Long id) {
         if (addressRepository.existsById(id)) {
+            // Projects and notes are deleted with the address
+            syncService.recordDeletions(Tombstone.EntityType.PROJECT, projectRepository.findIdsByAddressId(id));
+            syncService.recordDeletions(Tombstone.EntityType.NOTE, noteRepository.findIdsByAddressId(id));
+            syncService.recordDeletions(Tombstone.EntityType.ADDRESS, List.of(id));
             addressRepository.deleteById(id);
+            searchService.addressDeleted(id);
+            nearbyAddressService.addressesChanged(List.of(id));
+            noteSearchService.invalidate(); // Notes are deleted with the address
+            cacheInvalidationService.evictAddress(id);
+            cacheInvalidationService.clearProjects(); // Projects too
             return true;
         }
         return false;
     }
 
+    /**
+     * Helper method to map and hand out one export chunk, then detach it.
+     */
+    private int exportChunk(List<Address> chunk, Consumer<AddressDto> sink) {
+        chunk.forEach(address -> sink.accept(addressMapper.toDto(address)));
+        int size = chunk.size();
+        chunk.clear();
+        entityManager.clear();
+        return size;
+    }
+
+    /**
+     * Helper method to apply the default and maximum page size.
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Seitengröße muss >= 1 sein");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
     /**
      * Helper method to set the region for an address.
      */
@@ -134,27 +329,106 @@ public class AddressService {
 
     /**
      * Helper method to set the projects for an address.
+     *
+     * A null list leaves the projects unchanged. Otherwise loads all requested
+     * projects with one query and applies the difference to the current
+     * collection: missing projects are removed (and deleted as orphans), new ones
+     * are linked to this address. An empty list therefore removes all projects.
+     *
+     * @throws RuntimeException listing all project ids that do not exist
      */
     private void setProjects(List<ProjectDto> projectsDto, Address address) {
-        if (projectsDto != null && !projectsDto.isEmpty()) {
-            Set<Project> projects = projectsDto.stream()
-                    .map(projectDto -> projectRepository.findById(projectDto.getId())
-                            .orElseThrow(() -> new RuntimeException("Projekt nicht gefunden: " + projectDto.getId())))
-                    .collect(Collectors.toSet());
+        if (projectsDto != null) {
+            Map<Long, Project> requested = projectsDto.isEmpty() ? Map.of() : findAllByIds(
+                    projectsDto.stream().map(ProjectDto::getId).collect(Collectors.toList()),
+                    projectRepository::findAllById, Project::getId, "Projekte nicht gefunden: ");
+
+            Set<Project> projects = currentCollection(address.getProjects(), address);
+            List<Long> orphans = new ArrayList<>();
+            projects.removeIf(project -> {
+                boolean removed = !requested.containsKey(project.getId());
+                if (removed) {
+                    cacheInvalidationService.evictProject(project.getId(), null); // Deleted as orphan
+                    orphans.add(project.getId());
+                }
+                return removed;
+            });
+            syncService.recordDeletions(Tombstone.EntityType.PROJECT, orphans);
+            for (Project project : requested.values()) {
+                if (projects.add(project)) {
+                    // Projects moved here disappear from the cached DTO of their previous address
+                    evictPreviousAddress(project.getAddress(), address);
+                    project.setAddress(address);
+                }
+            }
             address.setProjects(projects);
         }
     }
 
     /**
-     * Helper method to set the notes for an address.
+     * Helper method to set the notes for an address, analogous to {@link #setProjects}.
+     *
+     * @throws RuntimeException listing all note ids that do not exist
      */
     private void setNotes(List<NoteDto> notesDto, Address address) {
-        if (notesDto != null && !notesDto.isEmpty()) {
-            Set<Note> notes = notesDto.stream()
-                    .map(noteDto -> noteRepository.findById(noteDto.getId())
-                            .orElseThrow(() -> new RuntimeException("Notiz nicht gefunden: " + noteDto.getId())))
-                    .collect(Collectors.toSet());
+        if (notesDto != null) {
+            Map<Long, Note> requested = notesDto.isEmpty() ? Map.of() : findAllByIds(
+                    notesDto.stream().map(NoteDto::getId).collect(Collectors.toList()),
+                    noteRepository::findAllById, Note::getId, "Notizen nicht gefunden: ");
+
+            Set<Note> notes = currentCollection(address.getNotes(), address);
+            List<Long> orphans = new ArrayList<>();
+            notes.removeIf(note -> {
+                boolean removed = !requested.containsKey(note.getId());
+                if (removed) {
+                    noteSearchService.noteDeleted(note.getId()); // Deleted as orphan
+                    orphans.add(note.getId());
+                }
+                return removed;
+            });
+            syncService.recordDeletions(Tombstone.EntityType.NOTE, orphans);
+            for (Note note : requested.values()) {
+                if (notes.add(note)) {
+                    evictPreviousAddress(note.getAddress(), address);
+                    note.setAddress(address);
+                }
+            }
             address.setNotes(notes);
         }
     }
+
+    /**
+     * Loads the entities for the given ids with one query.
+     *
+     * @throws RuntimeException listing all ids (including null) that do not exist
+     */
+    private static <T> Map<Long, T> findAllByIds(List<Long> ids, Function<List<Long>, List<T>> finder,
+                                                 Function<T, Long> idOf, String notFoundMessage) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        Map<Long, T> found = finder.apply(distinctIds).stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+
+        List<Long> missing = ids.stream()
+                .filter(id -> id == null || !found.containsKey(id))
+                .distinct()
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new RuntimeException(notFoundMessage + missing);
+        }
+        return found;
+    }
+
+    /**
+     * The collection to diff against: the persistent one of a stored address,
+     * or a new one (a new address may carry unresolved copies from the mapper).
+     */
+    private static <T> Set<T> currentCollection(Set<T> current, Address address) {
+        return address.getId() != null && current != null ? current : new HashSet<>();
+    }
+
+    private void evictPreviousAddress(Address previous, Address address) {
+        if (previous != null && !previous.getId().equals(address.getId())) {
+            cacheInvalidationService.evictAddress(previous.getId());
+        }
+    }
 }
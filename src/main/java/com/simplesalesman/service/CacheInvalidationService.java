@@ -0,0 +1,118 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.config.CacheConfig;
+import com.simplesalesman.config.SecondLevelCacheConfig;
+import com.simplesalesman.entity.Region;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts entries of the read caches (see {@link CacheConfig}) after writes.
+ *
+ * Cached DTOs embed related data, so a write evicts every entry that shows it:
+ * - address DTOs contain their projects (with status) and notes
+ * - project DTOs and project status stand alone
+ *
+ * Inside a transaction the evictions take effect after commit.
+ *
+ * Hibernate keeps its second-level cache (see {@link SecondLevelCacheConfig})
+ * current by itself; only writes bypassing Hibernate need
+ * {@link #evictRegionEntities()}.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Service
+public class CacheInvalidationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationService.class);
+
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheInvalidationService(CacheManager cacheManager, EntityManagerFactory entityManagerFactory) {
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Evicts one address, e.g. after its text, region, projects or notes changed.
+     */
+    public void evictAddress(Long addressId) {
+        evict(CacheConfig.ADDRESSES, addressId);
+    }
+
+    /**
+     * Evicts one project and its status, plus the address showing it.
+     *
+     * @param projectId id of the project
+     * @param addressId id of the address of the project, or null
+     */
+    public void evictProject(Long projectId, Long addressId) {
+        evict(CacheConfig.PROJECTS, projectId);
+        evict(CacheConfig.PROJECT_STATUS, projectId);
+        evictAddress(addressId);
+    }
+
+    /**
+     * Clears the project caches, e.g. after projects were deleted with their address.
+     */
+    public void clearProjects() {
+        clear(CacheConfig.PROJECTS);
+        clear(CacheConfig.PROJECT_STATUS);
+    }
+
+    /**
+     * Clears all read caches after bulk changes such as imports.
+     */
+    public void clearAll() {
+        clear(CacheConfig.ADDRESSES);
+        clearProjects();
+        logger.debug("Read caches cleared");
+    }
+
+    /**
+     * Evicts cached regions and region lookups from the second-level cache,
+     * e.g. after regions were inserted with plain SQL (COPY import). Otherwise a
+     * cached "not found" for a region name would outlive its insertion.
+     */
+    public void evictRegionEntities() {
+        Runnable eviction = () -> {
+            entityManagerFactory.getCache().evict(Region.class);
+            entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                    .evictQueryRegion(SecondLevelCacheConfig.REGION_QUERY);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    private void evict(String cacheName, Long key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
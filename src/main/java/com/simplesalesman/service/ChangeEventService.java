@@ -0,0 +1,395 @@
+package com.simplesalesman.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simplesalesman.dto.ChangeEventDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Pushes project status, note and import events to subscribed clients as
+ * Server-Sent Events, so dispatchers see changes without polling the list endpoints.
+ *
+ * Connections are held as asynchronous requests ({@link SseEmitter}); an idle
+ * subscriber costs a socket and a small queue but no thread. Events are delivered
+ * by the shared {@code eventExecutor}, at most one send task per subscriber at a time.
+ *
+ * Sends are blocking writes. A client that stops reading (slow or half-open
+ * connection) would hold a sender thread until the socket times out, and a few
+ * such clients would stall delivery to everyone. A send taking longer than
+ * {@code simplesalesman.events.send-timeout} therefore ends the stream with an
+ * error and interrupts the write; the client reconnects with {@code Last-Event-ID}.
+ *
+ * Backpressure: every subscriber has a bounded queue. If a slow client lets it
+ * overflow, the queued events are dropped and replaced by a single {@code resync}
+ * event, telling the client to reload via the delta sync. Until that event is
+ * sent, further overflowing events are dropped as well, since the reload covers them.
+ *
+ * Each event has an id; a client reconnecting with {@code Last-Event-ID} (as
+ * EventSource does automatically) receives the events it missed, as long as
+ * they are still in the replay buffer, and a {@code resync} event otherwise.
+ * Ids contain the start time of this instance and do not survive restarts.
+ *
+ * Events are published after commit and only reach subscribers of this instance.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Service
+public class ChangeEventService {
+
+    /**
+     * Name of the event telling a client that events were lost.
+     */
+    public static final String RESYNC = "resync";
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeEventService.class);
+
+    private final ThreadPoolTaskExecutor executor;
+    private final ObjectMapper objectMapper;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<Event> history = new ArrayDeque<>(); // Guarded by itself
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private long sequence; // Guarded by history
+
+    @Value("${simplesalesman.events.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${simplesalesman.events.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${simplesalesman.events.replay-size:1000}")
+    private int replaySize;
+
+    @Value("${simplesalesman.events.max-subscribers:5000}")
+    private int maxSubscribers;
+
+    @Value("${simplesalesman.events.send-timeout:10s}")
+    private Duration sendTimeout;
+
+    public ChangeEventService(@Qualifier("eventExecutor") ThreadPoolTaskExecutor executor,
+                              ObjectMapper objectMapper) {
+        this.executor = executor;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Opens an event stream.
+     *
+     * @param regions     region names to receive events for; null or empty for all regions
+     * @param lastEventId id of the last event the client received, or null
+     * @return the stream
+     * @throws IllegalStateException if the maximum number of subscribers is reached
+     */
+    public SseEmitter subscribe(Collection<String> regions, String lastEventId) {
+        return subscribe(new SseEmitter(timeout.toMillis()), regions, lastEventId);
+    }
+
+    // Package-private for tests, which pass emitters without a servlet response
+    SseEmitter subscribe(SseEmitter emitter, Collection<String> regions, String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Zu viele offene Event-Streams");
+        }
+        Set<String> filter = regions == null ? Set.of() : regions.stream()
+                .filter(region -> region != null && !region.isBlank())
+                .map(String::trim)
+                .collect(Collectors.toUnmodifiableSet());
+        Subscriber subscriber = new Subscriber(emitter, filter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        // Registered while holding the history lock, so no event is missed or sent twice
+        synchronized (history) {
+            subscribers.add(subscriber);
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replay(subscriber, lastEventId.trim());
+            }
+        }
+        logger.debug("Event stream opened for regions {} ({} subscribers)", filter, subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Publishes an event to all subscribers of its region; inside a transaction after commit.
+     */
+    public void publish(ChangeEventDto event) {
+        publish(List.of(event));
+    }
+
+    /**
+     * Publishes several events, e.g. of a bulk update, in order.
+     */
+    public void publish(List<ChangeEventDto> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Runnable delivery = () -> {
+            synchronized (history) {
+                for (ChangeEventDto dto : events) {
+                    Event event = new Event(epoch + "-" + (++sequence), dto, toJson(dto));
+                    history.addLast(event);
+                    while (history.size() > replaySize) {
+                        history.removeFirst();
+                    }
+                    for (Subscriber subscriber : subscribers) {
+                        if (subscriber.accepts(dto)) {
+                            subscriber.offer(event.toSse());
+                        }
+                    }
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delivery.run();
+                }
+            });
+        } else {
+            delivery.run();
+        }
+    }
+
+    /**
+     * Creates a PROJECT_STATUS event (not yet published).
+     */
+    public static ChangeEventDto projectStatusEvent(Long projectId, Long addressId, String regionName, String status) {
+        ChangeEventDto event = new ChangeEventDto(ChangeEventDto.Type.PROJECT_STATUS, regionName, addressId);
+        event.setProjectId(projectId);
+        event.setStatus(status);
+        return event;
+    }
+
+    /**
+     * Creates a NOTE_CREATED, NOTE_UPDATED or NOTE_DELETED event (not yet published).
+     */
+    public static ChangeEventDto noteEvent(ChangeEventDto.Type type, Long noteId, Long addressId, String regionName) {
+        ChangeEventDto event = new ChangeEventDto(type, regionName, addressId);
+        event.setNoteId(noteId);
+        return event;
+    }
+
+    /**
+     * Publishes an IMPORT_COMPLETED event to all subscribers; inside a transaction after commit.
+     */
+    public void importCompleted(int recordsProcessed) {
+        ChangeEventDto event = new ChangeEventDto(ChangeEventDto.Type.IMPORT_COMPLETED, null, null);
+        event.setRecordsProcessed(recordsProcessed);
+        publish(event);
+    }
+
+    /**
+     * Sends a comment to every subscriber, keeping proxies from closing idle
+     * connections and detecting clients that went away.
+     */
+    @Scheduled(fixedDelayString = "${simplesalesman.events.heartbeat-interval:25s}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    /**
+     * Ends the streams of clients whose current send has been blocked for longer
+     * than the send timeout, freeing the sender threads for the other subscribers.
+     */
+    @Scheduled(fixedDelayString = "${simplesalesman.events.send-check-interval:1s}")
+    public void abortStalledSends() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.abortIfStalled(now);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // Caller holds the history lock
+    private void replay(Subscriber subscriber, String lastEventId) {
+        long lastSequence = sequenceOf(lastEventId);
+        long oldestSequence = history.isEmpty() ? sequence + 1 : sequenceOf(history.peekFirst().id);
+        if (lastSequence < 0 || lastSequence > sequence || lastSequence < oldestSequence - 1) {
+            subscriber.offerResync();
+            return;
+        }
+        for (Event event : history) {
+            if (sequenceOf(event.id) > lastSequence && subscriber.accepts(event.dto)) {
+                subscriber.offer(event.toSse());
+            }
+        }
+    }
+
+    private String toJson(ChangeEventDto dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Event konnte nicht serialisiert werden", e);
+        }
+    }
+
+    // Sequence number of an id of this instance, -1 for foreign or invalid ids
+    private long sequenceOf(String id) {
+        int separator = id.lastIndexOf('-');
+        if (separator < 0 || !id.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(id.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // Serialized once, however many subscribers receive it
+    private record Event(String id, ChangeEventDto dto, String json) {
+
+        SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event().id(id).name(dto.getType().name()).data(json, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    /**
+     * One open stream with its region filter and send queue.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Set<String> regions;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile SseEmitter.SseEventBuilder pendingResync; // Queued, not yet sent
+        private volatile boolean closed;
+        private Thread sender; // Thread blocked in the current send, guarded by this
+        private long sendStartedNanos; // Guarded by this
+
+        Subscriber(SseEmitter emitter, Set<String> regions) {
+            this.emitter = emitter;
+            this.regions = regions;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        boolean accepts(ChangeEventDto event) {
+            return regions.isEmpty() || event.getRegionName() == null || regions.contains(event.getRegionName());
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (queue.offer(event)) {
+                schedule();
+            } else if (pendingResync == null) {
+                logger.debug("Event stream queue full, sending resync");
+                offerResync();
+            }
+        }
+
+        // Replaces everything queued by one resync event
+        void offerResync() {
+            SseEmitter.SseEventBuilder resync = SseEmitter.event().name(RESYNC).data("{}", MediaType.APPLICATION_JSON);
+            pendingResync = resync;
+            queue.clear();
+            queue.offer(resync);
+            schedule();
+        }
+
+        void close() {
+            closed = true;
+            queue.clear();
+            subscribers.remove(this);
+            emitter.complete();
+        }
+
+        void abortIfStalled(long now) {
+            synchronized (this) {
+                if (sender == null || now - sendStartedNanos < sendTimeout.toNanos()) {
+                    return;
+                }
+                closed = true;
+                queue.clear();
+                subscribers.remove(this);
+                sender.interrupt(); // Aborts the blocking write; the flag is cleared when drain() ends
+            }
+            logger.warn("Event stream closed: client did not accept data for {}", sendTimeout);
+            emitter.completeWithError(new IOException("Event-Stream Sende-Timeout"));
+        }
+
+        private void schedule() {
+            if (sending.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                List<SseEmitter.SseEventBuilder> batch = new ArrayList<>();
+                while (!closed && queue.drainTo(batch) > 0) {
+                    for (SseEmitter.SseEventBuilder event : batch) {
+                        send(event);
+                        if (event == pendingResync) {
+                            pendingResync = null;
+                        }
+                    }
+                    batch.clear();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the stream timed out
+                logger.debug("Event stream closed: {}", e.getMessage());
+                closed = true;
+                queue.clear();
+                subscribers.remove(this);
+            } finally {
+                Thread.interrupted(); // Set by abortIfStalled(), must not hit the next task of this thread
+                sending.set(false);
+            }
+            // An event queued after the loop ended but before the flag was reset
+            if (!closed && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            synchronized (this) {
+                if (closed) {
+                    throw new IllegalStateException("Event-Stream geschlossen");
+                }
+                sender = Thread.currentThread();
+                sendStartedNanos = System.nanoTime();
+            }
+            try {
+                emitter.send(event);
+            } finally {
+                synchronized (this) {
+                    sender = null;
+                }
+            }
+        }
+    }
+}
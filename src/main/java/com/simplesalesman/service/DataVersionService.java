@@ -0,0 +1,175 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.entity.Address;
+import com.simplesalesman.entity.Note;
+import com.simplesalesman.entity.Project;
+import com.simplesalesman.entity.Region;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-table change counters backing the ETags of the REST API (see {@code ETagConfig}).
+ *
+ * Every committed insert, update or delete of an address, project, note or region
+ * increments the counter of its table. Writes through Hibernate are counted by
+ * post-commit event listeners, which also see cascades and orphan removals;
+ * writes bypassing Hibernate (bulk UPDATEs, COPY import) report themselves via
+ * {@link #changed(Table...)}.
+ *
+ * An ETag combines the counters of the tables a response is built from with the
+ * start time of this instance, so it never matches across restarts. The counters
+ * are kept in memory like the other caches of this application and therefore
+ * assume a single instance writing to the database.
+ *
+ * The ETag must be taken before the data is read: a change committing in between
+ * then only causes one unnecessary full response, never a stale 304.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Service
+public class DataVersionService implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    /**
+     * Tables with change counters.
+     */
+    public enum Table {
+        ADDRESS, PROJECT, NOTE, REGION
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(DataVersionService.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Map<Table, AtomicLong> versions = new EnumMap<>(Table.class);
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    public DataVersionService(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+        for (Table table : Table.values()) {
+            versions.put(table, new AtomicLong());
+        }
+    }
+
+    @PostConstruct
+    void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        logger.info("Change tracking registered for tables {}", versions.keySet());
+    }
+
+    /**
+     * Builds a strong ETag from the current counters of the given tables,
+     * e.g. {@code "m2x1kq-12-4"}.
+     */
+    public String etag(Table... tables) {
+        StringBuilder etag = new StringBuilder("\"").append(epoch);
+        for (Table table : tables) {
+            etag.append('-').append(versions.get(table).get());
+        }
+        return etag.append('"').toString();
+    }
+
+    /**
+     * Reports writes that bypass Hibernate. Inside a transaction the counters
+     * change after commit.
+     */
+    public void changed(Table... tables) {
+        Runnable bump = () -> {
+            for (Table table : tables) {
+                versions.get(table).incrementAndGet();
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump.run();
+                }
+            });
+        } else {
+            bump.run();
+        }
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        bump(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        bump(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        bump(event.getEntity());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Rolled back - nothing changed
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Rolled back - nothing changed
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Rolled back - nothing changed
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return tableOf(persister.getMappedClass()) != null;
+    }
+
+    private void bump(Object entity) {
+        Table table = tableOf(entity.getClass());
+        if (table != null) {
+            versions.get(table).incrementAndGet();
+        }
+    }
+
+    private static Table tableOf(Class<?> type) {
+        if (Address.class.isAssignableFrom(type)) {
+            return Table.ADDRESS;
+        }
+        if (Project.class.isAssignableFrom(type)) {
+            return Table.PROJECT;
+        }
+        if (Note.class.isAssignableFrom(type)) {
+            return Table.NOTE;
+        }
+        if (Region.class.isAssignableFrom(type)) {
+            return Table.REGION;
+        }
+        return null;
+    }
+}
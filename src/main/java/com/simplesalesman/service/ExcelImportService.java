@@ -1,17 +1,32 @@
 package com.simplesalesman.service;
 
+import com.simplesalesman.dto.AddressDuplicateDto;
 import com.simplesalesman.dto.ImportResultDto;
 import com.simplesalesman.entity.*;
 import com.simplesalesman.repository.*;
 import com.simplesalesman.util.ExcelUtil;
+import com.simplesalesman.util.PostgresCopyLoader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,103 +34,428 @@ public class ExcelImportService {
 
     private static final Logger logger = LoggerFactory.getLogger(ExcelImportService.class);
     private static final int BATCH_SIZE = 1000; // Process in batches for large files
+    private static final int QUEUE_CAPACITY = 2 * BATCH_SIZE; // Rows buffered between pipeline stages
+    private static final long QUEUE_POLL_MILLIS = 200; // Abort check interval for blocked stages
+    private static final long STAGE_SHUTDOWN_SECONDS = 5; // Wait for stages to stop after a failure
+    private static final Project END_OF_STREAM = new Project(); // Marks the end of a stage's output
+
+    /**
+     * Persistence engine used by an import.
+     * JPA: batched entity inserts; COPY: PostgreSQL COPY into staging plus one set-based merge.
+     */
+    public enum ImportEngine {
+        JPA, COPY
+    }
 
     private final RegionRepository regionRepository;
     private final AddressRepository addressRepository;
     private final ProjectRepository projectRepository;
     private final ExcelUtil excelUtil;
+    private final PostgresCopyLoader copyLoader;
+    private final AddressDeduplicationService deduplicationService;
+    private final AddressSearchService searchService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final DataVersionService dataVersionService;
+    private final ChangeEventService changeEventService;
+    private final GeocodingService geocodingService;
+    private final NearbyAddressService nearbyAddressService;
+    private final ThreadPoolTaskExecutor pipelineExecutor;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     public ExcelImportService(RegionRepository regionRepository,
                                AddressRepository addressRepository,
                                ProjectRepository projectRepository,
-                               ExcelUtil excelUtil) {
+                               ExcelUtil excelUtil,
+                               PostgresCopyLoader copyLoader,
+                               AddressDeduplicationService deduplicationService,
+                               AddressSearchService searchService,
+                               CacheInvalidationService cacheInvalidationService,
+                               DataVersionService dataVersionService,
+                               ChangeEventService changeEventService,
+                               GeocodingService geocodingService,
+                               NearbyAddressService nearbyAddressService,
+                               @Qualifier("importPipelineExecutor") ThreadPoolTaskExecutor pipelineExecutor) {
         this.regionRepository = regionRepository;
         this.addressRepository = addressRepository;
         this.projectRepository = projectRepository;
         this.excelUtil = excelUtil;
+        this.copyLoader = copyLoader;
+        this.deduplicationService = deduplicationService;
+        this.searchService = searchService;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.dataVersionService = dataVersionService;
+        this.changeEventService = changeEventService;
+        this.geocodingService = geocodingService;
+        this.nearbyAddressService = nearbyAddressService;
+        this.pipelineExecutor = pipelineExecutor;
     }
 
     @Transactional(rollbackFor = Exception.class)
     public ImportResultDto importExcel(MultipartFile file) {
-        List<String> errors = new ArrayList<>();
+        return importExcel(file, ImportEngine.JPA);
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public ImportResultDto importExcel(MultipartFile file, ImportEngine engine) {
+        logger.info("Starting Excel import for file: {}, size: {} MB, engine: {}", 
+            file.getOriginalFilename(), file.getSize() / (1024.0 * 1024.0), engine);
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return importExcel(inputStream, file.getOriginalFilename(), new ImportProgress(), engine);
+        } catch (IOException e) {
+            logger.error("Could not read uploaded file: {}", file.getOriginalFilename(), e);
+            throw new RuntimeException("Import failed", e);
+        }
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public ImportResultDto importExcel(InputStream inputStream, String fileName, ImportProgress progress) {
+        return importExcel(inputStream, fileName, progress, ImportEngine.JPA);
+    }
+
+    /**
+     * Imports an Excel stream and reports row counts to the given progress tracker
+     * while running. Used directly by {@link ImportJobService} for background imports.
+     *
+     * The import runs as a three-stage pipeline connected by bounded queues, so
+     * parsing and database writes overlap and at most {@link #QUEUE_CAPACITY} rows
+     * per queue are held in memory:
+     * 1. parse   - streams rows out of the file ({@code importPipelineExecutor})
+     * 2. resolve - skips exact and fuzzy duplicates ({@link AddressDeduplicationService}) and
+     *              attaches cached or new regions ({@code importPipelineExecutor})
+     * 3. write   - persists batches of {@link #BATCH_SIZE} on the calling, transactional thread
+     *
+     * With {@link ImportEngine#COPY}, stage 3 is replaced by {@link PostgresCopyLoader},
+     * which streams the resolved rows into a staging table and creates regions and
+     * inserts in one set-based statement.
+     *
+     * @param inputStream XLSX content
+     * @param fileName    original file name (for logging)
+     * @param progress    receives parsed/persisted/skipped counts
+     * @param engine      persistence engine to use
+     * @return the import result
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public ImportResultDto importExcel(InputStream inputStream, String fileName, ImportProgress progress,
+                                       ImportEngine engine) {
+        if (engine == ImportEngine.COPY) {
+            ImportResultDto result = importWithCopy(inputStream, fileName, progress);
+            changeEventService.importCompleted(result.getRecordsProcessed());
+            geocodingService.requestBackfill();
+            return result;
+        }
+
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        List<AddressDuplicateDto> duplicates = Collections.synchronizedList(new ArrayList<>());
         int recordsProcessed = 0;
         int recordsSkipped = 0;
 
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        Future<Integer> parseStage = null;
+        Future<Integer> resolveStage = null;
+
         try {
-            logger.info("Starting Excel import for file: {}, size: {} MB", 
-                file.getOriginalFilename(), file.getSize() / (1024.0 * 1024.0));
-            
-            // Parse Excel file
-            List<Project> projects = excelUtil.parse(file.getInputStream());
-            logger.info("Parsed {} projects from Excel", projects.size());
-
-            // Load existing regions and addresses for duplicate checking
+            logger.info("Importing Excel file: {}", fileName);
+
+            // Load existing regions; duplicate addresses are checked per batch
             Map<String, Region> regionCache = loadRegionCache();
-            Set<String> existingAddresses = loadExistingAddresses();
-            
-            // Process new regions first
-            Set<Region> newRegions = processNewRegions(projects, regionCache);
-            if (!newRegions.isEmpty()) {
-                List<Region> savedRegions = regionRepository.saveAll(newRegions);
-                savedRegions.forEach(r -> regionCache.put(r.getName(), r));
-                logger.info("Created {} new regions", savedRegions.size());
-            }
 
-            // Process in batches for better performance
-            List<Address> addressesToSave = new ArrayList<>();
-            List<Project> projectsToSave = new ArrayList<>();
-            
-            for (Project project : projects) {
-                Address address = project.getAddress();
-                
-                // Skip duplicate addresses
-                if (existingAddresses.contains(address.getAddressText())) {
-                    recordsSkipped++;
-                    errors.add("Duplicate address skipped: " + address.getAddressText());
-                    continue;
-                }
-                
-                // Set the cached region
-                Region cachedRegion = regionCache.get(address.getRegion().getName());
-                if (cachedRegion == null) {
-                    errors.add("Region not found for address: " + address.getAddressText());
-                    recordsSkipped++;
-                    continue;
-                }
-                
-                address.setRegion(cachedRegion);
-                addressesToSave.add(address);
-                projectsToSave.add(project);
-                
-                // Process batch if size reached
-                if (addressesToSave.size() >= BATCH_SIZE) {
-                    recordsProcessed += processBatch(addressesToSave, projectsToSave);
-                    addressesToSave.clear();
-                    projectsToSave.clear();
-                }
-            }
-            
-            // Process remaining records
-            if (!addressesToSave.isEmpty()) {
-                recordsProcessed += processBatch(addressesToSave, projectsToSave);
-            }
-            
+            BlockingQueue<Project> parsedQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+            BlockingQueue<Project> resolvedQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+            parseStage = pipelineExecutor.submit(
+                () -> parseStage(inputStream, parsedQueue, progress, aborted));
+            resolveStage = pipelineExecutor.submit(
+                () -> resolveStage(parsedQueue, resolvedQueue, regionCache, errors, duplicates, progress, aborted));
+
+            recordsProcessed = writeStage(resolvedQueue, progress, aborted);
+            int parsed = parseStage.get();
+            recordsSkipped = resolveStage.get();
+            searchService.invalidate(); // Rebuilt after commit
+            nearbyAddressService.invalidate();
+            cacheInvalidationService.clearAll();
+
+            logger.info("Parsed {} projects from Excel", parsed);
             logger.info("Import completed. Processed: {}, Skipped: {}", recordsProcessed, recordsSkipped);
 
         } catch (Exception e) {
-            logger.error("Import failed with error", e);
-            errors.add("Import failed: " + e.getMessage());
-            throw new RuntimeException("Import failed", e); // Trigger rollback
+            aborted.set(true);
+            Throwable cause = unwrap(e, parseStage, resolveStage);
+            logger.error("Import failed with error", cause);
+            errors.add("Import failed: " + cause.getMessage());
+            throw new RuntimeException("Import failed", cause); // Trigger rollback
         }
 
         // Build result
         ImportResultDto result = new ImportResultDto();
         result.setSuccess(errors.isEmpty() || recordsProcessed > 0);
         result.setRecordsProcessed(recordsProcessed);
-        result.setErrors(errors);
+        result.setErrors(new ArrayList<>(errors));
+        result.setDuplicates(new ArrayList<>(duplicates));
+        changeEventService.importCompleted(recordsProcessed);
+        geocodingService.requestBackfill();
+        return result;
+    }
+
+    /**
+     * COPY variant of the import: the resolve stage feeds the bulk loader directly,
+     * which runs on the calling thread inside the transaction.
+     */
+    private ImportResultDto importWithCopy(InputStream inputStream, String fileName, ImportProgress progress) {
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        List<AddressDuplicateDto> duplicates = Collections.synchronizedList(new ArrayList<>());
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        Future<Integer> parseStage = null;
+        Future<Integer> resolveStage = null;
+        PostgresCopyLoader.Result loaded;
+
+        try {
+            logger.info("Importing Excel file via COPY: {}", fileName);
+
+            Map<String, Region> regionCache = loadRegionCache();
+            BlockingQueue<Project> parsedQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+            BlockingQueue<Project> resolvedQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+            parseStage = pipelineExecutor.submit(() -> parseStage(inputStream, parsedQueue, progress, aborted));
+            resolveStage = pipelineExecutor.submit(
+                () -> resolveStage(parsedQueue, resolvedQueue, regionCache, errors, duplicates, progress, aborted));
+
+            loaded = copyLoader.load(drain(resolvedQueue, aborted));
+            parseStage.get();
+            int skipped = resolveStage.get();
+            searchService.invalidate(); // Rebuilt after commit
+            nearbyAddressService.invalidate();
+            cacheInvalidationService.clearAll();
+            cacheInvalidationService.evictRegionEntities(); // Regions were inserted with plain SQL
+            dataVersionService.changed(DataVersionService.Table.ADDRESS, DataVersionService.Table.PROJECT,
+                    DataVersionService.Table.REGION);
+
+            // Rows stored concurrently since the resolve stage checked them
+            loaded.getDuplicates().forEach(text -> {
+                errors.add("Duplicate address skipped: " + text);
+                duplicates.add(new AddressDuplicateDto(text, text, 1.0));
+            });
+            progress.rowsSkipped(loaded.getDuplicates().size());
+            progress.rowsPersisted(loaded.getRowsInserted());
+            if (loaded.getRegionsCreated() > 0) {
+                logger.info("Created {} new regions", loaded.getRegionsCreated());
+            }
+            logger.info("Import completed. Processed: {}, Skipped: {}",
+                loaded.getRowsInserted(), skipped + loaded.getDuplicates().size());
+
+        } catch (Exception e) {
+            aborted.set(true);
+            Throwable cause = unwrap(e, parseStage, resolveStage);
+            logger.error("Import failed with error", cause);
+            throw new RuntimeException("Import failed", cause); // Trigger rollback
+        }
+
+        ImportResultDto result = new ImportResultDto();
+        result.setSuccess(errors.isEmpty() || loaded.getRowsInserted() > 0);
+        result.setRecordsProcessed(loaded.getRowsInserted());
+        result.setErrors(new ArrayList<>(errors));
+        result.setDuplicates(new ArrayList<>(duplicates));
         return result;
     }
 
+    /**
+     * Exposes a stage queue as an iterator that ends at {@link #END_OF_STREAM}.
+     */
+    private static Iterator<Project> drain(BlockingQueue<Project> queue, AtomicBoolean aborted) {
+        return new Iterator<>() {
+            private Project next = take(queue, aborted);
+
+            @Override
+            public boolean hasNext() {
+                return next != END_OF_STREAM;
+            }
+
+            @Override
+            public Project next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Project current = next;
+                next = take(queue, aborted);
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Stage 1: streams parsed rows into the queue.
+     *
+     * @return number of parsed rows
+     */
+    private int parseStage(InputStream inputStream, BlockingQueue<Project> out,
+                           ImportProgress progress, AtomicBoolean aborted) throws Exception {
+        try {
+            int parsed = excelUtil.parseStreaming(inputStream, project -> {
+                handOff(out, project, aborted);
+                progress.rowParsed();
+            });
+            handOff(out, END_OF_STREAM, aborted);
+            return parsed;
+        } catch (Exception e) {
+            aborted.set(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Stage 2: drops duplicates and attaches regions. Unknown regions are created
+     * once per name as transient entities and persisted by the write stage.
+     * Duplicates are detected per batch with one indexed block lookup, so memory
+     * use depends on the batch size rather than on the table size.
+     *
+     * @return number of skipped rows
+     */
+    private int resolveStage(BlockingQueue<Project> in, BlockingQueue<Project> out,
+                             Map<String, Region> regionCache, List<String> errors,
+                             List<AddressDuplicateDto> duplicates, ImportProgress progress, AtomicBoolean aborted) {
+        try {
+            AddressDeduplicationService.Session dedup = deduplicationService.newSession();
+            int skipped = 0;
+            List<Project> pending = new ArrayList<>(BATCH_SIZE);
+            for (Project project = take(in, aborted); project != END_OF_STREAM; project = take(in, aborted)) {
+                pending.add(project);
+                if (pending.size() >= BATCH_SIZE) {
+                    skipped += resolveBatch(pending, out, dedup, regionCache, errors, duplicates, progress, aborted);
+                    pending.clear();
+                }
+            }
+            skipped += resolveBatch(pending, out, dedup, regionCache, errors, duplicates, progress, aborted);
+            handOff(out, END_OF_STREAM, aborted);
+            return skipped;
+        } catch (RuntimeException e) {
+            aborted.set(true);
+            throw e;
+        }
+    }
+
+    private int resolveBatch(List<Project> batch, BlockingQueue<Project> out,
+                             AddressDeduplicationService.Session dedup, Map<String, Region> regionCache,
+                             List<String> errors, List<AddressDuplicateDto> duplicates,
+                             ImportProgress progress, AtomicBoolean aborted) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<AddressDuplicateDto> matches = dedup.check(
+            batch.stream().map(project -> project.getAddress().getAddressText()).collect(Collectors.toList()));
+
+        int skipped = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            Project project = batch.get(i);
+            Address address = project.getAddress();
+
+            // Skip duplicate addresses
+            AddressDuplicateDto duplicate = matches.get(i);
+            if (duplicate != null) {
+                skipped++;
+                progress.rowSkipped();
+                errors.add("Duplicate address skipped: " + address.getAddressText());
+                duplicates.add(duplicate);
+                continue;
+            }
+
+            // Set the cached region, or register the parsed one as new
+            Region region = regionCache.computeIfAbsent(address.getRegion().getName(), name -> address.getRegion());
+            address.setRegion(region);
+            handOff(out, project, aborted);
+        }
+        return skipped;
+    }
+
+    /**
+     * Stage 3: persists resolved rows in batches. Runs on the caller's thread so
+     * that all writes take part in the surrounding transaction.
+     *
+     * @return number of persisted rows
+     */
+    private int writeStage(BlockingQueue<Project> in, ImportProgress progress, AtomicBoolean aborted) {
+        int recordsProcessed = 0;
+        int regionsCreated = 0;
+        List<Address> addressesToSave = new ArrayList<>(BATCH_SIZE);
+        List<Project> projectsToSave = new ArrayList<>(BATCH_SIZE);
+
+        for (Project project = take(in, aborted); project != END_OF_STREAM; project = take(in, aborted)) {
+            Region region = project.getAddress().getRegion();
+            if (region.getId() == null) {
+                regionRepository.save(region);
+                regionsCreated++;
+            }
+
+            addressesToSave.add(project.getAddress());
+            projectsToSave.add(project);
+
+            // Process batch if size reached
+            if (addressesToSave.size() >= BATCH_SIZE) {
+                recordsProcessed += processBatch(addressesToSave, projectsToSave, progress);
+                addressesToSave.clear();
+                projectsToSave.clear();
+            }
+        }
+
+        // Process remaining records
+        if (!addressesToSave.isEmpty()) {
+            recordsProcessed += processBatch(addressesToSave, projectsToSave, progress);
+        }
+
+        if (regionsCreated > 0) {
+            logger.info("Created {} new regions", regionsCreated);
+        }
+        return recordsProcessed;
+    }
+
+    private static void handOff(BlockingQueue<Project> queue, Project project, AtomicBoolean aborted) {
+        try {
+            while (!queue.offer(project, QUEUE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (aborted.get()) {
+                    throw new CancellationException("Import pipeline aborted");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Import pipeline interrupted");
+        }
+    }
+
+    private static Project take(BlockingQueue<Project> queue, AtomicBoolean aborted) {
+        try {
+            Project project;
+            while ((project = queue.poll(QUEUE_POLL_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+                if (aborted.get()) {
+                    throw new CancellationException("Import pipeline aborted");
+                }
+            }
+            return project;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Import pipeline interrupted");
+        }
+    }
+
+    /**
+     * Finds the root cause of a pipeline failure. A stage that failed first is
+     * preferred over the cancellations it caused in the other stages.
+     */
+    private static Throwable unwrap(Exception e, Future<?>... stages) {
+        for (Future<?> stage : stages) {
+            if (stage == null) continue;
+            try {
+                stage.get(STAGE_SHUTDOWN_SECONDS, TimeUnit.SECONDS);
+            } catch (ExecutionException ex) {
+                if (!(ex.getCause() instanceof CancellationException)) {
+                    return ex.getCause();
+                }
+            } catch (Exception ignored) {
+                // Stage was cancelled, interrupted or did not stop in time - keep looking
+            }
+        }
+        return e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+    }
+
     private Map<String, Region> loadRegionCache() {
         return regionRepository.findAll().stream()
                 .collect(Collectors.toConcurrentMap(
@@ -126,26 +466,7 @@ public class ExcelImportService {
                 ));
     }
 
-    private Set<String> loadExistingAddresses() {
-        // Use projection for better performance - only load addressText
-        return new HashSet<>(addressRepository.findAllAddressTexts());
-    }
-
-    private Set<Region> processNewRegions(List<Project> projects, Map<String, Region> regionCache) {
-        return projects.stream()
-                .map(p -> p.getAddress().getRegion())
-                .filter(r -> !regionCache.containsKey(r.getName()))
-                .collect(Collectors.toMap(
-                    Region::getName,
-                    r -> r,
-                    (r1, r2) -> r1 // Keep first on duplicates
-                ))
-                .values()
-                .stream()
-                .collect(Collectors.toSet());
-    }
-
-    private int processBatch(List<Address> addresses, List<Project> projects) {
+    private int processBatch(List<Address> addresses, List<Project> projects, ImportProgress progress) {
         // Save addresses
         List<Address> savedAddresses = addressRepository.saveAll(addresses);
         
@@ -156,7 +477,12 @@ public class ExcelImportService {
         
         // Save projects
         projectRepository.saveAll(projects);
+
+        // Send the batch as JDBC batches now and detach it, keeping the persistence context small
+        entityManager.flush();
+        entityManager.clear();
         
+        progress.rowsPersisted(projects.size());
         logger.debug("Processed batch of {} records", projects.size());
         return projects.size();
     }
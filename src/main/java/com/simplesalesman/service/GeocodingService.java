@@ -0,0 +1,362 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.util.AddressNormalizer;
+import com.simplesalesman.util.Geocoder;
+import com.simplesalesman.util.GeocodingCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Geocodes addresses and resolves place names, with caching and rate limiting.
+ *
+ * Address lookups go to the {@link Geocoder} selected by {@code simplesalesman.geocoding.provider}
+ * (default: offline stub), reverse lookups of place names (weather widget) to the one
+ * selected by {@code simplesalesman.geocoding.reverse-provider} (default: Nominatim).
+ * Both go through a {@link GeocodingCache} file ({@code simplesalesman.geocoding.cache-file}),
+ * so each address text or place is asked for only once per installation. Requests
+ * to a provider are spaced by its minimum interval (Nominatim: one per second),
+ * shared by all callers of that provider.
+ *
+ * Addresses without coordinates are geocoded in the background, one run at a time
+ * on the {@code geocodingExecutor}, if {@code simplesalesman.geocoding.enabled} is set
+ * and the provider allows bulk lookups (Nominatim only when self-hosted):
+ * - single addresses after they were created or their text changed
+ * - all of them after an import and every {@code simplesalesman.geocoding.rescan-interval}
+ *
+ * A run walks the addresses without coordinates in id order (keyset pagination) and
+ * stores the results of {@code simplesalesman.geocoding.batch-size} addresses per
+ * JDBC batch. The pending work is simply the set of addresses without coordinates, so
+ * a run interrupted by a provider failure or a restart resumes with the next one;
+ * addresses done before are skipped and lookups made before come from the cache.
+ * Addresses the provider does not know keep null coordinates.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Service
+public class GeocodingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeocodingService.class);
+
+    private static final String SELECT_MISSING = "SELECT id, address_text FROM address "
+            + "WHERE latitude IS NULL AND address_text IS NOT NULL AND id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_MISSING_BY_ID = "SELECT id, address_text FROM address "
+            + "WHERE latitude IS NULL AND address_text IS NOT NULL AND id IN (%s) ORDER BY id";
+    // The text condition keeps results for a text that was changed meanwhile out
+    private static final String UPDATE_COORDINATES = "UPDATE address SET latitude = ?, longitude = ? "
+            + "WHERE id = ? AND address_text = ? AND latitude IS NULL";
+
+    private final List<Geocoder> geocoders;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final DataVersionService dataVersionService;
+    private final NearbyAddressService nearbyAddressService;
+    private final ThreadPoolTaskExecutor geocodingExecutor;
+
+    @Value("${simplesalesman.geocoding.provider:stub}")
+    private String provider;
+
+    @Value("${simplesalesman.geocoding.reverse-provider:nominatim}")
+    private String reverseProvider;
+
+    @Value("${simplesalesman.geocoding.enabled:false}")
+    private boolean enabled;
+
+    @Value("${simplesalesman.geocoding.cache-file:data/geocoding-cache.tsv}")
+    private Path cacheFile;
+
+    @Value("${simplesalesman.geocoding.negative-ttl:30d}")
+    private Duration negativeTtl;
+
+    @Value("${simplesalesman.geocoding.batch-size:100}")
+    private int batchSize;
+
+    private Geocoder geocoder;
+    private Geocoder reverseGeocoder;
+    private GeocodingCache cache;
+
+    // Rate limiting per provider: start of the next free request slot
+    private final Map<String, AtomicLong> nextRequestNanos = new ConcurrentHashMap<>();
+
+    // Background work: single addresses and full scans, processed by at most one run
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean scanRequested = new AtomicBoolean();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public GeocodingService(List<Geocoder> geocoders,
+                            JdbcTemplate jdbcTemplate,
+                            CacheInvalidationService cacheInvalidationService,
+                            DataVersionService dataVersionService,
+                            NearbyAddressService nearbyAddressService,
+                            @Qualifier("geocodingExecutor") ThreadPoolTaskExecutor geocodingExecutor) {
+        this.geocoders = geocoders;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.dataVersionService = dataVersionService;
+        this.nearbyAddressService = nearbyAddressService;
+        this.geocodingExecutor = geocodingExecutor;
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        geocoder = findGeocoder(provider);
+        reverseGeocoder = findGeocoder(reverseProvider);
+        if (enabled && !geocoder.allowsBulkLookups()) {
+            enabled = false;
+            logger.warn("Background geocoding stays disabled: provider '{}' does not allow bulk lookups "
+                    + "(set simplesalesman.geocoding.nominatim.url to a self-hosted Nominatim)", provider);
+        }
+        cache = GeocodingCache.open(cacheFile, negativeTtl);
+        logger.info("Geocoding with provider '{}' (min interval {}), reverse lookups with '{}', "
+                + "background geocoding {}", provider, geocoder.getMinInterval(), reverseProvider,
+                enabled ? "enabled" : "disabled");
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        cache.close();
+    }
+
+    /**
+     * Looks up the coordinates of an address text.
+     *
+     * @param addressText free-text address
+     * @return {@code [latitude, longitude]}, or null if the address is unknown
+     * @throws RuntimeException if the provider could not be asked
+     */
+    public double[] geocode(String addressText) {
+        if (addressText == null || addressText.isBlank()) {
+            return null;
+        }
+        AddressNormalizer.NormalizedAddress normalized = AddressNormalizer.normalize(addressText);
+        // Exact duplicates (same canonical key) share their coordinates
+        String key = "a:" + (normalized != null ? normalized.getCanonicalKey() : AddressNormalizer.searchText(addressText));
+        GeocodingCache.Entry cached = cache.get(key);
+        if (cached != null) {
+            return cached.isFound() ? parseCoordinates(cached.getValue()) : null;
+        }
+        awaitRequestSlot(geocoder);
+        double[] coordinates = geocoder.geocode(addressText);
+        cache.put(key, coordinates != null ? coordinates[0] + "," + coordinates[1] : null);
+        return coordinates;
+    }
+
+    /**
+     * Looks up the city, town or village at the given coordinates with the reverse
+     * provider. Results are cached per about 100 m (three decimal places).
+     *
+     * @return place name, or null if there is none
+     * @throws RuntimeException if the provider could not be asked
+     */
+    public String resolveCity(double latitude, double longitude) {
+        // Per provider: the stub finds no places, its cached misses must not hide real names
+        String key = String.format(Locale.ROOT, "r:%s:%.3f,%.3f", reverseGeocoder.getName(), latitude, longitude);
+        GeocodingCache.Entry cached = cache.get(key);
+        if (cached != null) {
+            return cached.getValue();
+        }
+        awaitRequestSlot(reverseGeocoder);
+        String city = reverseGeocoder.reverseCity(latitude, longitude);
+        cache.put(key, city);
+        return city;
+    }
+
+    /**
+     * Geocodes one address in the background, e.g. after it was created or its text
+     * changed. Inside a transaction, this happens after commit.
+     */
+    public void requestGeocoding(Long addressId) {
+        if (enabled && addressId != null) {
+            afterCommit(() -> {
+                pendingIds.add(addressId);
+                startRun();
+            });
+        }
+    }
+
+    /**
+     * Geocodes all addresses without coordinates in the background, e.g. after an
+     * import. Inside a transaction, this happens after commit.
+     */
+    public void requestBackfill() {
+        if (enabled) {
+            afterCommit(() -> {
+                scanRequested.set(true);
+                startRun();
+            });
+        }
+    }
+
+    /**
+     * Periodically resumes geocoding, e.g. after a provider failure or a restart.
+     */
+    @Scheduled(initialDelayString = "${simplesalesman.geocoding.initial-delay:30s}",
+            fixedDelayString = "${simplesalesman.geocoding.rescan-interval:1h}")
+    public void scheduledBackfill() {
+        requestBackfill();
+    }
+
+    private void startRun() {
+        if (running.compareAndSet(false, true)) {
+            geocodingExecutor.execute(this::run);
+        }
+    }
+
+    private void run() {
+        try {
+            while (!pendingIds.isEmpty() || scanRequested.get()) {
+                if (!pendingIds.isEmpty()) {
+                    processPendingIds();
+                } else {
+                    scanRequested.set(false);
+                    scan();
+                }
+            }
+        } catch (RuntimeException e) {
+            // Pending addresses are retried by the next scan
+            pendingIds.clear();
+            scanRequested.set(false);
+            logger.warn("Geocoding stopped, resuming with the next run: {}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+        // Requests that came in while the run was finishing
+        if (!pendingIds.isEmpty() || scanRequested.get()) {
+            startRun();
+        }
+    }
+
+    private void processPendingIds() {
+        List<Long> ids = new ArrayList<>(batchSize);
+        for (Iterator<Long> it = pendingIds.iterator(); it.hasNext() && ids.size() < batchSize; ) {
+            ids.add(it.next());
+            it.remove();
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        process(jdbcTemplate.query(String.format(SELECT_MISSING_BY_ID, placeholders),
+                (rs, rowNum) -> new Object[] { rs.getLong(1), rs.getString(2) }, ids.toArray()));
+    }
+
+    private void scan() {
+        long start = System.currentTimeMillis();
+        int located = 0;
+        int total = 0;
+        long lastId = 0;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(SELECT_MISSING,
+                    (rs, rowNum) -> new Object[] { rs.getLong(1), rs.getString(2) }, lastId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            located += process(rows);
+            total += rows.size();
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        if (total > 0) {
+            logger.info("Geocoded {} of {} addresses without coordinates in {} ms", located, total,
+                    System.currentTimeMillis() - start);
+        }
+    }
+
+    // Geocodes rows of [id, addressText] and stores the coordinates found; returns their number
+    private int process(List<Object[]> rows) {
+        List<Object[]> updates = new ArrayList<>(rows.size());
+        List<Long> ids = new ArrayList<>(rows.size());
+        try {
+            for (Object[] row : rows) {
+                double[] coordinates = geocode((String) row[1]);
+                if (coordinates != null) {
+                    updates.add(new Object[] { coordinates[0], coordinates[1], row[0], row[1] });
+                    ids.add((Long) row[0]);
+                }
+            }
+        } finally {
+            // On a provider failure, keep what was found so far
+            store(updates, ids);
+        }
+        return updates.size();
+    }
+
+    private void store(List<Object[]> updates, List<Long> ids) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_COORDINATES, updates);
+        ids.forEach(cacheInvalidationService::evictAddress);
+        dataVersionService.changed(DataVersionService.Table.ADDRESS);
+        nearbyAddressService.addressesChanged(ids);
+        logger.debug("Stored coordinates of {} addresses", updates.size());
+    }
+
+    // Reserves the next request slot of the provider and waits for it
+    private Geocoder findGeocoder(String name) {
+        return geocoders.stream()
+                .filter(g -> g.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unknown geocoding provider: " + name));
+    }
+
+    private void awaitRequestSlot(Geocoder backend) {
+        long interval = backend.getMinInterval().toNanos();
+        if (interval <= 0) {
+            return;
+        }
+        AtomicLong next = nextRequestNanos.computeIfAbsent(backend.getName(), name -> new AtomicLong(System.nanoTime()));
+        long now = System.nanoTime();
+        long previous = next.getAndAccumulate(now, (current, time) -> Math.max(current, time) + interval);
+        long wait = Math.max(previous, now) - now;
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the geocoding provider", e);
+            }
+        }
+    }
+
+    private static double[] parseCoordinates(String value) {
+        int comma = value.indexOf(',');
+        return new double[] { Double.parseDouble(value.substring(0, comma)),
+                Double.parseDouble(value.substring(comma + 1)) };
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.exception.ImportCapacityExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Limits the number of Excel imports running at the same time.
+ *
+ * Every import occupies two threads of the {@code importPipelineExecutor} (parse and
+ * resolve stage), which is sized for {@code simplesalesman.import.max-concurrent}
+ * imports and rejects further stages. Imports therefore take a slot here before they
+ * start, so a client exceeding the limit gets a clear 429 instead of a failed import:
+ * - synchronous imports hold the slot for the duration of the request
+ * - background jobs take it on submission and hold it while queued and running
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Service
+public class ImportConcurrencyLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportConcurrencyLimiter.class);
+
+    private final int maxConcurrent;
+    private final Semaphore slots;
+
+    public ImportConcurrencyLimiter(@Value("${simplesalesman.import.max-concurrent:4}") int maxConcurrent) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("simplesalesman.import.max-concurrent must be >= 1");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.slots = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Takes a slot for an import; it must be returned with {@link #release()}.
+     *
+     * @throws ImportCapacityExceededException if all slots are taken
+     */
+    public void acquire() {
+        if (!slots.tryAcquire()) {
+            logger.warn("Import rejected: {} imports are already running", maxConcurrent);
+            throw new ImportCapacityExceededException("Es laufen bereits " + maxConcurrent
+                    + " Importe gleichzeitig. Bitte später erneut versuchen.");
+        }
+    }
+
+    public void release() {
+        slots.release();
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+}
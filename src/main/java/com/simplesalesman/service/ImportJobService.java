@@ -0,0 +1,186 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.dto.ImportJobStatusDto;
+import com.simplesalesman.dto.ImportJobStatusDto.State;
+import com.simplesalesman.dto.ImportResultDto;
+import com.simplesalesman.exception.ImportCapacityExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Service for running Excel imports as background jobs.
+ *
+ * The upload is spooled to a temporary file (the multipart file is gone once the
+ * request completes) and the import runs on the bounded {@code importJobExecutor}
+ * from {@link com.simplesalesman.config.AsyncConfig}, never on the request thread.
+ * Clients poll the job status by id. Queued and running jobs count towards the
+ * {@link ImportConcurrencyLimiter}; a full job queue is reported like an exceeded
+ * limit (HTTP 429).
+ *
+ * Job Lifecycle:
+ * - QUEUED → RUNNING → COMPLETED | FAILED
+ * - Finished jobs keep their {@link ImportResultDto} for {@link #JOB_RETENTION}
+ *   and are evicted lazily afterwards
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Service
+public class ImportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportJobService.class);
+    private static final Duration JOB_RETENTION = Duration.ofHours(1);
+
+    private final ExcelImportService excelImportService;
+    private final ImportConcurrencyLimiter importLimiter;
+    private final TaskExecutor importJobExecutor;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobService(ExcelImportService excelImportService,
+                            ImportConcurrencyLimiter importLimiter,
+                            @Qualifier("importJobExecutor") TaskExecutor importJobExecutor) {
+        this.excelImportService = excelImportService;
+        this.importLimiter = importLimiter;
+        this.importJobExecutor = importJobExecutor;
+    }
+
+    /**
+     * Accepts an uploaded file and schedules its import in the background.
+     *
+     * @param file   the uploaded Excel file
+     * @param engine persistence engine used for the import
+     * @return the initial job status including the job id
+     * @throws IOException if the upload cannot be spooled to disk
+     * @throws ImportCapacityExceededException if the maximum number of imports is
+     *         already queued or running, or the import job queue is full
+     */
+    public ImportJobStatusDto submit(MultipartFile file, ExcelImportService.ImportEngine engine) throws IOException {
+        evictExpiredJobs();
+
+        importLimiter.acquire(); // Released when the job has finished
+        Path spooled = null;
+        try {
+            spooled = Files.createTempFile("simplesalesman-job-", ".xlsx");
+            file.transferTo(spooled);
+
+            ImportJob job = new ImportJob(UUID.randomUUID().toString(), file.getOriginalFilename());
+            Path jobFile = spooled;
+            // Register before scheduling, so a poll arriving right after the response finds the job
+            jobs.put(job.id, job);
+            try {
+                importJobExecutor.execute(() -> run(job, jobFile, engine));
+            } catch (RejectedExecutionException e) {
+                jobs.remove(job.id);
+                logger.warn("Import job for file '{}' rejected: import queue full", job.fileName);
+                throw new ImportCapacityExceededException(
+                        "Die Import-Warteschlange ist voll. Bitte später erneut versuchen.");
+            }
+            logger.info("Import job {} queued for file '{}' (engine: {})", job.id, job.fileName, engine);
+            return job.toDto();
+        } catch (IOException | RuntimeException e) {
+            importLimiter.release();
+            if (spooled != null) {
+                Files.deleteIfExists(spooled);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the current status of a job.
+     *
+     * @param jobId the job id returned by {@link #submit(MultipartFile, ExcelImportService.ImportEngine)}
+     * @return the job status, or empty if unknown or already evicted
+     */
+    public Optional<ImportJobStatusDto> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(ImportJob::toDto);
+    }
+
+    private void run(ImportJob job, Path spooled, ExcelImportService.ImportEngine engine) {
+        job.state = State.RUNNING;
+        job.progress.start();
+        logger.info("Import job {} started", job.id);
+
+        ImportResultDto result;
+        State finalState;
+        try (InputStream inputStream = Files.newInputStream(spooled)) {
+            result = excelImportService.importExcel(inputStream, job.fileName, job.progress, engine);
+            finalState = State.COMPLETED;
+            logger.info("Import job {} completed: {}", job.id, result);
+        } catch (Exception e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            logger.error("Import job {} failed", job.id, e);
+            result = new ImportResultDto(false, 0, List.of("Import failed: " + cause.getMessage()));
+            finalState = State.FAILED;
+        } finally {
+            importLimiter.release();
+            try {
+                Files.deleteIfExists(spooled);
+            } catch (IOException e) {
+                logger.warn("Could not delete spooled import file {}: {}", spooled, e.getMessage());
+            }
+        }
+
+        // Publish the outcome before the state flips, so pollers never see a finished job without result
+        job.progress.finish();
+        job.result = result;
+        job.finishedAt = LocalDateTime.now();
+        job.state = finalState;
+    }
+
+    private void evictExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(JOB_RETENTION);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    /**
+     * Mutable job record; fields are written by the worker thread and read by pollers.
+     */
+    private static class ImportJob {
+        private final String id;
+        private final String fileName;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final ImportProgress progress = new ImportProgress();
+        private volatile State state = State.QUEUED;
+        private volatile ImportResultDto result;
+        private volatile LocalDateTime finishedAt;
+
+        ImportJob(String id, String fileName) {
+            this.id = id;
+            this.fileName = fileName;
+        }
+
+        ImportJobStatusDto toDto() {
+            ImportJobStatusDto dto = new ImportJobStatusDto();
+            dto.setJobId(id);
+            dto.setFileName(fileName);
+            dto.setState(state);
+            dto.setRowsParsed(progress.getRowsParsed());
+            dto.setRowsPersisted(progress.getRowsPersisted());
+            dto.setRowsSkipped(progress.getRowsSkipped());
+            dto.setRowsPerSecond(state == State.QUEUED ? 0.0 : progress.getRowsPerSecond());
+            dto.setSubmittedAt(submittedAt);
+            dto.setFinishedAt(finishedAt);
+            dto.setResult(result);
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.simplesalesman.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe progress counters of a running Excel import.
+ *
+ * Written by {@link ExcelImportService} while the import runs and read
+ * concurrently by {@link ImportJobService} when a client polls the job status.
+ *
+ * Tracked values:
+ * - rows parsed from the file
+ * - rows persisted to the database
+ * - rows skipped (duplicates, missing regions)
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public class ImportProgress {
+
+    private final AtomicInteger rowsParsed = new AtomicInteger();
+    private final AtomicInteger rowsPersisted = new AtomicInteger();
+    private final AtomicInteger rowsSkipped = new AtomicInteger();
+    private volatile long startNanos = System.nanoTime();
+    private volatile long endNanos;
+
+    /**
+     * Resets the throughput clock, e.g. when a queued job actually starts running.
+     */
+    public void start() {
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Freezes the throughput clock once the import has finished.
+     */
+    public void finish() {
+        endNanos = System.nanoTime();
+    }
+
+    public void rowParsed() {
+        rowsParsed.incrementAndGet();
+    }
+
+    public void rowsPersisted(int count) {
+        rowsPersisted.addAndGet(count);
+    }
+
+    public void rowSkipped() {
+        rowsSkipped.incrementAndGet();
+    }
+
+    public void rowsSkipped(int count) {
+        rowsSkipped.addAndGet(count);
+    }
+
+    public int getRowsParsed() {
+        return rowsParsed.get();
+    }
+
+    public int getRowsPersisted() {
+        return rowsPersisted.get();
+    }
+
+    public int getRowsSkipped() {
+        return rowsSkipped.get();
+    }
+
+    /**
+     * @return persisted rows per second between {@link #start()} and {@link #finish()} (or now)
+     */
+    public double getRowsPerSecond() {
+        long end = endNanos != 0 ? endNanos : System.nanoTime();
+        double seconds = (end - startNanos) / 1_000_000_000.0;
+        return seconds > 0 ? rowsPersisted.get() / seconds : 0.0;
+    }
+}
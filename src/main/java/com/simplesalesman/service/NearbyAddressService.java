@@ -0,0 +1,284 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.dto.NearbyAddressDto;
+import com.simplesalesman.util.GeoGridIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Finds geocoded addresses near a location ("open doors within 300 m").
+ *
+ * All addresses with coordinates are held in a {@link GeoGridIndex} together with
+ * the statuses of their projects, so queries and status filters run in memory; only
+ * the details of the hits are read from the database. The index is built at startup
+ * and kept current:
+ * - single addresses are reloaded after commit when they, their projects' statuses
+ *   or their coordinates change ({@link #addressesChanged(Collection)})
+ * - after imports it is rebuilt in the background ({@link #invalidate()}); queries
+ *   use the previous index meanwhile, and changes made during the rebuild are
+ *   applied again afterwards
+ *
+ * A project without status counts as neither wanted nor closed, i.e. its address is open.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Service
+public class NearbyAddressService implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearbyAddressService.class);
+
+    // Keeps the bind parameters of the lookup queries well below database limits
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+    private static final long NO_ID = Long.MIN_VALUE;
+
+    // One row per project, or one row without project for addresses without projects
+    private static final String INDEX_SOURCE_SQL = "SELECT a.id, a.latitude, a.longitude, p.id, p.status "
+            + "FROM address a LEFT JOIN project p ON p.address_id = a.id "
+            + "WHERE a.latitude IS NOT NULL AND a.longitude IS NOT NULL";
+
+    private static final String HIT_DETAILS_SQL =
+        "SELECT a.id, a.address_text, r.name, a.latitude, a.longitude "
+            + "FROM address a LEFT JOIN region r ON r.id = a.region_id WHERE a.id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final ThreadPoolTaskExecutor taskExecutor;
+
+    @Value("${simplesalesman.nearby.cell-size-meters:200}")
+    private double cellSizeMeters;
+
+    @Value("${simplesalesman.nearby.max-radius-meters:10000}")
+    private double maxRadiusMeters;
+
+    @Value("${simplesalesman.nearby.default-limit:50}")
+    private int defaultLimit;
+
+    @Value("${simplesalesman.nearby.max-limit:500}")
+    private int maxLimit;
+
+    private volatile GeoGridIndex index;
+    private final Object rebuildLock = new Object();
+    // Ids changed while a rebuild runs; null otherwise
+    private volatile Set<Long> changedDuringRebuild;
+
+    public NearbyAddressService(NamedParameterJdbcTemplate namedJdbcTemplate,
+                                @Qualifier("taskExecutor") ThreadPoolTaskExecutor taskExecutor) {
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        index = new GeoGridIndex(cellSizeMeters);
+        rebuild();
+    }
+
+    /**
+     * Finds the addresses nearest to a location.
+     *
+     * @param latitude       latitude of the location
+     * @param longitude      longitude of the location
+     * @param radiusMeters   maximum distance, or null for the configured maximum
+     * @param limit          maximum number of addresses (k), or null for the configured default
+     * @param statuses       if not empty, only addresses with a project in one of these statuses
+     * @param closedStatuses if not empty, only open addresses: no project, or a project
+     *                       whose status is not one of these
+     * @return nearest addresses first, with their distance
+     * @throws IllegalArgumentException for invalid coordinates, radius or limit
+     */
+    public List<NearbyAddressDto> findNearby(double latitude, double longitude, Double radiusMeters, Integer limit,
+                                             Collection<String> statuses, Collection<String> closedStatuses) {
+        if (Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+            throw new IllegalArgumentException("Ungültige Koordinaten");
+        }
+        if (radiusMeters != null && (radiusMeters <= 0 || radiusMeters > maxRadiusMeters)) {
+            throw new IllegalArgumentException("Radius muss zwischen 0 und " + (long) maxRadiusMeters + " m liegen");
+        }
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Limit muss >= 1 sein");
+        }
+        int maxHits = limit != null ? Math.min(limit, maxLimit) : defaultLimit;
+
+        List<GeoGridIndex.Hit> hits = index.nearest(latitude, longitude, maxHits,
+                radiusMeters != null ? radiusMeters : maxRadiusMeters, filter(statuses, closedStatuses));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, GeoGridIndex.Hit> hitsById = new LinkedHashMap<>();
+        hits.forEach(hit -> hitsById.put(hit.getId(), hit));
+        Map<Long, NearbyAddressDto> details = new HashMap<>();
+        namedJdbcTemplate.query(HIT_DETAILS_SQL, new MapSqlParameterSource("ids", hitsById.keySet()), rs -> {
+            GeoGridIndex.Hit hit = hitsById.get(rs.getLong(1));
+            NearbyAddressDto dto = new NearbyAddressDto();
+            dto.setId(hit.getId());
+            dto.setAddressText(rs.getString(2));
+            dto.setRegionName(rs.getString(3));
+            dto.setLatitude(rs.getDouble(4));
+            dto.setLongitude(rs.getDouble(5));
+            dto.setDistanceMeters(Math.round(hit.getDistanceMeters()));
+            dto.setProjectStatuses(hit.getStatuses().stream().filter(status -> !status.isEmpty()).toList());
+            details.put(hit.getId(), dto);
+        });
+
+        // Keep the distance order; addresses deleted in the meantime are dropped
+        return hitsById.keySet().stream()
+                .map(details::get)
+                .filter(dto -> dto != null)
+                .toList();
+    }
+
+    /**
+     * Reloads addresses into the index, e.g. after they were created, deleted or
+     * geocoded or the status of one of their projects changed. Inside a transaction
+     * this takes effect after commit.
+     */
+    public void addressesChanged(Collection<Long> addressIds) {
+        if (addressIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(new HashSet<>(addressIds));
+        afterCommit(() -> refresh(ids));
+    }
+
+    /**
+     * Rebuilds the index in the background after bulk changes such as imports.
+     * Inside a transaction this happens after commit.
+     */
+    public void invalidate() {
+        afterCommit(() -> taskExecutor.execute(this::rebuild));
+    }
+
+    private void rebuild() {
+        synchronized (rebuildLock) {
+            changedDuringRebuild = ConcurrentHashMap.newKeySet();
+            long start = System.currentTimeMillis();
+            try {
+                GeoGridIndex fresh = new GeoGridIndex(cellSizeMeters);
+                load("", new MapSqlParameterSource(), fresh::put);
+                index = fresh;
+                logger.info("Built nearby-address index with {} addresses in {} ms", fresh.size(),
+                        System.currentTimeMillis() - start);
+            } catch (Exception e) {
+                logger.warn("Could not build nearby-address index: {}", e.getMessage());
+            } finally {
+                Set<Long> changed = changedDuringRebuild;
+                changedDuringRebuild = null;
+                if (!changed.isEmpty()) {
+                    refresh(List.copyOf(changed));
+                }
+            }
+        }
+    }
+
+    private void refresh(List<Long> ids) {
+        Set<Long> pending = changedDuringRebuild;
+        if (pending != null) {
+            pending.addAll(ids); // Applied to the new index once it is in place
+        }
+        GeoGridIndex current = index;
+        for (int i = 0; i < ids.size(); i += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(i, Math.min(i + LOOKUP_CHUNK_SIZE, ids.size()));
+            Set<Long> found = new HashSet<>();
+            load(" AND a.id IN (:ids)", new MapSqlParameterSource("ids", chunk),
+                    (id, latitude, longitude, statuses) -> {
+                        current.put(id, latitude, longitude, statuses);
+                        found.add(id);
+                    });
+            for (Long id : chunk) {
+                if (!found.contains(id)) {
+                    current.remove(id); // Deleted or no longer geocoded
+                }
+            }
+        }
+    }
+
+    // Streams the rows in id order and hands over each address with the statuses of its projects
+    private void load(String condition, MapSqlParameterSource parameters, AddressConsumer consumer) {
+        long[] currentId = { NO_ID };
+        double[] coordinates = new double[2];
+        List<String> statuses = new ArrayList<>();
+        namedJdbcTemplate.query(INDEX_SOURCE_SQL + condition + " ORDER BY a.id", parameters, rs -> {
+            long id = rs.getLong(1);
+            if (id != currentId[0]) {
+                if (currentId[0] != NO_ID) {
+                    consumer.accept(currentId[0], coordinates[0], coordinates[1], statuses);
+                }
+                currentId[0] = id;
+                coordinates[0] = rs.getDouble(2);
+                coordinates[1] = rs.getDouble(3);
+                statuses.clear();
+            }
+            rs.getLong(4);
+            if (!rs.wasNull()) {
+                String status = rs.getString(5);
+                statuses.add(status != null ? status : "");
+            }
+        });
+        if (currentId[0] != NO_ID) {
+            consumer.accept(currentId[0], coordinates[0], coordinates[1], statuses);
+        }
+    }
+
+    private static Predicate<Set<String>> filter(Collection<String> statuses, Collection<String> closedStatuses) {
+        Set<String> wanted = normalize(statuses);
+        Set<String> closed = normalize(closedStatuses);
+        if (wanted.isEmpty() && closed.isEmpty()) {
+            return null;
+        }
+        return projectStatuses -> (wanted.isEmpty() || projectStatuses.stream().anyMatch(wanted::contains))
+                && (closed.isEmpty() || projectStatuses.isEmpty()
+                        || projectStatuses.stream().anyMatch(status -> !closed.contains(status)));
+    }
+
+    private static Set<String> normalize(Collection<String> statuses) {
+        Set<String> result = new HashSet<>();
+        if (statuses != null) {
+            for (String status : statuses) {
+                if (status != null && !status.isBlank()) {
+                    result.add(status.trim());
+                }
+            }
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface AddressConsumer {
+        void accept(long id, double latitude, double longitude, List<String> statuses);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.dto.NoteDto;
+import com.simplesalesman.dto.PageDto;
+import com.simplesalesman.entity.Note;
+import com.simplesalesman.mapper.NoteMapper;
+import com.simplesalesman.repository.NoteRepository;
+import com.simplesalesman.util.NoteTextIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text search over note texts, e.g. for "kein Interesse" or "Rückruf".
+ *
+ * Keeps a {@link NoteTextIndex} in memory that is built once at startup and then
+ * updated incrementally by {@link NoteService} when notes are added, edited or
+ * deleted. Queries therefore never scan the note table; only the notes of the
+ * requested result page are loaded.
+ *
+ * Changes made inside a transaction reach the index after commit, so the index
+ * never contains rolled-back texts. Bulk changes (e.g. deleting an address with
+ * its notes) mark the index as outdated; it is rebuilt on the next search.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Service
+public class NoteSearchService implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(NoteSearchService.class);
+
+    private static final String INDEX_SOURCE_SQL = "SELECT id, text FROM note";
+
+    private final NoteRepository noteRepository;
+    private final NoteMapper noteMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${simplesalesman.pagination.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${simplesalesman.pagination.max-size:500}")
+    private int maxPageSize;
+
+    private volatile NoteTextIndex index = new NoteTextIndex();
+    private volatile boolean indexStale = true;
+
+    public NoteSearchService(NoteRepository noteRepository, NoteMapper noteMapper, JdbcTemplate jdbcTemplate) {
+        this.noteRepository = noteRepository;
+        this.noteMapper = noteMapper;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuildIndex();
+    }
+
+    /**
+     * Searches note texts.
+     *
+     * @param query words (all must occur) and quoted phrases, e.g. {@code "kein Interesse" rückruf}
+     * @param page  zero-based page number
+     * @param size  page size, or null for the configured default
+     * @return one page of notes with their address, best hits first
+     * @throws IllegalArgumentException for an empty query or invalid paging parameters
+     */
+    @Transactional(readOnly = true)
+    public PageDto<NoteDto> search(String query, int page, Integer size) {
+        List<List<String>> clauses = NoteTextIndex.parseQuery(query);
+        if (clauses.isEmpty()) {
+            throw new IllegalArgumentException("Suchbegriff darf nicht leer sein");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Seite muss >= 0 sein");
+        }
+        if (size != null && size < 1) {
+            throw new IllegalArgumentException("Seitengröße muss >= 1 sein");
+        }
+        int pageSize = size != null ? Math.min(size, maxPageSize) : defaultPageSize;
+
+        if (indexStale) {
+            rebuildIndex();
+        }
+        List<NoteTextIndex.Hit> hits = index.search(clauses);
+
+        List<Long> pageIds = hits.stream()
+                .skip((long) page * pageSize)
+                .limit(pageSize)
+                .map(NoteTextIndex.Hit::getId)
+                .collect(Collectors.toList());
+        Map<Long, Note> notes = pageIds.isEmpty() ? Map.of()
+                : noteRepository.findWithAddressByIdIn(pageIds).stream()
+                        .collect(Collectors.toMap(Note::getId, Function.identity()));
+
+        PageDto<NoteDto> dto = new PageDto<>();
+        // Keep the ranking; notes deleted in the meantime are dropped
+        dto.setContent(pageIds.stream()
+                .map(notes::get)
+                .filter(note -> note != null)
+                .map(noteMapper::toDto)
+                .collect(Collectors.toList()));
+        dto.setSize(pageSize);
+        dto.setPage(page);
+        dto.setTotalElements((long) hits.size());
+        dto.setTotalPages((hits.size() + pageSize - 1) / pageSize);
+        return dto;
+    }
+
+    /**
+     * Adds or updates a note in the index.
+     */
+    public void noteSaved(Note note) {
+        if (note.getId() != null) {
+            long id = note.getId();
+            String text = note.getText();
+            afterCommit(() -> update(target -> target.put(id, text)));
+        }
+    }
+
+    /**
+     * Removes a note from the index.
+     */
+    public void noteDeleted(Long id) {
+        afterCommit(() -> update(target -> target.remove(id)));
+    }
+
+    /**
+     * Marks the index as outdated after bulk changes; it is rebuilt on the next search.
+     */
+    public void invalidate() {
+        afterCommit(() -> indexStale = true);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Synchronized with the rebuild, so no change is applied to an index about to be replaced
+    private synchronized void update(Consumer<NoteTextIndex> change) {
+        change.accept(index);
+    }
+
+    private synchronized void rebuildIndex() {
+        if (!indexStale) {
+            return;
+        }
+        indexStale = false; // Set first: invalidations during the rebuild trigger another one
+        long start = System.currentTimeMillis();
+        NoteTextIndex rebuilt = new NoteTextIndex();
+        try {
+            jdbcTemplate.query(INDEX_SOURCE_SQL, rs -> {
+                rebuilt.put(rs.getLong(1), rs.getString(2));
+            });
+            index = rebuilt;
+            logger.info("Built note search index with {} notes in {} ms",
+                    rebuilt.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            indexStale = true;
+            logger.warn("Could not build note search index: {}", e.getMessage());
+        }
+    }
+}
@@ -1,40 +1,117 @@
 package com.simplesalesman.service;
 
+import com.simplesalesman.dto.ChangeEventDto;
+import com.simplesalesman.dto.NoteBatchItemDto;
+import com.simplesalesman.dto.NoteBatchItemResultDto;
+import com.simplesalesman.dto.NoteBatchResultDto;
 import com.simplesalesman.dto.NoteDto;
+import com.simplesalesman.dto.PageDto;
 import com.simplesalesman.entity.Address;
 import com.simplesalesman.entity.Note;
+import com.simplesalesman.entity.Tombstone;
 import com.simplesalesman.mapper.NoteMapper;
 import com.simplesalesman.repository.AddressRepository;
 import com.simplesalesman.repository.NoteRepository;
+import com.simplesalesman.util.TableQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class NoteService {
 
+    private static final Logger logger = LoggerFactory.getLogger(NoteService.class);
+
+    private static final int MAX_TEXT_LENGTH = 2000;
+    private static final int MAX_CLIENT_ID_LENGTH = 64;
+
+    // Keeps the bind parameters of the lookup queries well below database limits
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    // Table sort fields of the GUI -> entity paths (a = address alias of the page queries)
+    private static final Map<String, List<String>> SORT_FIELDS = Map.of(
+            "id", List.of("id"),
+            "createdAt", List.of("createdAt"),
+            "createdBy", List.of("createdBy"),
+            "text", List.of("text"),
+            "address", List.of("a.addressText"));
+
     private final NoteRepository noteRepository;
     private final AddressRepository addressRepository;
     private final NoteMapper noteMapper;
+    private final NoteSearchService searchService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final SyncService syncService;
+    private final ChangeEventService changeEventService;
+
+    @Value("${simplesalesman.pagination.default-size:50}")
+    private int defaultPageSize;
 
-    public NoteService(NoteRepository noteRepository, AddressRepository addressRepository, NoteMapper noteMapper) {
+    @Value("${simplesalesman.pagination.max-size:500}")
+    private int maxPageSize;
+
+    @Value("${simplesalesman.bulk.max-notes:5000}")
+    private int maxBatchNotes;
+
+    public NoteService(NoteRepository noteRepository, AddressRepository addressRepository, NoteMapper noteMapper,
+                       NoteSearchService searchService, CacheInvalidationService cacheInvalidationService,
+                       SyncService syncService, ChangeEventService changeEventService) {
         this.noteRepository = noteRepository;
         this.addressRepository = addressRepository;
         this.noteMapper = noteMapper;
+        this.searchService = searchService;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.syncService = syncService;
+        this.changeEventService = changeEventService;
     }
 
     /**
-     * Retrieves all notes in the system with their associated address information.
-     * 
-     * @return list of all NoteDto objects
+     * Retrieves one page of notes with their address information, optionally filtered and sorted.
+     *
+     * Sort fields: {@code id} (default), {@code createdAt}, {@code createdBy},
+     * {@code text} and {@code address}. The search term matches the note text,
+     * the author and the address text, case-insensitively.
+     *
+     * @param page   zero-based page number
+     * @param size   page size, or null for the configured default
+     * @param search search term, or null for all notes
+     * @param sort   sort field, or null for id
+     * @param order  "asc" (default) or "desc"
+     * @return the page including total counts
+     * @throws IllegalArgumentException for invalid paging or sort parameters
      */
-    public List<NoteDto> getAllNotes() {
-        List<Note> allNotes = noteRepository.findAll();
-        return allNotes.stream()
-                .map(noteMapper::toDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public PageDto<NoteDto> getNotePage(int page, Integer size, String search, String sort, String order) {
+        if (size != null && size < 1) {
+            throw new IllegalArgumentException("Seitengröße muss >= 1 sein");
+        }
+        int pageSize = size != null ? Math.min(size, maxPageSize) : defaultPageSize;
+        Pageable pageable = TableQuery.pageable(page, pageSize, sort, order, SORT_FIELDS, "id");
+        String pattern = TableQuery.likePattern(search);
+        Page<Note> result = pattern != null
+                ? noteRepository.searchPage(pattern, pageable)
+                : noteRepository.findPage(pageable);
+
+        PageDto<NoteDto> dto = new PageDto<>();
+        dto.setContent(result.getContent().stream().map(noteMapper::toDto).collect(Collectors.toList()));
+        dto.setSize(pageSize);
+        dto.setPage(page);
+        dto.setTotalElements(result.getTotalElements());
+        dto.setTotalPages(result.getTotalPages());
+        return dto;
     }
 
     /**
@@ -70,7 +147,113 @@ public class NoteService {
         note.setCreatedBy(createdBy);
         note.setAddress(address);
 
-        noteRepository.save(note);
+        Note saved = noteRepository.save(note);
+        searchService.noteSaved(saved);
+        cacheInvalidationService.evictAddress(addressId);
+        publish(ChangeEventDto.Type.NOTE_CREATED, saved);
+    }
+
+    /**
+     * Stores a batch of notes across many addresses, e.g. replayed by a client
+     * that was offline.
+     *
+     * The upload is idempotent: notes are identified by their client id, and a
+     * note whose client id is already stored (or occurs earlier in the batch) is
+     * reported as duplicate instead of stored again. Invalid notes and notes for
+     * unknown addresses are rejected individually; the rest is stored.
+     *
+     * All existing client ids and address ids are checked with one query per
+     * chunk of ids, and the notes are inserted with JDBC batching in one transaction.
+     *
+     * @param items notes to store
+     * @return outcome per note in upload order
+     * @throws IllegalArgumentException for an empty or too large batch
+     */
+    @Transactional
+    public NoteBatchResultDto addNotes(List<NoteBatchItemDto> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Keine Notizen übergeben");
+        }
+        if (items.size() > maxBatchNotes) {
+            throw new IllegalArgumentException("Zu viele Notizen: " + items.size() + ", maximal "
+                    + maxBatchNotes + " pro Anfrage");
+        }
+        long start = System.currentTimeMillis();
+
+        Set<String> clientIds = new HashSet<>();
+        Set<Long> addressIds = new HashSet<>();
+        for (NoteBatchItemDto item : items) {
+            if (isValid(item)) {
+                clientIds.add(item.getClientId());
+                addressIds.add(item.getAddressId());
+            }
+        }
+        Map<String, Long> storedIds = new HashMap<>();
+        for (List<String> chunk : chunks(clientIds)) {
+            for (Object[] row : noteRepository.findIdsByClientIdIn(chunk)) {
+                storedIds.put((String) row[0], (Long) row[1]);
+            }
+        }
+        Map<Long, String> regionByAddress = new HashMap<>(); // Existing addresses only
+        for (List<Long> chunk : chunks(addressIds)) {
+            for (Object[] row : addressRepository.findRegionNamesByIdIn(chunk)) {
+                regionByAddress.put((Long) row[0], (String) row[1]);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Note> notes = new ArrayList<>();
+        Map<String, Note> notesByClientId = new HashMap<>();
+        List<NoteBatchItemResultDto> results = new ArrayList<>(items.size());
+        for (NoteBatchItemDto item : items) {
+            String clientId = item != null ? item.getClientId() : null;
+            if (!isValid(item)) {
+                results.add(new NoteBatchItemResultDto(clientId, null, NoteBatchItemResultDto.Outcome.INVALID));
+            } else if (storedIds.containsKey(clientId) || notesByClientId.containsKey(clientId)) {
+                results.add(new NoteBatchItemResultDto(clientId, storedIds.get(clientId),
+                        NoteBatchItemResultDto.Outcome.DUPLICATE));
+            } else if (!regionByAddress.containsKey(item.getAddressId())) {
+                results.add(new NoteBatchItemResultDto(clientId, null,
+                        NoteBatchItemResultDto.Outcome.ADDRESS_NOT_FOUND));
+            } else {
+                Note note = new Note();
+                note.setClientId(clientId);
+                note.setText(item.getText());
+                note.setCreatedAt(item.getCreatedAt() != null ? item.getCreatedAt() : now);
+                note.setCreatedBy(item.getCreatedBy());
+                note.setAddress(addressRepository.getReferenceById(item.getAddressId()));
+                notes.add(note);
+                notesByClientId.put(clientId, note);
+                results.add(new NoteBatchItemResultDto(clientId, null, NoteBatchItemResultDto.Outcome.CREATED));
+            }
+        }
+
+        // Ids come from the pooled sequence; the inserts are batched at flush
+        noteRepository.saveAll(notes);
+        for (NoteBatchItemResultDto result : results) {
+            Note note = notesByClientId.get(result.getClientId());
+            if (note != null) {
+                // Duplicates within the batch point to the stored note as well
+                result.setNoteId(note.getId());
+            }
+        }
+        Set<Long> changedAddresses = new HashSet<>();
+        List<ChangeEventDto> events = new ArrayList<>(notes.size());
+        for (Note note : notes) {
+            Long addressId = note.getAddress().getId();
+            searchService.noteSaved(note);
+            changedAddresses.add(addressId);
+            events.add(ChangeEventService.noteEvent(ChangeEventDto.Type.NOTE_CREATED, note.getId(), addressId,
+                    regionByAddress.get(addressId)));
+        }
+        changedAddresses.forEach(cacheInvalidationService::evictAddress);
+        changeEventService.publish(events);
+
+        NoteBatchResultDto result = new NoteBatchResultDto(results);
+        logger.info("Note batch: {} created, {} duplicates, {} rejected in {} ms",
+                result.getCreated(), result.getDuplicates(), result.getRejected(),
+                System.currentTimeMillis() - start);
+        return result;
     }
 
     /**
@@ -84,7 +267,9 @@ public class NoteService {
         Note note = noteRepository.findById(noteId)
                 .orElseThrow(() -> new RuntimeException("Notiz nicht gefunden"));
         note.setText(newText);
-        noteRepository.save(note);
+        searchService.noteSaved(noteRepository.save(note));
+        cacheInvalidationService.evictAddress(note.getAddress() != null ? note.getAddress().getId() : null);
+        publish(ChangeEventDto.Type.NOTE_UPDATED, note);
     }
 
     /**
@@ -93,10 +278,39 @@ public class NoteService {
      * @param noteId ID of the note to delete
      * @throws RuntimeException if note does not exist
      */
+    @Transactional
     public void deleteNoteById(Long noteId) {
-        if (!noteRepository.existsById(noteId)) {
-            throw new RuntimeException("Notiz nicht gefunden");
+        Note note = noteRepository.findById(noteId)
+                .orElseThrow(() -> new RuntimeException("Notiz nicht gefunden"));
+        noteRepository.delete(note);
+        syncService.recordDeletions(Tombstone.EntityType.NOTE, List.of(noteId));
+        searchService.noteDeleted(noteId);
+        cacheInvalidationService.evictAddress(note.getAddress() != null ? note.getAddress().getId() : null);
+        publish(ChangeEventDto.Type.NOTE_DELETED, note);
+    }
+
+    private void publish(ChangeEventDto.Type type, Note note) {
+        Address address = note.getAddress();
+        changeEventService.publish(ChangeEventService.noteEvent(type, note.getId(),
+                address != null ? address.getId() : null,
+                address != null && address.getRegion() != null ? address.getRegion().getName() : null));
+    }
+
+    private static boolean isValid(NoteBatchItemDto item) {
+        return item != null
+                && item.getClientId() != null && !item.getClientId().isBlank()
+                && item.getClientId().length() <= MAX_CLIENT_ID_LENGTH
+                && item.getAddressId() != null
+                && item.getText() != null && !item.getText().trim().isEmpty()
+                && item.getText().length() <= MAX_TEXT_LENGTH;
+    }
+
+    private static <T> List<List<T>> chunks(Set<T> values) {
+        List<T> list = new ArrayList<>(values);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += LOOKUP_CHUNK_SIZE) {
+            chunks.add(list.subList(i, Math.min(i + LOOKUP_CHUNK_SIZE, list.size())));
         }
-        noteRepository.deleteById(noteId);
+        return chunks;
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,33 @@
 package com.simplesalesman.service;
 
+import com.simplesalesman.config.CacheConfig;
+import com.simplesalesman.dto.BulkStatusUpdateDto;
+import com.simplesalesman.dto.BulkStatusUpdateResultDto;
+import com.simplesalesman.dto.ChangeEventDto;
 import com.simplesalesman.dto.ProjectDto;
+import com.simplesalesman.dto.ProjectStatusResultDto;
 import com.simplesalesman.dto.StatusUpdateDto;
+import com.simplesalesman.entity.Address;
 import com.simplesalesman.entity.Project;
 import com.simplesalesman.exception.ProjectNotFoundException;
 import com.simplesalesman.mapper.ProjectMapper;
 import com.simplesalesman.repository.ProjectRepository;
+import com.simplesalesman.util.AddressNormalizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -20,7 +39,19 @@ import java.util.stream.Collectors;
  * Key Responsibilities:
  * - List all projects in the system
  * - Retrieve specific projects by ID
- * - Read and update project status
+ * - Read and update project status, one by one or in bulk
+ *
+ * Bulk status updates:
+ * - Run in one transaction as set-based {@code UPDATE ... WHERE id IN (...)}
+ *   statements, one per target status and chunk of {@value #BULK_CHUNK_SIZE} ids
+ * - Projects are not loaded as entities; ids are classified with one
+ *   projection query per chunk
+ * - The number of projects per request is limited by
+ *   {@code simplesalesman.bulk.max-status-updates}
+ *
+ * Caching:
+ * - Single projects and their status are cached (see {@link CacheConfig});
+ *   status updates evict the project and the address showing it
  *
  * Error Handling:
  * - Throws {@link ProjectNotFoundException} when a project is not found
@@ -28,23 +59,45 @@ import java.util.stream.Collectors;
  * Dependencies:
  * - {@link ProjectRepository} for persistence operations
  * - {@link ProjectMapper} for entity <-> DTO mapping
+ * - {@link CacheInvalidationService} for cache eviction on writes
+ * - {@link ChangeEventService} to push status changes to the event stream
+ * - {@link NearbyAddressService} to keep the project statuses of the nearby index current
  *
  * Usage:
  * - Called by {@code ProjectController} to expose REST endpoints
  *
  * Author: SimpleSalesman Team  
- * @version 0.0.6  
+ * @version 0.1.0  
  * @since 0.0.5
  */
 @Service
 public class ProjectService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ProjectService.class);
+
+    // Keeps the bind parameters per statement well below database limits
+    private static final int BULK_CHUNK_SIZE = 1000;
+
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final DataVersionService dataVersionService;
+    private final ChangeEventService changeEventService;
+    private final NearbyAddressService nearbyAddressService;
 
-    public ProjectService(ProjectRepository projectRepository, ProjectMapper projectMapper) {
+    @Value("${simplesalesman.bulk.max-status-updates:10000}")
+    private int maxBulkStatusUpdates;
+
+    public ProjectService(ProjectRepository projectRepository, ProjectMapper projectMapper,
+                          CacheInvalidationService cacheInvalidationService,
+                          DataVersionService dataVersionService, ChangeEventService changeEventService,
+                          NearbyAddressService nearbyAddressService) {
         this.projectRepository = projectRepository;
         this.projectMapper = projectMapper;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.dataVersionService = dataVersionService;
+        this.changeEventService = changeEventService;
+        this.nearbyAddressService = nearbyAddressService;
     }
 
     /**
@@ -66,6 +119,7 @@ public class ProjectService {
      * @return ProjectDto with detailed information
      * @throws ProjectNotFoundException if project is not found
      */
+    @Cacheable(cacheNames = CacheConfig.PROJECTS, key = "#id")
     public ProjectDto getProjectById(Long id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ProjectNotFoundException("Projekt mit ID " + id + " nicht gefunden"));
@@ -79,6 +133,7 @@ public class ProjectService {
      * @return the status string of the project
      * @throws ProjectNotFoundException if project is not found
      */
+    @Cacheable(cacheNames = CacheConfig.PROJECT_STATUS, key = "#id", unless = "#result == null")
     public String getProjectStatusById(Long id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ProjectNotFoundException("Projekt mit ID " + id + " nicht gefunden"));
@@ -97,5 +152,144 @@ public class ProjectService {
 
         project.setStatus(statusUpdateDto.getNewStatus());
         projectRepository.save(project);
+        Address address = project.getAddress();
+        cacheInvalidationService.evictProject(project.getId(), address != null ? address.getId() : null);
+        if (address != null) {
+            nearbyAddressService.addressesChanged(List.of(address.getId()));
+        }
+        changeEventService.publish(ChangeEventService.projectStatusEvent(project.getId(),
+                address != null ? address.getId() : null,
+                address != null && address.getRegion() != null ? address.getRegion().getName() : null,
+                project.getStatus()));
+    }
+
+    /**
+     * Updates the status of many projects in one transaction.
+     *
+     * Either {@code updates} lists the new status per project, or all projects
+     * matching the filter fields get {@code newStatus}. Projects that already have
+     * the requested status are reported as unchanged and not written. If a project
+     * id occurs several times in the list, the last entry wins.
+     *
+     * @param request list of updates, or filter plus new status
+     * @return outcome per project in request order (filter mode: by project id)
+     * @throws IllegalArgumentException for an invalid request or too many projects
+     */
+    @Transactional
+    public BulkStatusUpdateResultDto updateStatuses(BulkStatusUpdateDto request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Anfrage darf nicht leer sein");
+        }
+        long start = System.currentTimeMillis();
+        boolean listMode = request.getUpdates() != null && !request.getUpdates().isEmpty();
+
+        Map<Long, String> targetStatus = new LinkedHashMap<>();
+        Map<Long, Object[]> rows = new HashMap<>();
+        if (listMode) {
+            if (request.getNewStatus() != null || hasFilter(request)) {
+                throw new IllegalArgumentException("Entweder Liste von Änderungen oder Filter mit neuem Status angeben");
+            }
+            for (StatusUpdateDto update : request.getUpdates()) {
+                if (update == null || update.getProjectId() == null) {
+                    throw new IllegalArgumentException("Projekt-ID darf nicht leer sein");
+                }
+                targetStatus.put(update.getProjectId(), requireStatus(update.getNewStatus()));
+            }
+            checkSize(targetStatus.size());
+            List<Long> ids = new ArrayList<>(targetStatus.keySet());
+            for (int i = 0; i < ids.size(); i += BULK_CHUNK_SIZE) {
+                for (Object[] row : projectRepository.findStatusRowsByIdIn(
+                        ids.subList(i, Math.min(i + BULK_CHUNK_SIZE, ids.size())))) {
+                    rows.put((Long) row[0], row);
+                }
+            }
+        } else {
+            String newStatus = requireStatus(request.getNewStatus());
+            if (!hasFilter(request)) {
+                throw new IllegalArgumentException("Mindestens ein Filter oder eine Liste von Änderungen ist erforderlich");
+            }
+            String streetKey = isBlank(request.getStreet()) ? null
+                    : AddressNormalizer.normalize(request.getStreet()).getStreet();
+            List<Object[]> matches = projectRepository.findStatusRowsByFilter(
+                    blankToNull(request.getRegionName()), blankToNull(request.getPostalCode()),
+                    streetKey, blankToNull(request.getCurrentStatus()));
+            checkSize(matches.size());
+            for (Object[] row : matches) {
+                targetStatus.put((Long) row[0], newStatus);
+                rows.put((Long) row[0], row);
+            }
+        }
+
+        // Group the changing ids by target status: one UPDATE per status and chunk
+        Map<String, List<Long>> idsByStatus = new LinkedHashMap<>();
+        List<ProjectStatusResultDto> results = new ArrayList<>(targetStatus.size());
+        targetStatus.forEach((id, status) -> {
+            Object[] row = rows.get(id);
+            if (row == null) {
+                results.add(new ProjectStatusResultDto(id, ProjectStatusResultDto.Outcome.NOT_FOUND, null));
+            } else if (Objects.equals(row[2], status)) {
+                results.add(new ProjectStatusResultDto(id, ProjectStatusResultDto.Outcome.UNCHANGED, status));
+            } else {
+                idsByStatus.computeIfAbsent(status, key -> new ArrayList<>()).add(id);
+                results.add(new ProjectStatusResultDto(id, ProjectStatusResultDto.Outcome.UPDATED, status));
+            }
+        });
+
+        int updated = 0;
+        List<ChangeEventDto> events = new ArrayList<>();
+        Set<Long> addressIds = new HashSet<>();
+        for (Map.Entry<String, List<Long>> entry : idsByStatus.entrySet()) {
+            List<Long> ids = entry.getValue();
+            for (int i = 0; i < ids.size(); i += BULK_CHUNK_SIZE) {
+                updated += projectRepository.updateStatusByIdIn(
+                        ids.subList(i, Math.min(i + BULK_CHUNK_SIZE, ids.size())), entry.getKey());
+            }
+            for (Long id : ids) {
+                Object[] row = rows.get(id);
+                cacheInvalidationService.evictProject(id, (Long) row[1]);
+                if (row[1] != null) {
+                    addressIds.add((Long) row[1]);
+                }
+                events.add(ChangeEventService.projectStatusEvent(id, (Long) row[1], (String) row[3], entry.getKey()));
+            }
+        }
+        if (updated > 0) {
+            dataVersionService.changed(DataVersionService.Table.PROJECT); // Bulk UPDATE bypasses Hibernate events
+        }
+        changeEventService.publish(events);
+        nearbyAddressService.addressesChanged(addressIds);
+
+        BulkStatusUpdateResultDto result = new BulkStatusUpdateResultDto(results);
+        logger.info("Bulk status update: {} updated ({} rows), {} unchanged, {} not found in {} ms",
+                result.getUpdated(), updated, result.getUnchanged(), result.getNotFound(),
+                System.currentTimeMillis() - start);
+        return result;
+    }
+
+    private void checkSize(int count) {
+        if (count > maxBulkStatusUpdates) {
+            throw new IllegalArgumentException("Zu viele Projekte: " + count + ", maximal "
+                    + maxBulkStatusUpdates + " pro Anfrage");
+        }
+    }
+
+    private static boolean hasFilter(BulkStatusUpdateDto request) {
+        return !isBlank(request.getRegionName()) || !isBlank(request.getPostalCode())
+                || !isBlank(request.getStreet()) || !isBlank(request.getCurrentStatus());
+    }
+
+    private static String requireStatus(String status) {
+        if (isBlank(status)) {
+            throw new IllegalArgumentException("Neuer Status darf nicht leer sein");
+        }
+        return status;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String blankToNull(String value) {
+        return isBlank(value) ? null : value.trim();
     }
 }
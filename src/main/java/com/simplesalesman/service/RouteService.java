@@ -0,0 +1,146 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.dto.RouteDto;
+import com.simplesalesman.dto.RouteRequestDto;
+import com.simplesalesman.dto.RouteStopDto;
+import com.simplesalesman.repository.AddressRepository;
+import com.simplesalesman.util.RouteOptimizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plans door-to-door routes through a set of addresses.
+ *
+ * The addresses are read with one projection query per chunk of ids; the visiting
+ * order of the geocoded ones is computed by {@link RouteOptimizer} with
+ * {@code simplesalesman.routes.parallel-runs} parallel runs (0: one per CPU core)
+ * and at most {@code simplesalesman.routes.time-limit-ms} of local search.
+ * Addresses without coordinates are returned separately in street order, so reps
+ * can still fit them in by hand.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Service
+public class RouteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RouteService.class);
+
+    // Keeps the bind parameters of the lookup queries well below database limits
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final AddressRepository addressRepository;
+
+    @Value("${simplesalesman.routes.max-stops:5000}")
+    private int maxStops;
+
+    @Value("${simplesalesman.routes.parallel-runs:0}")
+    private int parallelRuns;
+
+    @Value("${simplesalesman.routes.time-limit-ms:800}")
+    private long timeLimitMillis;
+
+    public RouteService(AddressRepository addressRepository) {
+        this.addressRepository = addressRepository;
+    }
+
+    /**
+     * Plans a route from the start point through the requested addresses.
+     *
+     * @param request address ids and start point
+     * @return geocoded addresses in visiting order, plus unlocated and unknown ids
+     * @throws IllegalArgumentException for a missing start point, no or too many addresses
+     */
+    @Transactional(readOnly = true)
+    public RouteDto planRoute(RouteRequestDto request) {
+        if (request == null || request.getAddressIds() == null || request.getAddressIds().isEmpty()) {
+            throw new IllegalArgumentException("Keine Adressen übergeben");
+        }
+        Double startLatitude = request.getStartLatitude();
+        Double startLongitude = request.getStartLongitude();
+        if (startLatitude == null || startLongitude == null
+                || Math.abs(startLatitude) > 90 || Math.abs(startLongitude) > 180) {
+            throw new IllegalArgumentException("Gültiger Startpunkt (Breite, Länge) ist erforderlich");
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Long id : request.getAddressIds()) {
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        if (ids.size() > maxStops) {
+            throw new IllegalArgumentException("Zu viele Adressen: " + ids.size() + ", maximal "
+                    + maxStops + " pro Route");
+        }
+        long start = System.currentTimeMillis();
+
+        Map<Long, Object[]> rows = new HashMap<>();
+        List<Long> idList = new ArrayList<>(ids);
+        for (int i = 0; i < idList.size(); i += LOOKUP_CHUNK_SIZE) {
+            for (Object[] row : addressRepository.findRouteRowsByIdIn(
+                    idList.subList(i, Math.min(i + LOOKUP_CHUNK_SIZE, idList.size())))) {
+                rows.put((Long) row[0], row);
+            }
+        }
+
+        List<Object[]> located = new ArrayList<>();
+        List<Object[]> unlocated = new ArrayList<>();
+        List<Long> notFound = new ArrayList<>();
+        for (Long id : ids) {
+            Object[] row = rows.get(id);
+            if (row == null) {
+                notFound.add(id);
+            } else if (row[2] == null || row[3] == null) {
+                unlocated.add(row);
+            } else {
+                located.add(row);
+            }
+        }
+
+        double[] latitudes = new double[located.size()];
+        double[] longitudes = new double[located.size()];
+        for (int i = 0; i < located.size(); i++) {
+            latitudes[i] = (Double) located.get(i)[2];
+            longitudes[i] = (Double) located.get(i)[3];
+        }
+        int runs = parallelRuns > 0 ? parallelRuns : Runtime.getRuntime().availableProcessors();
+        RouteOptimizer.Route route = new RouteOptimizer(runs, timeLimitMillis)
+                .optimize(startLatitude, startLongitude, latitudes, longitudes);
+
+        int[] order = route.getOrder();
+        double[] legs = route.getLegs();
+        List<RouteStopDto> stops = new ArrayList<>(order.length);
+        for (int i = 0; i < order.length; i++) {
+            Object[] row = located.get(order[i]);
+            stops.add(new RouteStopDto((Long) row[0], (String) row[1], latitudes[order[i]], longitudes[order[i]],
+                    Math.round(legs[i])));
+        }
+        unlocated.sort(Comparator
+                .comparing((Object[] row) -> (String) row[4], Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(row -> (Integer) row[5], Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(row -> (Long) row[0]));
+
+        RouteDto dto = new RouteDto();
+        dto.setStops(stops);
+        dto.setTotalDistanceMeters(Math.round(route.getLength()));
+        dto.setUnlocatedAddressIds(unlocated.stream().map(row -> (Long) row[0]).toList());
+        dto.setNotFoundAddressIds(notFound);
+        dto.setComputeTimeMs(System.currentTimeMillis() - start);
+        logger.info("Planned route through {} addresses ({} unlocated, {} not found) with {} runs: {} m in {} ms",
+                stops.size(), unlocated.size(), notFound.size(), runs, dto.getTotalDistanceMeters(),
+                dto.getComputeTimeMs());
+        return dto;
+    }
+}
@@ -0,0 +1,293 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.entity.Address;
+import com.simplesalesman.entity.Note;
+import com.simplesalesman.entity.Project;
+import com.simplesalesman.entity.Tombstone;
+import com.simplesalesman.mapper.AddressMapper;
+import com.simplesalesman.mapper.NoteMapper;
+import com.simplesalesman.mapper.ProjectMapper;
+import com.simplesalesman.repository.AddressRepository;
+import com.simplesalesman.repository.NoteRepository;
+import com.simplesalesman.repository.ProjectRepository;
+import com.simplesalesman.repository.TombstoneRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Delta sync of addresses, projects and notes for clients that keep a local copy.
+ *
+ * Change tracking (PostgreSQL 13+):
+ * - A trigger installed at startup stamps {@code change_version} of every inserted
+ *   or updated address, project, note and tombstone with the id of the writing
+ *   transaction ({@code pg_current_xact_id()}). It covers every writer: JPA, bulk
+ *   UPDATEs, the COPY import and the geocoding batches.
+ * - Deletions are recorded as {@link Tombstone}s by the services deleting them.
+ * - A sync reads one REPEATABLE READ snapshot and returns everything with a change
+ *   version at or above the client's watermark, using the {@code change_version} indexes.
+ *
+ * Watermark:
+ * - The returned watermark is the oldest transaction still running when the snapshot
+ *   was taken ({@code pg_snapshot_xmin}). Every transaction below it has ended, so its
+ *   changes are part of this sync or were rolled back. Changes of transactions at or
+ *   above it are delivered by the next sync, however long these transactions run;
+ *   clients may thus receive a change twice, but never miss one
+ * - Without a watermark, or with one below the oldest retained tombstone, the sync
+ *   is a full sync and the client replaces its local copy
+ * - Other databases (H2) have no change tracking: every sync is a full sync
+ *
+ * The sync is streamed from database cursors to a {@link SyncSink}, so memory use
+ * does not depend on the amount of data.
+ *
+ * Tombstones older than {@code simplesalesman.sync.tombstone-retention} are pruned
+ * daily. The newest pruned one is kept as a marker, so watermarks from before the
+ * pruned deletions are recognized.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Service
+public class SyncService implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncService.class);
+
+    private static final int CHUNK_SIZE = 500; // Entities mapped between two persistence context clears
+
+    private static final String[] CHANGE_TRACKING_SETUP_SQL = {
+        """
+        CREATE OR REPLACE FUNCTION sync_change_version() RETURNS trigger AS $$
+        BEGIN
+            NEW.change_version := pg_current_xact_id()::text::bigint;
+            RETURN NEW;
+        END
+        $$ LANGUAGE plpgsql
+        """,
+        """
+        DO $$
+        DECLARE
+            t text;
+        BEGIN
+            FOREACH t IN ARRAY ARRAY['address', 'project', 'note', 'tombstone'] LOOP
+                BEGIN
+                    EXECUTE format('CREATE TRIGGER %I BEFORE INSERT OR UPDATE ON %I '
+                        || 'FOR EACH ROW EXECUTE FUNCTION sync_change_version()', t || '_change_version', t);
+                EXCEPTION WHEN duplicate_object THEN
+                    NULL; -- Created by an earlier start
+                END;
+            END LOOP;
+        END
+        $$
+        """
+    };
+
+    // Oldest transaction still running; everything below it is committed or rolled back
+    private static final String WATERMARK_SQL = "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final AddressRepository addressRepository;
+    private final ProjectRepository projectRepository;
+    private final NoteRepository noteRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final AddressMapper addressMapper;
+    private final ProjectMapper projectMapper;
+    private final NoteMapper noteMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${simplesalesman.sync.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    private volatile boolean changeTracking;
+
+    public SyncService(DataSource dataSource, JdbcTemplate jdbcTemplate,
+                       AddressRepository addressRepository, ProjectRepository projectRepository,
+                       NoteRepository noteRepository, TombstoneRepository tombstoneRepository,
+                       AddressMapper addressMapper, ProjectMapper projectMapper, NoteMapper noteMapper) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.addressRepository = addressRepository;
+        this.projectRepository = projectRepository;
+        this.noteRepository = noteRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.addressMapper = addressMapper;
+        this.projectMapper = projectMapper;
+        this.noteMapper = noteMapper;
+    }
+
+    /**
+     * Receives a sync as it is read from the database.
+     */
+    public interface SyncSink {
+
+        /**
+         * Called once, before the sections.
+         *
+         * @param watermark value to pass as {@code since} on the next sync, or null without change tracking
+         * @param full      true if the client replaces its local copy
+         */
+        void begin(Long watermark, boolean full);
+
+        /**
+         * Called once per section, in the order addresses, projects, notes,
+         * deletedAddressIds, deletedProjectIds, deletedNoteIds. A full sync has
+         * no deletion sections.
+         *
+         * @param name  name of the section
+         * @param items DTOs or ids of the section; only valid during the call
+         */
+        void section(String name, Stream<?> items);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        changeTracking = isPostgres() && installChangeTracking();
+        if (changeTracking) {
+            logger.info("Delta sync uses transaction ids as change versions");
+        } else {
+            logger.info("Delta sync has no change tracking; every sync is a full sync");
+        }
+    }
+
+    /**
+     * Streams all changes since the given watermark to the sink.
+     *
+     * @param since watermark of the previous sync, or null for a full sync
+     * @param sink  receives the watermark and the changes
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void streamChanges(Long since, SyncSink sink) {
+        long start = System.currentTimeMillis();
+        // First statement, so the watermark belongs to the snapshot all queries read
+        Long watermark = changeTracking ? jdbcTemplate.queryForObject(WATERMARK_SQL, Long.class) : null;
+        boolean full = since == null || watermark == null || isBeforeRetainedDeletions(since);
+        Long from = full ? null : since;
+
+        sink.begin(watermark, full);
+        try (Stream<Address> addresses = addressRepository.streamChangedSince(from)) {
+            sink.section("addresses", mapDetached(addresses, addressMapper::toSummaryDto));
+        }
+        try (Stream<Project> projects = projectRepository.streamChangedSince(from)) {
+            sink.section("projects", mapDetached(projects, projectMapper::toDto));
+        }
+        try (Stream<Note> notes = noteRepository.streamChangedSince(from)) {
+            sink.section("notes", mapDetached(notes, noteMapper::toDto));
+        }
+
+        if (!full) {
+            List<Long> addresses = new ArrayList<>();
+            List<Long> projects = new ArrayList<>();
+            List<Long> notes = new ArrayList<>();
+            for (Object[] row : tombstoneRepository.findDeletedSince(from)) {
+                Long id = (Long) row[1];
+                switch ((Tombstone.EntityType) row[0]) {
+                    case ADDRESS -> addresses.add(id);
+                    case PROJECT -> projects.add(id);
+                    case NOTE -> notes.add(id);
+                }
+            }
+            sink.section("deletedAddressIds", addresses.stream());
+            sink.section("deletedProjectIds", projects.stream());
+            sink.section("deletedNoteIds", notes.stream());
+        }
+
+        logger.debug("Sync since {} (full={}, watermark={}) in {} ms", since, full, watermark,
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Records deleted entities for the delta sync. Must be called in the
+     * transaction that deletes them.
+     *
+     * @param type kind of the deleted entities
+     * @param ids  ids of the deleted entities
+     */
+    public void recordDeletions(Tombstone.EntityType type, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        tombstoneRepository.saveAll(ids.stream()
+                .map(id -> new Tombstone(type, id, now))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Removes tombstones older than the retention; clients with an older
+     * watermark get a full sync anyway.
+     *
+     * Only tombstones below the oldest retained change version are removed, and
+     * the newest of them is kept as a marker: a watermark at or above the oldest
+     * remaining tombstone has then missed no pruned deletion.
+     */
+    @Scheduled(cron = "${simplesalesman.sync.tombstone-prune-cron:0 30 3 * * *}")
+    @Transactional
+    public void pruneTombstones() {
+        Instant cutoff = Instant.now().minus(tombstoneRetention);
+        Long retained = tombstoneRepository.findOldestVersionRecordedSince(cutoff);
+        Long marker = tombstoneRepository.findNewestVersionRecordedBefore(cutoff,
+                retained != null ? retained : Long.MAX_VALUE);
+        int pruned = tombstoneRepository.deleteRecordedBefore(cutoff, marker != null ? marker : Long.MIN_VALUE);
+        logger.info("Pruned {} sync tombstones older than {}", pruned, tombstoneRetention);
+    }
+
+    private boolean isBeforeRetainedDeletions(long since) {
+        Long oldest = tombstoneRepository.findOldestVersion();
+        return oldest != null && since < oldest;
+    }
+
+    // Maps entities as they are read and detaches them in chunks, keeping memory use flat
+    private <E, D> Stream<D> mapDetached(Stream<E> entities, Function<E, D> mapper) {
+        int[] mapped = {0};
+        return entities.map(entity -> {
+            D dto = mapper.apply(entity);
+            if (++mapped[0] % CHUNK_SIZE == 0) {
+                entityManager.clear();
+            }
+            return dto;
+        });
+    }
+
+    private boolean installChangeTracking() {
+        try {
+            for (String sql : CHANGE_TRACKING_SETUP_SQL) {
+                jdbcTemplate.execute(sql);
+            }
+            return true;
+        } catch (Exception e) {
+            logger.warn("Could not install sync change tracking, every sync is a full sync: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isPostgres() {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        } catch (Exception e) {
+            logger.warn("Could not determine database type: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.dto.TerritoryDto;
+import com.simplesalesman.dto.TerritoryPlanDto;
+import com.simplesalesman.repository.AddressRepository;
+import com.simplesalesman.repository.RegionRepository;
+import com.simplesalesman.util.TerritoryPartitioner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Splits the open addresses of a region between several reps.
+ *
+ * An address is open if it has no project or at least one project whose status is
+ * not closed. Closed statuses are given per request or default to
+ * {@code simplesalesman.territories.closed-statuses}; without any, all addresses of
+ * the region are open.
+ *
+ * The geocoded addresses are read with one projection query and divided by
+ * {@link TerritoryPartitioner} into balanced, compact territories. Addresses
+ * without coordinates are returned separately.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Service
+public class TerritoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TerritoryService.class);
+
+    private final AddressRepository addressRepository;
+    private final RegionRepository regionRepository;
+    private final TerritoryPartitioner partitioner = new TerritoryPartitioner();
+
+    @Value("${simplesalesman.territories.max-reps:100}")
+    private int maxReps;
+
+    @Value("${simplesalesman.territories.max-addresses:100000}")
+    private int maxAddresses;
+
+    @Value("${simplesalesman.territories.closed-statuses:}")
+    private List<String> defaultClosedStatuses;
+
+    public TerritoryService(AddressRepository addressRepository, RegionRepository regionRepository) {
+        this.addressRepository = addressRepository;
+        this.regionRepository = regionRepository;
+    }
+
+    /**
+     * Partitions the open addresses of a region into one territory per rep.
+     *
+     * @param regionName     name of the region
+     * @param reps           number of reps
+     * @param closedStatuses project statuses counting as closed, or null/empty for the default
+     * @return territories with their address ids, plus the unlocated address ids
+     * @throws IllegalArgumentException for an unknown region, an invalid number of reps
+     *                                  or too many addresses
+     */
+    @Transactional(readOnly = true)
+    public TerritoryPlanDto partition(String regionName, int reps, List<String> closedStatuses) {
+        if (regionName == null || regionName.isBlank()) {
+            throw new IllegalArgumentException("Region ist erforderlich");
+        }
+        if (reps < 1 || reps > maxReps) {
+            throw new IllegalArgumentException("Anzahl der Vertreter muss zwischen 1 und " + maxReps + " liegen");
+        }
+        if (regionRepository.findByName(regionName).isEmpty()) {
+            throw new IllegalArgumentException("Region nicht gefunden: " + regionName);
+        }
+        Set<String> closed = normalize(closedStatuses);
+        if (closed.isEmpty()) {
+            closed = normalize(defaultClosedStatuses);
+        }
+        long start = System.currentTimeMillis();
+
+        List<Object[]> rows = addressRepository.findTerritoryRowsByRegionName(regionName, !closed.isEmpty(),
+                closed.isEmpty() ? Set.of("") : closed);
+        if (rows.size() > maxAddresses) {
+            throw new IllegalArgumentException("Zu viele offene Adressen: " + rows.size() + ", maximal "
+                    + maxAddresses + " pro Aufteilung");
+        }
+        List<Long> locatedIds = new ArrayList<>(rows.size());
+        List<Long> unlocated = new ArrayList<>();
+        double[] latitudes = new double[rows.size()];
+        double[] longitudes = new double[rows.size()];
+        for (Object[] row : rows) {
+            if (row[1] == null || row[2] == null) {
+                unlocated.add((Long) row[0]);
+            } else {
+                latitudes[locatedIds.size()] = (Double) row[1];
+                longitudes[locatedIds.size()] = (Double) row[2];
+                locatedIds.add((Long) row[0]);
+            }
+        }
+
+        List<TerritoryDto> territories = new ArrayList<>();
+        int k = Math.min(reps, locatedIds.size());
+        int iterations = 0;
+        if (k > 0) {
+            int n = locatedIds.size();
+            TerritoryPartitioner.Partition partition = partitioner.partition(
+                    trim(latitudes, n), trim(longitudes, n), k);
+            iterations = partition.getIterations();
+            List<List<Long>> addressIds = new ArrayList<>(k);
+            for (int c = 0; c < k; c++) {
+                addressIds.add(new ArrayList<>());
+            }
+            // Rows are ordered by id, so the lists are too
+            for (int i = 0; i < n; i++) {
+                addressIds.get(partition.territoryOf(i)).add(locatedIds.get(i));
+            }
+            for (int c = 0; c < k; c++) {
+                TerritoryDto territory = new TerritoryDto();
+                territory.setIndex(c);
+                territory.setCenterLatitude(partition.getCenterLatitude(c));
+                territory.setCenterLongitude(partition.getCenterLongitude(c));
+                territory.setRadiusMeters(Math.round(partition.getRadius(c)));
+                territory.setAddressIds(addressIds.get(c));
+                territories.add(territory);
+            }
+        }
+
+        TerritoryPlanDto dto = new TerritoryPlanDto();
+        dto.setRegionName(regionName);
+        dto.setReps(reps);
+        dto.setTerritories(territories);
+        dto.setUnlocatedAddressIds(unlocated);
+        dto.setComputeTimeMs(System.currentTimeMillis() - start);
+        logger.info("Partitioned {} open addresses of region '{}' ({} unlocated) into {} territories "
+                        + "in {} iterations, {} ms", locatedIds.size(), regionName, unlocated.size(), k, iterations,
+                dto.getComputeTimeMs());
+        return dto;
+    }
+
+    private static Set<String> normalize(List<String> statuses) {
+        Set<String> result = new TreeSet<>();
+        if (statuses != null) {
+            for (String status : statuses) {
+                if (status != null && !status.isBlank()) {
+                    result.add(status.trim());
+                }
+            }
+        }
+        return result;
+    }
+
+    private static double[] trim(double[] values, int length) {
+        return values.length == length ? values : Arrays.copyOf(values, length);
+    }
+}
@@ -0,0 +1,52 @@
+package com.simplesalesman.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Computes the 64-bit fingerprint of an address text used for duplicate detection.
+ *
+ * The text is normalized first by {@link AddressNormalizer}, so that e.g.
+ * {@code "Hauptstraße 5, 4133, Niederkappel"} and {@code " hauptstr. 5,4133, Niederkappel"}
+ * get the same fingerprint. The canonical key is hashed with FNV-1a over its UTF-8
+ * bytes and passed through a final avalanche step to spread values evenly over the index.
+ *
+ * Usage:
+ * - Stored in {@code address.address_fingerprint} (indexed) by {@link com.simplesalesman.entity.Address}
+ * - Also used for the block key of {@link AddressNormalizer.NormalizedAddress}
+ *
+ * The function must stay stable: changing it invalidates all stored fingerprints.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class AddressFingerprint {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private AddressFingerprint() {
+    }
+
+    /**
+     * 64-bit hash of an already normalized value.
+     */
+    public static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    // Finalizer of MurmurHash3 (fmix64)
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
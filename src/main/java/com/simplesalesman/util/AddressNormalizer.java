@@ -0,0 +1,212 @@
+package com.simplesalesman.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes free-text addresses into comparable parts for duplicate detection.
+ *
+ * Input addresses follow the import format {@code "<street> <house number>, <postal code>, <locality>"},
+ * e.g. {@code "Hauptstraße 5, 4133, Niederkappel"}. Missing parts are tolerated.
+ *
+ * Normalization steps:
+ * - case folding, umlauts and ß transliterated (ä → ae, ß → ss), accents stripped
+ * - canonical abbreviations: "Str." → "strasse", "G." → "gasse", "Pl." → "platz",
+ *   "St." → "sankt", "Dr." → "doktor"
+ * - whitespace, hyphens and punctuation removed from street and locality
+ * - house number extracted from the end of the street part ("3 B" → "3b", "988 / 10" → "988/10")
+ *
+ * Derived values:
+ * - canonical key: street, house number, postal code and locality; equal keys are exact duplicates
+ * - fingerprint: 64-bit hash of the canonical key (see {@link AddressFingerprint})
+ * - block key: 64-bit hash of postal code (or locality) and house number; only
+ *   addresses within the same block are compared with {@link #similarity(String, String)}
+ * - sort keys: postal code, canonical street and numeric house number
+ * - search text: folded address with words separated by single spaces (see {@link #searchText(String)})
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class AddressNormalizer {
+
+    private static final Pattern POSTAL_CODE = Pattern.compile("\\d{4,5}");
+    private static final Pattern HOUSE_NUMBER =
+            Pattern.compile("^(.*?)[\\s,]*(\\d+\\s*[a-z]?(?:\\s*[/-]\\s*\\d+\\s*[a-z]?)*)$");
+    private static final Pattern STRASSE = Pattern.compile("(?<=[a-z\\s-])str\\.?(?![a-z])");
+    private static final Pattern GASSE = Pattern.compile("(?<=[a-z])g\\.");
+    private static final Pattern PLATZ = Pattern.compile("(?<=[a-z\\s-])pl\\.");
+    private static final Pattern SANKT = Pattern.compile("(?<![a-z0-9-])st(?:\\.\\s*|\\s+)(?=[a-z])");
+    private static final Pattern DOKTOR = Pattern.compile("\\bdr\\.\\s*");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern LEADING_DIGITS = Pattern.compile("^\\d{1,9}");
+
+    private static final int NO_HOUSE_NUMBER_PREFIX = 4; // Street prefix used as block key without house number
+
+    private AddressNormalizer() {
+    }
+
+    /**
+     * @param addressText raw address text, may be null
+     * @return the normalized address, or null for a null text
+     */
+    public static NormalizedAddress normalize(String addressText) {
+        if (addressText == null) {
+            return null;
+        }
+        String[] segments = fold(addressText).split(",");
+
+        String postalCode = "";
+        StringBuilder locality = new StringBuilder();
+        for (int i = 1; i < segments.length; i++) {
+            String segment = segments[i].trim();
+            if (postalCode.isEmpty() && POSTAL_CODE.matcher(segment).matches()) {
+                postalCode = segment;
+            } else {
+                locality.append(segment);
+            }
+        }
+
+        String streetPart = segments.length > 0 ? segments[0].trim() : "";
+        String houseNumber = "";
+        Matcher matcher = HOUSE_NUMBER.matcher(streetPart);
+        if (matcher.matches()) {
+            streetPart = matcher.group(1);
+            houseNumber = WHITESPACE.matcher(matcher.group(2)).replaceAll("");
+        }
+
+        return new NormalizedAddress(canonical(streetPart), houseNumber, postalCode, canonical(locality.toString()));
+    }
+
+    /**
+     * Folds a text for trigram search: lower case, transliterated umlauts, expanded
+     * abbreviations, and all punctuation collapsed into single spaces, e.g.
+     * {@code "Hauptstr. 5, 4133 Niederkappel"} → {@code "hauptstrasse 5 4133 niederkappel"}.
+     * Applied to stored addresses and to search queries alike.
+     *
+     * @param text raw text, may be null
+     * @return the folded text, or null for a null text
+     */
+    public static String searchText(String text) {
+        if (text == null) {
+            return null;
+        }
+        return NON_ALPHANUMERIC.matcher(fold(text)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Normalized Levenshtein similarity of two canonical strings:
+     * {@code 1 - editDistance / maxLength}. Runs in O(n * m) time with two rows of memory.
+     *
+     * @return similarity between 0.0 (nothing in common) and 1.0 (equal)
+     */
+    public static double similarity(String a, String b) {
+        if (a.equals(b)) {
+            return 1.0;
+        }
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return 1.0 - (double) previous[b.length()] / Math.max(a.length(), b.length());
+    }
+
+    // Lower case, transliterated umlauts, expanded abbreviations
+    private static String fold(String text) {
+        String folded = text.toLowerCase(Locale.ROOT)
+                .replace("ä", "ae").replace("ö", "oe").replace("ü", "ue").replace("ß", "ss");
+        folded = COMBINING_MARKS.matcher(Normalizer.normalize(folded, Normalizer.Form.NFD)).replaceAll("");
+        folded = STRASSE.matcher(folded).replaceAll("strasse");
+        folded = GASSE.matcher(folded).replaceAll("gasse");
+        folded = PLATZ.matcher(folded).replaceAll("platz");
+        folded = SANKT.matcher(folded).replaceAll("sankt ");
+        folded = DOKTOR.matcher(folded).replaceAll("doktor ");
+        return folded;
+    }
+
+    private static String canonical(String text) {
+        return NON_ALPHANUMERIC.matcher(text).replaceAll("");
+    }
+
+    /**
+     * Normalized parts of an address.
+     */
+    public static final class NormalizedAddress {
+        private final String street;
+        private final String houseNumber;
+        private final String postalCode;
+        private final String locality;
+
+        NormalizedAddress(String street, String houseNumber, String postalCode, String locality) {
+            this.street = street;
+            this.houseNumber = houseNumber;
+            this.postalCode = postalCode;
+            this.locality = locality;
+        }
+
+        public String getStreet() {
+            return street;
+        }
+
+        public String getHouseNumber() {
+            return houseNumber;
+        }
+
+        public String getPostalCode() {
+            return postalCode;
+        }
+
+        /**
+         * @return the numeric part of the house number ("3b" → 3, "988/10" → 988),
+         *         or null without a house number; used for numeric sorting
+         */
+        public Integer getHouseNumberValue() {
+            Matcher matcher = LEADING_DIGITS.matcher(houseNumber);
+            return matcher.find() ? Integer.valueOf(matcher.group()) : null;
+        }
+
+        public String getLocality() {
+            return locality;
+        }
+
+        public String getCanonicalKey() {
+            return street + "|" + houseNumber + "|" + postalCode + "|" + locality;
+        }
+
+        public long getFingerprint() {
+            return AddressFingerprint.hash(getCanonicalKey());
+        }
+
+        public long getBlockKey() {
+            String area = postalCode.isEmpty() ? locality : postalCode;
+            String number = houseNumber.isEmpty()
+                    ? "#" + street.substring(0, Math.min(NO_HOUSE_NUMBER_PREFIX, street.length()))
+                    : houseNumber;
+            return AddressFingerprint.hash(area + "|" + number);
+        }
+
+        @Override
+        public String toString() {
+            return getCanonicalKey();
+        }
+    }
+}
@@ -3,18 +3,35 @@ package com.simplesalesman.util;
 import com.simplesalesman.entity.Address;
 import com.simplesalesman.entity.Project;
 import com.simplesalesman.entity.Region;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
 
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Utility class for parsing Excel (XLSX) files into {@link Project} entities.
@@ -35,13 +52,18 @@ import java.util.List;
  * - [4] Address Text (String)
  * - [5–15] Project fields
  *
+ * Parsing Modes:
+ * - {@link #parse(InputStream)}: loads the whole workbook (DOM) and returns a list
+ * - {@link #parseStreaming(InputStream, Consumer)}: SAX-based event parsing that
+ *   emits one {@link Project} at a time with flat memory usage, regardless of file size
+ *
  * Error Handling:
  * - Faulty rows are skipped individually with logging
  * - Fields with invalid formats are defaulted (e.g., 0, false, null)
  * - Too many errors trigger an exception to prevent bad imports
  *
  * @author SimpleSalesman Team
- * @version 0.1.0
+ * @version 0.1.1
  * @since 0.0.5
  */
 @Component
@@ -50,6 +72,24 @@ public class ExcelUtil {
     private static final Logger logger = LoggerFactory.getLogger(ExcelUtil.class);
     private static final int MAX_ERRORS = 1000; // Stop processing if too many errors
 
+    // Column mapping (0-based) shared by the DOM and the streaming parser
+    private static final int COL_REGION = 1;
+    private static final int COL_PLANNED_CONSTRUCTION_END = 2;
+    private static final int COL_CONSTRUCTION_COMPLETED = 3;
+    private static final int COL_ADDRESS = 4;
+    private static final int COL_OPERATOR = 5;
+    private static final int COL_STATUS = 6;
+    private static final int COL_NUMBER_OF_HOMES = 7;
+    private static final int COL_CONTRACT_PRESENT = 8;
+    private static final int COL_COMMISSION_CATEGORY = 9;
+    private static final int COL_KG_NUMBER = 10;
+    private static final int COL_CONSTRUCTION_COMPANY = 11;
+    private static final int COL_SALES_START = 12;
+    private static final int COL_SALES_END = 13;
+    private static final int COL_PRODUCT_PRICE = 14;
+    private static final int COL_OUTDOOR_FEE = 15;
+    private static final int COLUMN_COUNT = 16;
+
     /**
      * Parses the given Excel input stream and converts rows to a list of {@link Project} objects.
      *
@@ -122,14 +162,73 @@ public class ExcelUtil {
         return projects;
     }
 
+    /**
+     * Parses the first worksheet of the given XLSX stream with POI's event API and
+     * hands every valid row to the consumer as soon as it has been read.
+     *
+     * The upload is spooled to a temporary file so that the package can be opened
+     * with random access instead of being unpacked into memory. Only the shared
+     * strings table and the current row are held in memory; the worksheet XML is
+     * streamed through a SAX parser.
+     *
+     * The column mapping, validation and error limits are identical to {@link #parse(InputStream)}.
+     *
+     * @param inputStream input stream of uploaded Excel file (XLSX)
+     * @param consumer    receives each parsed Project in file order
+     * @return number of successfully parsed rows
+     * @throws Exception on structural or file format issues
+     */
+    public int parseStreaming(InputStream inputStream, Consumer<Project> consumer) throws Exception {
+        Path tempFile = Files.createTempFile("simplesalesman-import-", ".xlsx");
+        try {
+            Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+
+            try (OPCPackage pkg = OPCPackage.open(tempFile.toFile(), PackageAccess.READ)) {
+                XSSFReader reader = new XSSFReader(pkg);
+                ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+                StylesTable styles = reader.getStylesTable();
+
+                Iterator<InputStream> sheets = reader.getSheetsData();
+                if (!sheets.hasNext()) {
+                    throw new IllegalArgumentException("Excel file must contain at least one worksheet");
+                }
+
+                StreamingRowHandler rowHandler = new StreamingRowHandler(consumer);
+                try (InputStream sheet = sheets.next()) {
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(
+                            styles, sharedStrings, rowHandler, new ImportDataFormatter(), false));
+                    parser.parse(new InputSource(sheet));
+                } catch (Exception e) {
+                    logger.error("Failed to parse Excel file at row {}: {}", rowHandler.rowNum, e.getMessage());
+                    throw e;
+                }
+
+                if (!rowHandler.headerSeen) {
+                    throw new IllegalArgumentException("Excel file appears to be empty");
+                }
+
+                logger.info("Excel streaming parse complete. Total rows: {}, Success: {}, Errors: {}",
+                    rowHandler.rowNum, rowHandler.successCount, rowHandler.errorCount);
+
+                if (rowHandler.successCount == 0 && rowHandler.errorCount > 0) {
+                    throw new IllegalArgumentException("No valid data could be parsed from the Excel file");
+                }
+                return rowHandler.successCount;
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
     private Project parseRow(Row row) throws IllegalArgumentException {
         Project project = new Project();
         Address address = new Address();
         Region region = new Region();
 
         // Validate required fields
-        String regionName = getCellValue(row.getCell(1));
-        String addressText = getCellValue(row.getCell(4));
+        String regionName = getCellValue(row.getCell(COL_REGION));
+        String addressText = getCellValue(row.getCell(COL_ADDRESS));
         
         if (regionName.isEmpty()) {
             throw new IllegalArgumentException("Region name is required (column B)");
@@ -145,19 +244,64 @@ public class ExcelUtil {
         project.setAddress(address);
 
         // Set project fields with safe parsing
-        project.setPlannedConstructionEnd(parseDate(row.getCell(2)));
-        project.setConstructionCompleted(parseBoolean(getCellValue(row.getCell(3))));
-        project.setOperator(getCellValue(row.getCell(5)));
-        project.setStatus(getCellValue(row.getCell(6)));
-        project.setNumberOfHomes(parseInt(getCellValue(row.getCell(7))));
-        project.setContractPresent(parseContractPresent(getCellValue(row.getCell(8))));
-        project.setCommissionCategory(getCellValue(row.getCell(9)));
-        project.setKgNumber(getCellValue(row.getCell(10)));
-        project.setConstructionCompany(getCellValue(row.getCell(11)));
-        project.setSalesStart(parseDate(row.getCell(12)));
-        project.setSalesEnd(parseDate(row.getCell(13)));
-        project.setProductPrice(parseDecimal(row.getCell(14)));
-        project.setOutdoorFeePresent(parseBoolean(getCellValue(row.getCell(15))));
+        project.setPlannedConstructionEnd(parseDate(row.getCell(COL_PLANNED_CONSTRUCTION_END)));
+        project.setConstructionCompleted(parseBoolean(getCellValue(row.getCell(COL_CONSTRUCTION_COMPLETED))));
+        project.setOperator(getCellValue(row.getCell(COL_OPERATOR)));
+        project.setStatus(getCellValue(row.getCell(COL_STATUS)));
+        project.setNumberOfHomes(parseInt(getCellValue(row.getCell(COL_NUMBER_OF_HOMES))));
+        project.setContractPresent(parseContractPresent(getCellValue(row.getCell(COL_CONTRACT_PRESENT))));
+        project.setCommissionCategory(getCellValue(row.getCell(COL_COMMISSION_CATEGORY)));
+        project.setKgNumber(getCellValue(row.getCell(COL_KG_NUMBER)));
+        project.setConstructionCompany(getCellValue(row.getCell(COL_CONSTRUCTION_COMPANY)));
+        project.setSalesStart(parseDate(row.getCell(COL_SALES_START)));
+        project.setSalesEnd(parseDate(row.getCell(COL_SALES_END)));
+        project.setProductPrice(parseDecimal(row.getCell(COL_PRODUCT_PRICE)));
+        project.setOutdoorFeePresent(parseBoolean(getCellValue(row.getCell(COL_OUTDOOR_FEE))));
+
+        return project;
+    }
+
+    /**
+     * Streaming counterpart of {@link #parseRow(Row)} working on the formatted cell
+     * values delivered by the SAX handler. Dates arrive as ISO strings (see
+     * {@link ImportDataFormatter}), so the same parsing rules apply.
+     *
+     * @param values trimmed cell values indexed by column
+     * @return the parsed Project
+     */
+    private Project parseValues(String[] values) throws IllegalArgumentException {
+        Project project = new Project();
+        Address address = new Address();
+        Region region = new Region();
+
+        String regionName = values[COL_REGION];
+        String addressText = values[COL_ADDRESS];
+
+        if (regionName.isEmpty()) {
+            throw new IllegalArgumentException("Region name is required (column B)");
+        }
+        if (addressText.isEmpty()) {
+            throw new IllegalArgumentException("Address text is required (column E)");
+        }
+
+        region.setName(regionName);
+        address.setAddressText(addressText);
+        address.setRegion(region);
+        project.setAddress(address);
+
+        project.setPlannedConstructionEnd(parseDate(values[COL_PLANNED_CONSTRUCTION_END]));
+        project.setConstructionCompleted(parseBoolean(values[COL_CONSTRUCTION_COMPLETED]));
+        project.setOperator(values[COL_OPERATOR]);
+        project.setStatus(values[COL_STATUS]);
+        project.setNumberOfHomes(parseInt(values[COL_NUMBER_OF_HOMES]));
+        project.setContractPresent(parseContractPresent(values[COL_CONTRACT_PRESENT]));
+        project.setCommissionCategory(values[COL_COMMISSION_CATEGORY]);
+        project.setKgNumber(values[COL_KG_NUMBER]);
+        project.setConstructionCompany(values[COL_CONSTRUCTION_COMPANY]);
+        project.setSalesStart(parseDate(values[COL_SALES_START]));
+        project.setSalesEnd(parseDate(values[COL_SALES_END]));
+        project.setProductPrice(parseDecimal(values[COL_PRODUCT_PRICE]));
+        project.setOutdoorFeePresent(parseBoolean(values[COL_OUTDOOR_FEE]));
 
         return project;
     }
@@ -294,4 +438,127 @@ public class ExcelUtil {
         }
         return BigDecimal.ZERO;
     }
+
+    /**
+     * Parses an ISO date string as delivered by the streaming parser.
+     *
+     * @param value formatted cell value
+     * @return parsed LocalDate or null
+     */
+    private LocalDate parseDate(String value) {
+        try {
+            if (value != null && !value.isEmpty()) {
+                return LocalDate.parse(value);
+            }
+        } catch (Exception e) {
+            logger.debug("Invalid date value '{}': {}", value, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Parses a decimal value from a formatted cell string, accepting comma separators.
+     *
+     * @param value formatted cell value
+     * @return parsed BigDecimal or 0
+     */
+    private BigDecimal parseDecimal(String value) {
+        try {
+            if (value != null) {
+                String s = value.replace(",", ".").replaceAll("[^\\d.-]", "");
+                if (!s.isEmpty()) {
+                    return new BigDecimal(s);
+                }
+            }
+        } catch (Exception e) {
+            logger.debug("Error parsing decimal value: {}", e.getMessage());
+        }
+        return BigDecimal.ZERO;
+    }
+
+    /**
+     * SAX row callback for {@link #parseStreaming(InputStream, Consumer)}.
+     * Collects the cells of the current row into a reusable array and converts the
+     * row once it is complete. Mirrors the error accounting of {@link #parse(InputStream)}.
+     */
+    private class StreamingRowHandler implements SheetContentsHandler {
+
+        private final Consumer<Project> consumer;
+        private final String[] values = new String[COLUMN_COUNT];
+        private boolean headerSeen;
+        private int rowNum;
+        private int successCount;
+        private int errorCount;
+
+        StreamingRowHandler(Consumer<Project> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            this.rowNum = rowNum;
+            Arrays.fill(values, "");
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (cellReference == null || formattedValue == null) return;
+            int col = new CellReference(cellReference).getCol();
+            if (col < COLUMN_COUNT) {
+                values[col] = formattedValue.trim();
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            // Skip header row
+            if (!headerSeen) {
+                headerSeen = true;
+                return;
+            }
+
+            Project project;
+            try {
+                project = parseValues(values);
+            } catch (Exception e) {
+                errorCount++;
+                logger.warn("Error parsing row {}: {}", rowNum, e.getMessage());
+
+                if (errorCount > MAX_ERRORS) {
+                    throw new RuntimeException(
+                        String.format("Too many errors in Excel file (>%d). Last error at row %d: %s",
+                            MAX_ERRORS, rowNum, e.getMessage())
+                    );
+                }
+                return;
+            }
+
+            consumer.accept(project);
+            successCount++;
+
+            // Log progress every 1000 rows
+            if ((rowNum % 1000) == 0 && rowNum > 0) {
+                logger.info("Progress: Processed {} rows, {} successful, {} errors",
+                    rowNum, successCount, errorCount);
+            }
+        }
+    }
+
+    /**
+     * Formatter that renders numeric cells the same way {@link #getCellValue(Cell)} does:
+     * date-formatted values as ISO dates and whole numbers without a decimal point.
+     */
+    private static class ImportDataFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).toLocalDate().toString();
+            }
+            if (value == Math.floor(value) && !Double.isInfinite(value)) {
+                return String.valueOf((long) value);
+            }
+            return String.valueOf(value);
+        }
+    }
 }
\ No newline at end of file
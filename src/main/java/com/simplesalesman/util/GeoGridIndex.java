@@ -0,0 +1,273 @@
+package com.simplesalesman.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * In-memory spatial index of points (addresses) on a uniform latitude/longitude grid.
+ *
+ * Each point carries the set of statuses of its projects, so queries can be
+ * filtered without touching the database. Status sets are interned (there are only
+ * a few distinct combinations); a filter is evaluated once per set and query.
+ *
+ * Storage is kept compact for millions of points: points live in slots of parallel
+ * primitive arrays, each grid cell is a linked list of slots, and ids and cells are
+ * found through {@link LongIntHashMap}s - about 44 bytes per point. Freed slots are
+ * reused.
+ *
+ * Queries ({@link #nearest}) scan the cells in rings around the query point and stop
+ * as soon as no unscanned cell can hold a closer point, so their cost depends on
+ * the density around the query point, not on the size of the index. Distances are
+ * straight-line distances on a local equirectangular projection, accurate to well
+ * below a metre within a few kilometres.
+ *
+ * Thread-safe; reads run concurrently.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public class GeoGridIndex {
+
+    private static final double METERS_PER_DEGREE = Math.toRadians(1) * 6_371_000;
+    private static final int NONE = -1;
+
+    private final double cellDegrees;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Slot storage; free slots are chained through next
+    private long[] ids = new long[1024];
+    private float[] latitudes = new float[1024];
+    private float[] longitudes = new float[1024];
+    private int[] statusSets = new int[1024];
+    private int[] next = new int[1024];
+    private int slotCount;
+    private int freeSlot = NONE;
+
+    private final LongIntHashMap slotById = new LongIntHashMap();
+    private final LongIntHashMap firstSlotByCell = new LongIntHashMap();
+
+    private final List<Set<String>> statusSetList = new ArrayList<>();
+    private final Map<Set<String>, Integer> statusSetIndex = new HashMap<>();
+
+    /**
+     * @param cellSizeMeters north-south extent of a grid cell; cells are narrower
+     *                       east-west by the cosine of the latitude
+     */
+    public GeoGridIndex(double cellSizeMeters) {
+        this.cellDegrees = cellSizeMeters / METERS_PER_DEGREE;
+    }
+
+    /**
+     * Adds a point, replacing any point previously stored under the id.
+     *
+     * @param id        id of the point
+     * @param latitude  latitude (WGS84)
+     * @param longitude longitude (WGS84)
+     * @param statuses  statuses of the point's projects; null or empty if it has none
+     */
+    public void put(long id, double latitude, double longitude, Collection<String> statuses) {
+        Set<String> statusSet = statuses == null ? new TreeSet<>() : new TreeSet<>(statuses);
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            int slot = allocateSlot();
+            ids[slot] = id;
+            latitudes[slot] = (float) latitude;
+            longitudes[slot] = (float) longitude;
+            statusSets[slot] = statusSetIndex.computeIfAbsent(statusSet, set -> {
+                statusSetList.add(Collections.unmodifiableSet(set));
+                return statusSetList.size() - 1;
+            });
+            long cell = cellKey(latitudes[slot], longitudes[slot]);
+            next[slot] = firstSlotByCell.get(cell, NONE);
+            firstSlotByCell.put(cell, slot);
+            slotById.put(id, slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the points nearest to a location, closest first (ties by id).
+     *
+     * @param latitude     latitude of the location
+     * @param longitude    longitude of the location
+     * @param limit        maximum number of points
+     * @param radiusMeters maximum distance of the points
+     * @param filter       accepts the status sets of wanted points (a point without
+     *                     projects has an empty set), or null for all points
+     * @return at most {@code limit} points within the radius
+     */
+    public List<Hit> nearest(double latitude, double longitude, int limit, double radiusMeters,
+                             Predicate<Set<String>> filter) {
+        double cosLatitude = Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+        double cellHeight = cellDegrees * METERS_PER_DEGREE;
+        double ringWidth = Math.min(cellHeight, cellHeight * cosLatitude);
+        long centerRow = (long) Math.floor(latitude / cellDegrees);
+        long centerColumn = (long) Math.floor(longitude / cellDegrees);
+        double radiusSquared = radiusMeters * radiusMeters;
+        // Farthest point on top
+        PriorityQueue<Hit> best = new PriorityQueue<>(Comparator.comparingDouble(Hit::getDistanceMeters)
+                .thenComparingLong(Hit::getId).reversed());
+
+        lock.readLock().lock();
+        try {
+            boolean[] accepted = new boolean[statusSetList.size()];
+            for (int i = 0; i < accepted.length; i++) {
+                accepted[i] = filter == null || filter.test(statusSetList.get(i));
+            }
+            for (int ring = 0; ; ring++) {
+                for (long row = centerRow - ring; row <= centerRow + ring; row++) {
+                    boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+                    long step = edgeRow || ring == 0 ? 1 : 2L * ring;
+                    for (long column = centerColumn - ring; column <= centerColumn + ring; column += step) {
+                        int slot = firstSlotByCell.get(cellKey(row, column), NONE);
+                        for (; slot != NONE; slot = next[slot]) {
+                            if (!accepted[statusSets[slot]]) {
+                                continue;
+                            }
+                            double dy = (latitudes[slot] - latitude) * METERS_PER_DEGREE;
+                            double dx = (longitudes[slot] - longitude) * METERS_PER_DEGREE * cosLatitude;
+                            double distanceSquared = dx * dx + dy * dy;
+                            if (distanceSquared <= radiusSquared) {
+                                offer(best, new Hit(ids[slot], Math.sqrt(distanceSquared),
+                                        statusSetList.get(statusSets[slot])), limit);
+                            }
+                        }
+                    }
+                }
+                // Cells of the next ring are at least this far away
+                double reach = ring * ringWidth;
+                if (reach > radiusMeters || (best.size() == limit && best.peek().getDistanceMeters() <= reach)) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Hit[] hits = best.toArray(new Hit[0]);
+        Arrays.sort(hits, Comparator.comparingDouble(Hit::getDistanceMeters).thenComparingLong(Hit::getId));
+        return Arrays.asList(hits);
+    }
+
+    private static void offer(PriorityQueue<Hit> best, Hit hit, int limit) {
+        if (best.size() < limit) {
+            best.add(hit);
+        } else if (best.comparator().compare(hit, best.peek()) > 0) {
+            best.poll();
+            best.add(hit);
+        }
+    }
+
+    private void removeInternal(long id) {
+        int slot = slotById.get(id, NONE);
+        if (slot == NONE) {
+            return;
+        }
+        slotById.remove(id);
+        long cell = cellKey(latitudes[slot], longitudes[slot]);
+        int first = firstSlotByCell.get(cell, NONE);
+        if (first == slot) {
+            if (next[slot] == NONE) {
+                firstSlotByCell.remove(cell);
+            } else {
+                firstSlotByCell.put(cell, next[slot]);
+            }
+        } else {
+            int previous = first;
+            while (next[previous] != slot) {
+                previous = next[previous];
+            }
+            next[previous] = next[slot];
+        }
+        next[slot] = freeSlot;
+        freeSlot = slot;
+    }
+
+    private int allocateSlot() {
+        if (freeSlot != NONE) {
+            int slot = freeSlot;
+            freeSlot = next[slot];
+            return slot;
+        }
+        if (slotCount == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            statusSets = Arrays.copyOf(statusSets, capacity);
+            next = Arrays.copyOf(next, capacity);
+        }
+        return slotCount++;
+    }
+
+    private long cellKey(float latitude, float longitude) {
+        return cellKey((long) Math.floor(latitude / cellDegrees), (long) Math.floor(longitude / cellDegrees));
+    }
+
+    private static long cellKey(long row, long column) {
+        return row << 32 | (column & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Point found by a query.
+     */
+    public static final class Hit {
+        private final long id;
+        private final double distanceMeters;
+        private final Set<String> statuses;
+
+        Hit(long id, double distanceMeters, Set<String> statuses) {
+            this.id = id;
+            this.distanceMeters = distanceMeters;
+            this.statuses = statuses;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public double getDistanceMeters() {
+            return distanceMeters;
+        }
+
+        /**
+         * @return statuses of the point's projects, sorted
+         */
+        public Set<String> getStatuses() {
+            return statuses;
+        }
+    }
+}
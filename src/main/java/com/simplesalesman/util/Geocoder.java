@@ -0,0 +1,57 @@
+package com.simplesalesman.util;
+
+import java.time.Duration;
+
+/**
+ * Provider of coordinates for address texts and place names for coordinates.
+ *
+ * Implementations are Spring components; {@code GeocodingService} uses the one whose
+ * {@link #getName()} matches {@code simplesalesman.geocoding.provider} for addresses
+ * and the one matching {@code simplesalesman.geocoding.reverse-provider} for place
+ * names, and adds caching and rate limiting, so providers only talk to their backend.
+ *
+ * Available providers:
+ * - {@code stub}: deterministic fake coordinates without network access (address default), see {@link StubGeocoder}
+ * - {@code nominatim}: OpenStreetMap Nominatim (reverse default), see {@link NominatimGeocoder}
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public interface Geocoder {
+
+    /**
+     * @return name used to select the provider
+     */
+    String getName();
+
+    /**
+     * @return minimum time between two requests to the backend, e.g. from its usage policy
+     */
+    Duration getMinInterval();
+
+    /**
+     * @return true if background runs may send every address to the backend, i.e. it
+     *         runs offline or self-hosted; public services only get single lookups
+     */
+    default boolean allowsBulkLookups() {
+        return true;
+    }
+
+    /**
+     * Looks up the coordinates of an address.
+     *
+     * @param addressText free-text address, e.g. "Hauptstraße 5, 4133, Niederkappel"
+     * @return {@code [latitude, longitude]} (WGS84), or null if the address is unknown
+     * @throws RuntimeException if the backend could not be asked; the lookup is retried later
+     */
+    double[] geocode(String addressText);
+
+    /**
+     * Looks up the city, town or village at the given coordinates.
+     *
+     * @return place name, or null if there is none
+     * @throws RuntimeException if the backend could not be asked
+     */
+    String reverseCity(double latitude, double longitude);
+}
@@ -0,0 +1,190 @@
+package com.simplesalesman.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local file-backed cache of geocoding results.
+ *
+ * All entries are held in memory; every new entry is appended to a tab-separated
+ * file ({@code key, value, epoch millis} per line), so the cache survives restarts
+ * and results are paid for only once per installation. A later line for the same
+ * key wins. On opening, the file is compacted if it holds many superseded or
+ * expired lines.
+ *
+ * An empty value records a lookup without result ("not found"); such entries expire
+ * after the negative TTL, so addresses or places added to the backend later are
+ * found eventually.
+ *
+ * Thread-safe.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public class GeocodingCache implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeocodingCache.class);
+
+    private final Path file;
+    private final Duration negativeTtl;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private BufferedWriter writer;
+
+    private GeocodingCache(Path file, Duration negativeTtl) {
+        this.file = file;
+        this.negativeTtl = negativeTtl;
+    }
+
+    /**
+     * Loads the cache file, creating it and its directory if necessary.
+     *
+     * @param file        cache file
+     * @param negativeTtl how long "not found" entries are kept
+     * @return the opened cache
+     * @throws IOException if the file cannot be read or created
+     */
+    public static GeocodingCache open(Path file, Duration negativeTtl) throws IOException {
+        GeocodingCache cache = new GeocodingCache(file, negativeTtl);
+        cache.load();
+        return cache;
+    }
+
+    /**
+     * @return the cached entry, or null if the key was never looked up or its
+     *         "not found" entry expired
+     */
+    public Entry get(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.isFound() && entry.isExpired(negativeTtl)) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Stores a result and appends it to the file.
+     *
+     * @param key   lookup key
+     * @param value result, or null if the lookup found nothing
+     */
+    public void put(String key, String value) {
+        Entry entry = new Entry(value == null ? "" : sanitize(value), System.currentTimeMillis());
+        String line = sanitize(key) + '\t' + entry.value + '\t' + entry.createdAt;
+        synchronized (this) {
+            entries.put(sanitize(key), entry);
+            try {
+                writer.write(line);
+                writer.newLine();
+                writer.flush();
+            } catch (IOException e) {
+                logger.warn("Could not write geocoding cache {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    private void load() throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        int lines = 0;
+        if (Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines++;
+                    String[] parts = line.split("\t", -1);
+                    if (parts.length != 3) {
+                        continue; // Torn last line after a crash
+                    }
+                    try {
+                        Entry entry = new Entry(parts[1], Long.parseLong(parts[2]));
+                        if (entry.isFound() || !entry.isExpired(negativeTtl)) {
+                            entries.put(parts[0], entry);
+                        } else {
+                            entries.remove(parts[0]);
+                        }
+                    } catch (NumberFormatException e) {
+                        // Skip damaged line
+                    }
+                }
+            }
+        }
+        if (lines > 2 * entries.size() + 1000) {
+            compact();
+            logger.info("Compacted geocoding cache {}: {} lines -> {} entries", file, lines, entries.size());
+        }
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+        logger.info("Geocoding cache {} loaded with {} entries", file, entries.size());
+    }
+
+    private void compact() throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                out.write(e.getKey() + '\t' + e.getValue().value + '\t' + e.getValue().createdAt);
+                out.newLine();
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String sanitize(String text) {
+        return text.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    /**
+     * Cached result of one lookup.
+     */
+    public static final class Entry {
+        private final String value;
+        private final long createdAt;
+
+        Entry(String value, long createdAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+        }
+
+        /**
+         * @return false if the lookup found nothing
+         */
+        public boolean isFound() {
+            return !value.isEmpty();
+        }
+
+        /**
+         * @return the result, or null if the lookup found nothing
+         */
+        public String getValue() {
+            return value.isEmpty() ? null : value;
+        }
+
+        boolean isExpired(Duration ttl) {
+            return Instant.ofEpochMilli(createdAt).plus(ttl).isBefore(Instant.now());
+        }
+    }
+}
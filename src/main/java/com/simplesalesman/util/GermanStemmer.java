@@ -0,0 +1,94 @@
+package com.simplesalesman.util;
+
+/**
+ * Light stemmer for German words, following J. Savoy's "light" stemming
+ * algorithm (also used by Lucene's {@code GermanLightStemmer}).
+ *
+ * It only strips common inflection suffixes, which keeps it predictable for
+ * short sales notes:
+ * - umlauts and accents are reduced to the base vowel, ß becomes ss
+ * - plural and case endings ({@code -e, -en, -er, -ern, -es, -em, -s}) are removed
+ * - comparative and superlative endings ({@code -er, -en, -est, -st}) are removed
+ *
+ * Examples: "Rückrufe" → "ruckruf", "Interesse" → "interess", "keine" → "kein".
+ * Words are expected in lower case.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class GermanStemmer {
+
+    private GermanStemmer() {
+    }
+
+    /**
+     * @param word lower-case word
+     * @return the stem of the word
+     */
+    public static String stem(String word) {
+        StringBuilder s = new StringBuilder(word.length() + 1);
+        for (char c : word.toCharArray()) {
+            switch (c) {
+                case 'ä', 'à', 'á', 'â' -> s.append('a');
+                case 'ö', 'ò', 'ó', 'ô' -> s.append('o');
+                case 'ï', 'î', 'í', 'ì' -> s.append('i');
+                case 'ü', 'ù', 'ú', 'û' -> s.append('u');
+                case 'ß' -> s.append("ss");
+                default -> s.append(c);
+            }
+        }
+        int length = step2(s, step1(s, s.length()));
+        return s.substring(0, length);
+    }
+
+    private static int step1(CharSequence s, int len) {
+        if (len > 5 && endsWith(s, len, "ern")) {
+            return len - 3;
+        }
+        if (len > 4 && (endsWith(s, len, "em") || endsWith(s, len, "en")
+                || endsWith(s, len, "er") || endsWith(s, len, "es"))) {
+            return len - 2;
+        }
+        if (len > 3 && s.charAt(len - 1) == 'e') {
+            return len - 1;
+        }
+        if (len > 3 && s.charAt(len - 1) == 's' && isStEnding(s.charAt(len - 2))) {
+            return len - 1;
+        }
+        return len;
+    }
+
+    private static int step2(CharSequence s, int len) {
+        if (len > 5 && endsWith(s, len, "est")) {
+            return len - 3;
+        }
+        if (len > 4 && (endsWith(s, len, "er") || endsWith(s, len, "en"))) {
+            return len - 2;
+        }
+        if (len > 4 && endsWith(s, len, "st") && isStEnding(s.charAt(len - 3))) {
+            return len - 2;
+        }
+        return len;
+    }
+
+    // Consonants after which a final -s or -st is an inflection ending
+    private static boolean isStEnding(char c) {
+        return switch (c) {
+            case 'b', 'd', 'f', 'g', 'h', 'k', 'l', 'm', 'n', 't' -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean endsWith(CharSequence s, int len, String suffix) {
+        if (len < suffix.length()) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (s.charAt(len - suffix.length() + i) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
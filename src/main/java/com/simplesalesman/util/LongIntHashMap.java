@@ -0,0 +1,144 @@
+package com.simplesalesman.util;
+
+import java.util.Arrays;
+
+/**
+ * Compact hash map from primitive {@code long} keys to {@code int} values.
+ *
+ * Uses open addressing with linear probing over parallel arrays, so each entry
+ * costs about 20 bytes instead of two boxed values plus a map node. Removal shifts following entries back instead of
+ * leaving tombstones, so lookups stay short under frequent updates.
+ *
+ * Not thread-safe.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public class LongIntHashMap {
+
+    private static final long EMPTY = 0L; // Zero is stored separately
+    private static final double MAX_LOAD = 0.6;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private boolean containsZero;
+    private int zeroValue;
+
+    public LongIntHashMap() {
+        this(64);
+    }
+
+    public LongIntHashMap(int expectedSize) {
+        int capacity = tableSizeFor(expectedSize);
+        keys = new long[capacity];
+        values = new int[capacity];
+    }
+
+    /**
+     * @return the value of the key, or {@code missing} if absent
+     */
+    public int get(long key, int missing) {
+        if (key == EMPTY) {
+            return containsZero ? zeroValue : missing;
+        }
+        int index = indexOf(keys, key);
+        return keys[index] == key ? values[index] : missing;
+    }
+
+    public void put(long key, int value) {
+        if (key == EMPTY) {
+            if (!containsZero) {
+                containsZero = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+        int index = indexOf(keys, key);
+        if (keys[index] != key) {
+            keys[index] = key;
+            size++;
+        }
+        values[index] = value;
+        if (size > keys.length * MAX_LOAD) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * @return true if the key was present
+     */
+    public boolean remove(long key) {
+        if (key == EMPTY) {
+            if (!containsZero) return false;
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int mask = keys.length - 1;
+        int index = indexOf(keys, key);
+        if (keys[index] != key) {
+            return false;
+        }
+        // Shift back following entries of the probe run that would otherwise become unreachable
+        int free = index;
+        int next = (free + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = slot(keys[next], mask);
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                keys[free] = keys[next];
+                values[free] = values[next];
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[free] = EMPTY;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        containsZero = false;
+        size = 0;
+    }
+
+    private static int slot(long key, int mask) {
+        return (int) (key ^ (key >>> 32)) * 0x9E3779B9 & mask;
+    }
+
+    // Slot holding the key, or the empty slot where it would be inserted
+    private static int indexOf(long[] keys, long key) {
+        int mask = keys.length - 1;
+        int index = slot(key, mask);
+        while (keys[index] != EMPTY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[capacity];
+        values = new int[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int index = indexOf(keys, oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, (int) (expectedSize / MAX_LOAD)) - 1) << 1;
+        return Math.max(16, capacity);
+    }
+}
@@ -0,0 +1,131 @@
+package com.simplesalesman.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * {@link Geocoder} backed by OpenStreetMap Nominatim.
+ *
+ * External API Calls:
+ * - {url}/search → coordinates of an address
+ * - {url}/reverse → city name at coordinates
+ *
+ * It is the default reverse provider (city names for the weather widget). As address
+ * provider it is selected with {@code simplesalesman.geocoding.provider=nominatim}.
+ *
+ * {@code simplesalesman.geocoding.nominatim.url} names a self-hosted instance. Without
+ * it the public instance is used, which allows at most one request per second and
+ * no bulk geocoding; background geocoding then stays off (see {@link #allowsBulkLookups()}),
+ * while single lookups still work. Searches are restricted to
+ * {@code simplesalesman.geocoding.nominatim.country-codes} (default: Austria).
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Component
+public class NominatimGeocoder implements Geocoder {
+
+    private static final String USER_AGENT = "SimpleSalesman/1.0";
+    private static final String PUBLIC_URL = "https://nominatim.openstreetmap.org";
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${simplesalesman.geocoding.nominatim.url:}")
+    private String url;
+
+    @Value("${simplesalesman.geocoding.nominatim.country-codes:at}")
+    private String countryCodes;
+
+    @Value("${simplesalesman.geocoding.nominatim.min-interval:1s}")
+    private Duration minInterval;
+
+    public NominatimGeocoder(RestTemplate restTemplate, ObjectMapper objectMapper) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String getName() {
+        return "nominatim";
+    }
+
+    @Override
+    public Duration getMinInterval() {
+        return minInterval;
+    }
+
+    /**
+     * The public instance forbids bulk geocoding, and addresses of customers must not
+     * go to a third party; only a configured instance other than the public one qualifies.
+     */
+    @Override
+    public boolean allowsBulkLookups() {
+        if (url == null || url.isBlank()) {
+            return false;
+        }
+        String host = URI.create(url.trim()).getHost();
+        return host != null && !host.equalsIgnoreCase(URI.create(PUBLIC_URL).getHost());
+    }
+
+    @Override
+    public double[] geocode(String addressText) {
+        UriComponentsBuilder uri = UriComponentsBuilder.fromUriString(baseUrl()).path("/search")
+                .queryParam("q", addressText)
+                .queryParam("format", "json")
+                .queryParam("limit", 1);
+        if (countryCodes != null && !countryCodes.isBlank()) {
+            uri.queryParam("countrycodes", countryCodes);
+        }
+        JsonNode json = get(uri.encode().build().toUri());
+        if (!json.isArray() || json.isEmpty()) {
+            return null;
+        }
+        JsonNode hit = json.get(0);
+        return new double[] { hit.path("lat").asDouble(), hit.path("lon").asDouble() };
+    }
+
+    @Override
+    public String reverseCity(double latitude, double longitude) {
+        URI uri = UriComponentsBuilder.fromUriString(baseUrl()).path("/reverse")
+                .queryParam("lat", latitude)
+                .queryParam("lon", longitude)
+                .queryParam("format", "json")
+                .encode().build().toUri();
+        JsonNode address = get(uri).path("address");
+        for (String field : new String[] { "city", "town", "village", "hamlet" }) {
+            if (address.hasNonNull(field)) {
+                return address.get(field).asText();
+            }
+        }
+        return null;
+    }
+
+    private String baseUrl() {
+        return url == null || url.isBlank() ? PUBLIC_URL : url.trim();
+    }
+
+    private JsonNode get(URI uri) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("User-Agent", USER_AGENT);
+        String body = restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(headers), String.class).getBody();
+        try {
+            return objectMapper.readTree(body == null ? "null" : body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Invalid Nominatim response", e);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.simplesalesman.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over note texts with German stemming and phrase queries.
+ *
+ * Texts are split into words, lower-cased and reduced by {@link GermanStemmer}.
+ * For every stem the index keeps the ids of the texts containing it together with
+ * the word positions, so phrases can be matched without reading the texts again.
+ *
+ * Query syntax:
+ * - words are combined with AND: {@code kein interesse} finds texts containing both
+ * - quoted words must appear in sequence: {@code "kein Interesse"}
+ * - stemming applies to both: {@code Rückrufe} finds "Rückruf"
+ *
+ * Hits are ranked by tf-idf (frequent words count less, repeated hits more),
+ * ties in favour of higher (newer) ids. Thread-safe; reads run concurrently.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public class NoteTextIndex {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern QUERY_CLAUSE = Pattern.compile("\"([^\"]*)\"?|([^\\s\"]+)");
+
+    private final Map<String, Map<Long, int[]>> postings = new HashMap<>();
+    private final Map<Long, String[]> stemsById = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds a text, replacing any text previously stored under the id.
+     */
+    public void put(long id, String text) {
+        List<String> words = analyze(text);
+        Map<String, List<Integer>> positions = new HashMap<>();
+        for (int i = 0; i < words.size(); i++) {
+            positions.computeIfAbsent(words.get(i), key -> new ArrayList<>()).add(i);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            stemsById.put(id, positions.keySet().toArray(new String[0]));
+            positions.forEach((stem, list) -> postings.computeIfAbsent(stem, key -> new HashMap<>())
+                    .put(id, list.stream().mapToInt(Integer::intValue).toArray()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return stemsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits a query into clauses; each clause is a phrase of one or more stems.
+     *
+     * @param query raw query, e.g. {@code "kein Interesse" rückruf}
+     * @return the clauses, empty if the query contains no words
+     */
+    public static List<List<String>> parseQuery(String query) {
+        List<List<String>> clauses = new ArrayList<>();
+        if (query == null) {
+            return clauses;
+        }
+        Matcher matcher = QUERY_CLAUSE.matcher(query);
+        while (matcher.find()) {
+            String clause = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+            List<String> stems = analyze(clause);
+            if (!stems.isEmpty()) {
+                clauses.add(stems);
+            }
+        }
+        return clauses;
+    }
+
+    /**
+     * @param clauses parsed query (see {@link #parseQuery(String)}); all clauses must match
+     * @return all matching ids, best hits first
+     */
+    public List<Hit> search(List<List<String>> clauses) {
+        if (clauses.isEmpty()) {
+            return List.of();
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            // Start from the rarest stem to keep the candidate set small
+            Map<Long, int[]> rarest = null;
+            for (List<String> clause : clauses) {
+                for (String stem : clause) {
+                    Map<Long, int[]> list = postings.get(stem);
+                    if (list == null) {
+                        return List.of();
+                    }
+                    if (rarest == null || list.size() < rarest.size()) {
+                        rarest = list;
+                    }
+                }
+            }
+
+            int documents = stemsById.size();
+            for (Long id : rarest.keySet()) {
+                double score = 0;
+                for (List<String> clause : clauses) {
+                    int occurrences = occurrences(clause, id);
+                    if (occurrences == 0) {
+                        score = -1;
+                        break;
+                    }
+                    double idf = 0;
+                    for (String stem : clause) {
+                        idf += Math.log(1.0 + (double) documents / postings.get(stem).size());
+                    }
+                    score += (1.0 + Math.log(occurrences)) * idf;
+                }
+                if (score > 0) {
+                    hits.add(new Hit(id, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::getScore).reversed()
+                .thenComparing(Comparator.comparingLong(Hit::getId).reversed()));
+        return hits;
+    }
+
+    // Number of positions at which the whole phrase starts in the text
+    private int occurrences(List<String> phrase, long id) {
+        int[] first = postings.get(phrase.get(0)).get(id);
+        if (first == null) {
+            return 0;
+        }
+        if (phrase.size() == 1) {
+            return first.length;
+        }
+
+        int[][] following = new int[phrase.size() - 1][];
+        for (int i = 1; i < phrase.size(); i++) {
+            following[i - 1] = postings.get(phrase.get(i)).get(id);
+            if (following[i - 1] == null) {
+                return 0;
+            }
+        }
+        int count = 0;
+        for (int start : first) {
+            boolean match = true;
+            for (int i = 0; i < following.length && match; i++) {
+                match = Arrays.binarySearch(following[i], start + i + 1) >= 0;
+            }
+            if (match) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void removeInternal(long id) {
+        String[] previous = stemsById.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String stem : previous) {
+            Map<Long, int[]> list = postings.get(stem);
+            if (list != null && list.remove(id) != null && list.isEmpty()) {
+                postings.remove(stem);
+            }
+        }
+    }
+
+    private static List<String> analyze(String text) {
+        List<String> stems = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return stems;
+        }
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.GERMAN))) {
+            if (!word.isEmpty()) {
+                stems.add(GermanStemmer.stem(word));
+            }
+        }
+        return stems;
+    }
+
+    /**
+     * One search result.
+     */
+    public static final class Hit {
+        private final long id;
+        private final double score;
+
+        Hit(long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+}
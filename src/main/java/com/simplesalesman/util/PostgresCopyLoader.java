@@ -0,0 +1,322 @@
+package com.simplesalesman.util;
+
+import com.simplesalesman.entity.Address;
+import com.simplesalesman.entity.Project;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Bulk-load engine for Excel imports based on PostgreSQL's {@code COPY} protocol.
+ *
+ * Instead of persisting entities one by one through JPA, parsed rows are streamed
+ * as CSV via the driver's {@code CopyManager} into a temporary staging table. A
+ * single set-based statement then:
+ * - skips rows whose {@code address_fingerprint} already exists (indexed lookup;
+ *   fuzzy duplicates are removed beforehand by the import's resolve stage)
+ * - creates missing regions
+ * - inserts the new addresses and projects; like JPA inserts they get their
+ *   {@code change_version} from the sync trigger, so delta sync clients receive them
+ *
+ * IDs are taken from the same pooled sequences Hibernate uses. Every
+ * {@code nextval} reserves a block of {@link #SEQUENCE_ALLOCATION_SIZE} ids, so
+ * rows are numbered and mapped into whole blocks to avoid collisions with ids
+ * handed out by Hibernate. This relies on the sequences being aligned at startup
+ * by {@link com.simplesalesman.config.SequenceAlignmentConfig}.
+ * {@code PostgresCopyLoaderTest} checks the block layout against Hibernate's pooled
+ * optimizer on a real PostgreSQL database.
+ *
+ * Usage:
+ * - Used by {@link com.simplesalesman.service.ExcelImportService} for imports
+ *   started with engine {@code COPY}
+ * - Must run inside a Spring-managed transaction; the transaction's JDBC connection
+ *   is used, and the staging table is dropped on commit
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Component
+public class PostgresCopyLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresCopyLoader.class);
+
+    // Must match allocationSize of the @SequenceGenerator on the entities
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+    private static final int COPY_FLUSH_ROWS = 1000; // Rows buffered before a COPY write
+
+    private static final String CREATE_STAGING_SQL = """
+        CREATE TEMP TABLE import_staging (
+            row_no bigint,
+            region_name text,
+            address_text text,
+            address_fingerprint bigint,
+            address_block_key bigint,
+            postal_code text,
+            street_key text,
+            house_number integer,
+            search_text text,
+            status text,
+            operator text,
+            construction_company text,
+            planned_construction_end date,
+            construction_completed boolean,
+            sales_start date,
+            sales_end date,
+            number_of_homes integer,
+            contract_present boolean,
+            commission_category text,
+            kg_number text,
+            product_price numeric,
+            outdoor_fee_present boolean
+        ) ON COMMIT DROP
+    """;
+
+    private static final String COPY_SQL = """
+        COPY import_staging (row_no, region_name, address_text, address_fingerprint, address_block_key,
+            postal_code, street_key, house_number, search_text, status, operator, construction_company,
+            planned_construction_end, construction_completed, sales_start, sales_end, number_of_homes,
+            contract_present, commission_category, kg_number, product_price, outdoor_fee_present)
+        FROM STDIN WITH (FORMAT csv)
+    """;
+
+    private static final String DUPLICATES_SQL = """
+        SELECT s.address_text FROM import_staging s
+        WHERE EXISTS (SELECT 1 FROM address a WHERE a.address_fingerprint = s.address_fingerprint)
+        ORDER BY s.row_no
+    """;
+
+    // One statement: dedupe, resolve/create regions, insert addresses and projects.
+    // CTEs calling nextval() are materialized, so each block is reserved exactly once.
+    // Foreign keys of project -> address are checked at the end of the statement.
+    private static final String MERGE_SQL = """
+        WITH fresh AS (
+            SELECT s.*, row_number() OVER (ORDER BY s.row_no) - 1 AS rn
+            FROM import_staging s
+            WHERE NOT EXISTS (SELECT 1 FROM address a WHERE a.address_fingerprint = s.address_fingerprint)
+        ),
+        new_regions AS (
+            SELECT name, row_number() OVER (ORDER BY name) - 1 AS rn
+            FROM (SELECT DISTINCT f.region_name AS name FROM fresh f
+                  WHERE NOT EXISTS (SELECT 1 FROM region r WHERE r.name = f.region_name)) n
+        ),
+        region_blocks AS (
+            SELECT b, nextval('region_seq') AS hi
+            FROM generate_series(0, (SELECT max(rn) / %1$d FROM new_regions)) AS b
+        ),
+        inserted_regions AS (
+            INSERT INTO region (id, name)
+            SELECT rb.hi - (%1$d - 1) + nr.rn %% %1$d, nr.name
+            FROM new_regions nr JOIN region_blocks rb ON rb.b = nr.rn / %1$d
+            RETURNING id, name
+        ),
+        regions AS (
+            SELECT id, name FROM inserted_regions
+            UNION ALL
+            SELECT min(id), name FROM region GROUP BY name
+        ),
+        address_blocks AS (
+            SELECT b, nextval('address_seq') AS hi
+            FROM generate_series(0, (SELECT max(rn) / %1$d FROM fresh)) AS b
+        ),
+        project_blocks AS (
+            SELECT b, nextval('project_seq') AS hi
+            FROM generate_series(0, (SELECT max(rn) / %1$d FROM fresh)) AS b
+        ),
+        resolved AS (
+            SELECT f.*,
+                   ab.hi - (%1$d - 1) + f.rn %% %1$d AS address_id,
+                   pb.hi - (%1$d - 1) + f.rn %% %1$d AS project_id,
+                   r.id AS region_id
+            FROM fresh f
+            JOIN address_blocks ab ON ab.b = f.rn / %1$d
+            JOIN project_blocks pb ON pb.b = f.rn / %1$d
+            JOIN regions r ON r.name = f.region_name
+        ),
+        inserted_addresses AS (
+            INSERT INTO address (id, address_text, address_fingerprint, address_block_key, postal_code,
+                street_key, house_number, search_text, region_id)
+            SELECT address_id, address_text, address_fingerprint, address_block_key, postal_code,
+                street_key, house_number, search_text, region_id FROM resolved
+            RETURNING id
+        ),
+        inserted_projects AS (
+            INSERT INTO project (id, status, operator, construction_company, planned_construction_end,
+                construction_completed, sales_start, sales_end, number_of_homes, contract_present,
+                commission_category, kg_number, product_price, outdoor_fee_present, address_id)
+            SELECT project_id, status, operator, construction_company, planned_construction_end,
+                construction_completed, sales_start, sales_end, number_of_homes, contract_present,
+                commission_category, kg_number, product_price, outdoor_fee_present, address_id
+            FROM resolved
+            RETURNING 1
+        )
+        SELECT (SELECT count(*) FROM inserted_projects) AS projects,
+               (SELECT count(*) FROM inserted_regions) AS regions
+    """.formatted(SEQUENCE_ALLOCATION_SIZE);
+
+    private final DataSource dataSource;
+
+    public PostgresCopyLoader(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Streams the given rows into the staging table and merges them into
+     * {@code region}, {@code address} and {@code project}.
+     *
+     * @param rows parsed projects with address and (transient) region name
+     * @return counts of staged, inserted and skipped rows
+     * @throws SQLException on database errors; the surrounding transaction should roll back
+     */
+    public Result load(Iterator<Project> rows) throws SQLException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_SQL);
+            }
+
+            int staged = copyRows(connection, rows);
+            logger.info("Staged {} rows via COPY", staged);
+
+            List<String> duplicates = new ArrayList<>();
+            try (PreparedStatement statement = connection.prepareStatement(DUPLICATES_SQL);
+                 ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    duplicates.add(rs.getString(1));
+                }
+            }
+
+            int inserted = 0;
+            int regionsCreated = 0;
+            if (staged > duplicates.size()) {
+                try (PreparedStatement statement = connection.prepareStatement(MERGE_SQL);
+                     ResultSet rs = statement.executeQuery()) {
+                    if (rs.next()) {
+                        inserted = rs.getInt("projects");
+                        regionsCreated = rs.getInt("regions");
+                    }
+                }
+            }
+
+            logger.info("COPY merge complete. Inserted: {}, Duplicates: {}, New regions: {}",
+                inserted, duplicates.size(), regionsCreated);
+            return new Result(staged, inserted, regionsCreated, duplicates);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private int copyRows(Connection connection, Iterator<Project> rows) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        int rowNo = 0;
+        try {
+            StringBuilder buffer = new StringBuilder();
+            while (rows.hasNext()) {
+                appendCsv(buffer, rowNo++, rows.next());
+                if (rowNo % COPY_FLUSH_ROWS == 0) {
+                    writeBuffer(copyIn, buffer);
+                }
+            }
+            writeBuffer(copyIn, buffer);
+            copyIn.endCopy();
+            return rowNo;
+        } catch (RuntimeException | SQLException e) {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+            throw e;
+        }
+    }
+
+    private static void writeBuffer(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.length() == 0) return;
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private static void appendCsv(StringBuilder sb, int rowNo, Project p) {
+        Address address = p.getAddress();
+        sb.append(rowNo).append(',');
+        text(sb, address.getRegion().getName()).append(',');
+        text(sb, address.getAddressText()).append(',');
+        value(sb, address.getAddressFingerprint()).append(',');
+        value(sb, address.getAddressBlockKey()).append(',');
+        text(sb, address.getPostalCode()).append(',');
+        text(sb, address.getStreetKey()).append(',');
+        value(sb, address.getHouseNumber()).append(',');
+        text(sb, address.getSearchText()).append(',');
+        text(sb, p.getStatus()).append(',');
+        text(sb, p.getOperator()).append(',');
+        text(sb, p.getConstructionCompany()).append(',');
+        value(sb, p.getPlannedConstructionEnd()).append(',');
+        sb.append(p.isConstructionCompleted()).append(',');
+        value(sb, p.getSalesStart()).append(',');
+        value(sb, p.getSalesEnd()).append(',');
+        sb.append(p.getNumberOfHomes()).append(',');
+        sb.append(p.isContractPresent()).append(',');
+        text(sb, p.getCommissionCategory()).append(',');
+        text(sb, p.getKgNumber()).append(',');
+        BigDecimal price = p.getProductPrice();
+        value(sb, price != null ? price.toPlainString() : null).append(',');
+        sb.append(p.isOutdoorFeePresent()).append('\n');
+    }
+
+    // Quoted, so that "" stays an empty string; an unquoted empty field is NULL in CSV mode
+    private static StringBuilder text(StringBuilder sb, String value) {
+        if (value == null) return sb;
+        return sb.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static StringBuilder value(StringBuilder sb, Object value) {
+        return value != null ? sb.append(value) : sb;
+    }
+
+    /**
+     * Outcome of a COPY load.
+     */
+    public static final class Result {
+        private final int rowsStaged;
+        private final int rowsInserted;
+        private final int regionsCreated;
+        private final List<String> duplicates;
+
+        Result(int rowsStaged, int rowsInserted, int regionsCreated, List<String> duplicates) {
+            this.rowsStaged = rowsStaged;
+            this.rowsInserted = rowsInserted;
+            this.regionsCreated = regionsCreated;
+            this.duplicates = duplicates;
+        }
+
+        public int getRowsStaged() {
+            return rowsStaged;
+        }
+
+        public int getRowsInserted() {
+            return rowsInserted;
+        }
+
+        public int getRegionsCreated() {
+            return regionsCreated;
+        }
+
+        public List<String> getDuplicates() {
+            return duplicates;
+        }
+    }
+}
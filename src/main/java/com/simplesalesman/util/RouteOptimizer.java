@@ -0,0 +1,498 @@
+package com.simplesalesman.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Computes a short visiting order for a set of stops, starting at a given point.
+ *
+ * The route is an open path: it starts at the start point and ends at whichever
+ * stop is best, since reps do not walk back. Distances are straight lines on a
+ * local projection (equirectangular around the mean latitude), which is accurate
+ * to well below a metre at the scale of a region.
+ *
+ * Algorithm:
+ * 1. Neighbour lists: the {@value #NEIGHBORS} nearest stops of every stop, found
+ *    with a sweep over the stops sorted by x
+ * 2. Construction: nearest neighbour from the start point, using the lists
+ * 3. Local search until no move improves the route: 2-opt (reverse a section) and
+ *    Or-opt (move a section of up to {@value #MAX_SEGMENT} stops elsewhere, either
+ *    way round); only moves towards neighbour-list stops are tried
+ *
+ * Several such runs start in parallel from differently randomized constructions;
+ * the shortest route wins. Run 0 is deterministic, so a single-threaded optimizer
+ * always returns the same route.
+ *
+ * Internally the open path is a cycle through an extra node that is adjacent to
+ * the start point at no cost and to every stop at the same large cost, so the
+ * usual cycle moves apply and the start point always stays first.
+ *
+ * Thread-safe; one instance can serve concurrent requests.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public class RouteOptimizer {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+    private static final int NEIGHBORS = 10;
+    private static final int MAX_SEGMENT = 3;
+    // Larger than any change a move can make to real distances, smaller than precision issues
+    private static final double FAR = 1e9;
+    private static final double EPSILON = 1e-6;
+    // Chance of taking the second-nearest stop during randomized construction
+    private static final double RANDOM_CHOICE = 0.1;
+
+    private final int runs;
+    private final long timeLimitNanos;
+
+    /**
+     * @param runs            number of parallel runs (at least 1)
+     * @param timeLimitMillis time after which local search stops with the best route so far
+     */
+    public RouteOptimizer(int runs, long timeLimitMillis) {
+        this.runs = Math.max(1, runs);
+        this.timeLimitNanos = timeLimitMillis * 1_000_000L;
+    }
+
+    /**
+     * Orders the stops.
+     *
+     * @param startLatitude  latitude of the start point
+     * @param startLongitude longitude of the start point
+     * @param latitudes      latitudes of the stops
+     * @param longitudes     longitudes of the stops, same length
+     * @return the visiting order with leg lengths
+     */
+    public Route optimize(double startLatitude, double startLongitude, double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("latitudes and longitudes differ in length");
+        }
+        Instance instance = new Instance(startLatitude, startLongitude, latitudes, longitudes);
+        if (instance.stops == 0) {
+            return new Route(new int[0], new double[0]);
+        }
+        long deadline = System.nanoTime() + timeLimitNanos;
+
+        int[] best = IntStream.range(0, runs)
+                .parallel()
+                .mapToObj(run -> new Search(instance, run == 0 ? null : new Random(run), deadline).run())
+                .min(Comparator.comparingDouble(instance::length))
+                .orElseThrow();
+        return instance.toRoute(best);
+    }
+
+    /**
+     * A visiting order.
+     */
+    public static final class Route {
+        private final int[] order;
+        private final double[] legs;
+
+        Route(int[] order, double[] legs) {
+            this.order = order;
+            this.legs = legs;
+        }
+
+        /**
+         * @return indices of the stops in visiting order
+         */
+        public int[] getOrder() {
+            return order.clone();
+        }
+
+        /**
+         * @return distance in metres from the previous stop (or the start point) to each stop, in visiting order
+         */
+        public double[] getLegs() {
+            return legs.clone();
+        }
+
+        /**
+         * @return total length in metres
+         */
+        public double getLength() {
+            return Arrays.stream(legs).sum();
+        }
+    }
+
+    /**
+     * Projected points and neighbour lists. Node 0 is the start point, nodes
+     * 1..stops are the stops, node stops + 1 closes the open path.
+     */
+    private static final class Instance {
+        final int stops;
+        final int nodes;
+        final int end;
+        final double[] x;
+        final double[] y;
+        final int[][] neighbors;
+
+        Instance(double startLatitude, double startLongitude, double[] latitudes, double[] longitudes) {
+            stops = latitudes.length;
+            nodes = stops + 2;
+            end = stops + 1;
+            x = new double[stops + 1];
+            y = new double[stops + 1];
+
+            double meanLatitude = startLatitude;
+            for (double latitude : latitudes) {
+                meanLatitude += latitude;
+            }
+            meanLatitude /= stops + 1;
+            double metersPerDegree = Math.toRadians(1) * EARTH_RADIUS_METERS;
+            double xScale = metersPerDegree * Math.cos(Math.toRadians(meanLatitude));
+            x[0] = startLongitude * xScale;
+            y[0] = startLatitude * metersPerDegree;
+            for (int i = 0; i < stops; i++) {
+                x[i + 1] = longitudes[i] * xScale;
+                y[i + 1] = latitudes[i] * metersPerDegree;
+            }
+            neighbors = computeNeighbors();
+        }
+
+        double dist(int a, int b) {
+            if (a == end || b == end) {
+                return a == 0 || b == 0 ? 0 : FAR;
+            }
+            double dx = x[a] - x[b];
+            double dy = y[a] - y[b];
+            return Math.sqrt(dx * dx + dy * dy);
+        }
+
+        double length(int[] tour) {
+            double length = 0;
+            for (int i = 0; i < tour.length; i++) {
+                length += dist(tour[i], tour[(i + 1) % tour.length]);
+            }
+            return length;
+        }
+
+        Route toRoute(int[] tour) {
+            int start = 0;
+            while (tour[start] != 0) {
+                start++;
+            }
+            // Walk away from the closing node
+            int step = tour[(start + 1) % nodes] == end ? nodes - 1 : 1;
+            int[] order = new int[stops];
+            double[] legs = new double[stops];
+            int previous = 0;
+            for (int i = 0; i < stops; i++) {
+                int node = tour[(start + (i + 1) * step) % nodes];
+                order[i] = node - 1;
+                legs[i] = dist(previous, node);
+                previous = node;
+            }
+            return new Route(order, legs);
+        }
+
+        private int[][] computeNeighbors() {
+            int count = stops + 1;
+            int k = Math.min(NEIGHBORS, count - 1);
+            int[] sorted = IntStream.range(0, count).boxed()
+                    .sorted(Comparator.comparingDouble(i -> x[i]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            int[] rank = new int[count];
+            for (int i = 0; i < count; i++) {
+                rank[sorted[i]] = i;
+            }
+            int[][] lists = new int[count][];
+            IntStream.range(0, count).parallel().forEach(node -> lists[node] = nearest(node, k, sorted, rank));
+            return lists;
+        }
+
+        // k nearest nodes, closest first: sweeps outwards in x until no closer node is possible
+        private int[] nearest(int node, int k, int[] sorted, int[] rank) {
+            int[] ids = new int[k];
+            double[] squared = new double[k];
+            int found = 0;
+            int lower = rank[node] - 1;
+            int upper = rank[node] + 1;
+            while (lower >= 0 || upper < sorted.length) {
+                for (int side = 0; side < 2; side++) {
+                    int index = side == 0 ? lower : upper;
+                    if (index < 0 || index >= sorted.length) {
+                        continue;
+                    }
+                    int other = sorted[index];
+                    double dx = x[other] - x[node];
+                    if (found == k && dx * dx >= squared[k - 1]) {
+                        // Everything further out on this side is further away
+                        if (side == 0) {
+                            lower = -1;
+                        } else {
+                            upper = sorted.length;
+                        }
+                        continue;
+                    }
+                    double dy = y[other] - y[node];
+                    double d = dx * dx + dy * dy;
+                    if (found < k || d < squared[k - 1]) {
+                        int i = found < k ? found++ : k - 1;
+                        while (i > 0 && squared[i - 1] > d) {
+                            ids[i] = ids[i - 1];
+                            squared[i] = squared[i - 1];
+                            i--;
+                        }
+                        ids[i] = other;
+                        squared[i] = d;
+                    }
+                    if (side == 0) {
+                        lower--;
+                    } else {
+                        upper++;
+                    }
+                }
+            }
+            return Arrays.copyOf(ids, found);
+        }
+    }
+
+    /**
+     * One construction plus local search on its own tour.
+     */
+    private static final class Search {
+        private final Instance instance;
+        private final Random random;
+        private final long deadline;
+        private final int[] tour;
+        private final int[] pos;
+        private final int nodes;
+
+        Search(Instance instance, Random random, long deadline) {
+            this.instance = instance;
+            this.random = random;
+            this.deadline = deadline;
+            this.nodes = instance.nodes;
+            this.tour = new int[nodes];
+            this.pos = new int[nodes];
+        }
+
+        int[] run() {
+            construct();
+            boolean improved = true;
+            while (improved && !timeUp()) {
+                improved = twoOpt();
+                improved |= orOpt();
+            }
+            return tour;
+        }
+
+        private void construct() {
+            boolean[] visited = new boolean[nodes];
+            int current = 0;
+            visited[0] = true;
+            tour[0] = 0;
+            for (int i = 1; i <= instance.stops; i++) {
+                int next = -1;
+                int second = -1;
+                for (int candidate : instance.neighbors[current]) {
+                    if (!visited[candidate]) {
+                        if (next < 0) {
+                            next = candidate;
+                        } else {
+                            second = candidate;
+                            break;
+                        }
+                    }
+                }
+                if (next < 0) {
+                    // All neighbours visited: scan the remaining stops
+                    double nearest = Double.MAX_VALUE;
+                    for (int candidate = 1; candidate <= instance.stops; candidate++) {
+                        if (!visited[candidate] && instance.dist(current, candidate) < nearest) {
+                            nearest = instance.dist(current, candidate);
+                            next = candidate;
+                        }
+                    }
+                } else if (second >= 0 && random != null && random.nextDouble() < RANDOM_CHOICE) {
+                    next = second;
+                }
+                visited[next] = true;
+                tour[i] = next;
+                current = next;
+            }
+            tour[nodes - 1] = instance.end;
+            for (int i = 0; i < nodes; i++) {
+                pos[tour[i]] = i;
+            }
+        }
+
+        private boolean twoOpt() {
+            boolean improved = false;
+            for (int a = 0; a <= instance.stops; a++) {
+                if ((a & 63) == 0 && timeUp()) {
+                    break;
+                }
+                while (twoOptMove(a)) {
+                    improved = true;
+                }
+            }
+            return improved;
+        }
+
+        // Tries to replace an edge at a by an edge to one of its neighbours; applies the first improvement
+        private boolean twoOptMove(int a) {
+            for (int direction = 0; direction < 2; direction++) {
+                int b = direction == 0 ? next(a) : prev(a);
+                double ab = instance.dist(a, b);
+                for (int c : instance.neighbors[a]) {
+                    double ac = instance.dist(a, c);
+                    if (ac >= ab - EPSILON) {
+                        break; // Neighbours are sorted; no further gain possible
+                    }
+                    int d = direction == 0 ? next(c) : prev(c);
+                    if (c == b || d == a) {
+                        continue;
+                    }
+                    double delta = ac + instance.dist(b, d) - ab - instance.dist(c, d);
+                    if (delta < -EPSILON) {
+                        if (direction == 0) {
+                            reverse(b, c); // a b ... c d -> a c ... b d
+                        } else {
+                            reverse(a, d); // b a ... d c -> b d ... a c
+                        }
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean orOpt() {
+            boolean improved = false;
+            for (int first = 1; first <= instance.stops; first++) {
+                if ((first & 63) == 0 && timeUp()) {
+                    break;
+                }
+                for (int length = 1; length <= MAX_SEGMENT; length++) {
+                    if (orOptMove(first, length)) {
+                        improved = true;
+                    }
+                }
+            }
+            return improved;
+        }
+
+        // Tries to move the section of the given length starting at first next to a neighbour
+        private boolean orOptMove(int first, int length) {
+            int last = first;
+            for (int i = 1; i < length; i++) {
+                last = next(last);
+                if (last == 0 || last == instance.end) {
+                    return false;
+                }
+            }
+            int before = prev(first);
+            int after = next(last);
+            if (after == first) {
+                return false; // Section covers the whole tour
+            }
+            double removalGain = instance.dist(before, first) + instance.dist(last, after) - instance.dist(before, after);
+            if (removalGain <= EPSILON) {
+                return false;
+            }
+
+            for (int side = 0; side < 2; side++) {
+                int near = side == 0 ? first : last;
+                int far = side == 0 ? last : first;
+                for (int c : instance.neighbors[near]) {
+                    if (inSection(c, first, length)) {
+                        continue;
+                    }
+                    double added = instance.dist(c, near);
+                    if (added >= removalGain - EPSILON) {
+                        break;
+                    }
+                    for (int direction = 0; direction < 2; direction++) {
+                        int e = direction == 0 ? next(c) : prev(c);
+                        if (inSection(e, first, length)) {
+                            continue;
+                        }
+                        double delta = added + instance.dist(far, e) - instance.dist(c, e) - removalGain;
+                        if (delta < -EPSILON) {
+                            // Insert between u and its successor v, with near next to c
+                            int u = direction == 0 ? c : e;
+                            move(first, length, u, u == c ? near : far);
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean inSection(int node, int first, int length) {
+            int offset = pos[node] - pos[first];
+            if (offset < 0) {
+                offset += nodes;
+            }
+            return offset < length;
+        }
+
+        // Moves the section first..(length) between u and next(u), starting with headAfterU
+        private void move(int first, int length, int u, int headAfterU) {
+            int[] section = new int[length];
+            for (int i = 0; i < length; i++) {
+                section[i] = tour[(pos[first] + i) % nodes];
+            }
+            boolean forward = section[0] == headAfterU;
+            int[] rebuilt = new int[nodes];
+            int size = 0;
+            int start = (pos[first] + length) % nodes; // Node after the section
+            for (int i = 0; i < nodes - length; i++) {
+                int node = tour[(start + i) % nodes];
+                rebuilt[size++] = node;
+                if (node == u) {
+                    for (int j = 0; j < length; j++) {
+                        rebuilt[size++] = section[forward ? j : length - 1 - j];
+                    }
+                }
+            }
+            System.arraycopy(rebuilt, 0, tour, 0, nodes);
+            for (int i = 0; i < nodes; i++) {
+                pos[tour[i]] = i;
+            }
+        }
+
+        // Reverses the path from..to (in tour direction); reverses the complement if that is shorter
+        private void reverse(int from, int to) {
+            int i = pos[from];
+            int j = pos[to];
+            int length = (j - i + nodes) % nodes + 1;
+            if (2 * length > nodes) {
+                int complementStart = (j + 1) % nodes;
+                j = (i - 1 + nodes) % nodes;
+                i = complementStart;
+                length = nodes - length;
+            }
+            for (int k = 0; k < length / 2; k++) {
+                int left = tour[i];
+                int right = tour[j];
+                tour[i] = right;
+                pos[right] = i;
+                tour[j] = left;
+                pos[left] = j;
+                i = (i + 1) % nodes;
+                j = (j - 1 + nodes) % nodes;
+            }
+        }
+
+        private int next(int node) {
+            return tour[(pos[node] + 1) % nodes];
+        }
+
+        private int prev(int node) {
+            return tour[(pos[node] - 1 + nodes) % nodes];
+        }
+
+        private boolean timeUp() {
+            return System.nanoTime() > deadline;
+        }
+    }
+}
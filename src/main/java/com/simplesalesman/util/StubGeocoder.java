@@ -0,0 +1,67 @@
+package com.simplesalesman.util;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * {@link Geocoder} without network access, the default address provider
+ * ({@code simplesalesman.geocoding.provider=stub}); for tests and fully offline
+ * installations also as {@code simplesalesman.geocoding.reverse-provider}.
+ *
+ * Derives fake but stable coordinates from the address text without any network
+ * access: the postal code picks a point in Austria, the rest of the address an
+ * offset of up to about 2 km from it. Addresses of one postal code therefore lie
+ * close together, as real ones do. Texts without a street part are unknown;
+ * reverse lookups never find a place.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@Component
+public class StubGeocoder implements Geocoder {
+
+    // Bounding box of Austria
+    private static final double MIN_LATITUDE = 46.4;
+    private static final double MAX_LATITUDE = 49.0;
+    private static final double MIN_LONGITUDE = 9.5;
+    private static final double MAX_LONGITUDE = 17.1;
+    private static final double MAX_OFFSET_DEGREES = 0.02;
+
+    @Override
+    public String getName() {
+        return "stub";
+    }
+
+    @Override
+    public Duration getMinInterval() {
+        return Duration.ZERO;
+    }
+
+    @Override
+    public double[] geocode(String addressText) {
+        AddressNormalizer.NormalizedAddress normalized = AddressNormalizer.normalize(addressText);
+        if (normalized == null || normalized.getStreet() == null || normalized.getStreet().isEmpty()) {
+            return null;
+        }
+        String area = normalized.getPostalCode() != null ? normalized.getPostalCode() : normalized.getLocality();
+        long areaHash = AddressFingerprint.hash(String.valueOf(area));
+        long addressHash = normalized.getFingerprint();
+        double latitude = MIN_LATITUDE + unit(areaHash) * (MAX_LATITUDE - MIN_LATITUDE)
+                + (unit(addressHash) - 0.5) * 2 * MAX_OFFSET_DEGREES;
+        double longitude = MIN_LONGITUDE + unit(areaHash >>> 32 | areaHash << 32) * (MAX_LONGITUDE - MIN_LONGITUDE)
+                + (unit(addressHash >>> 32 | addressHash << 32) - 0.5) * 2 * MAX_OFFSET_DEGREES;
+        return new double[] { latitude, longitude };
+    }
+
+    @Override
+    public String reverseCity(double latitude, double longitude) {
+        return null;
+    }
+
+    // Maps the low 32 bits of a hash to [0, 1)
+    private static double unit(long hash) {
+        return (hash & 0xFFFFFFFFL) / (double) (1L << 32);
+    }
+}
@@ -0,0 +1,90 @@
+package com.simplesalesman.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Translates the table parameters of the GUI (search, sort field, order, page)
+ * into repository arguments for server-side filtering, sorting and paging.
+ *
+ * Sort fields are whitelisted per table: each public field name maps to the
+ * entity paths it orders by, e.g. {@code "plz"} to postal code, street and house
+ * number. The id is always appended as tie-breaker, so pages are stable.
+ * Paths may use join aliases of the repository query (e.g. {@code "r.name"}).
+ *
+ * Search terms become a case-insensitive {@code LIKE} pattern; the wildcard
+ * characters {@code %} and {@code _} are escaped with {@link #LIKE_ESCAPE}.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class TableQuery {
+
+    /** Escape character for LIKE patterns; repository queries must declare {@code ESCAPE '!'}. */
+    public static final char LIKE_ESCAPE = '!';
+
+    private TableQuery() {
+    }
+
+    /**
+     * @param page       zero-based page number
+     * @param size       page size, already limited by the caller
+     * @param sortField  public sort field name, or null for {@code defaultField}
+     * @param order      "asc" or "desc", or null for ascending
+     * @param sortFields allowed sort fields and the entity paths they order by
+     * @param defaultField sort field used without {@code sortField}
+     * @return the page request including the sort order
+     * @throws IllegalArgumentException for a negative page, an unknown sort field or order
+     */
+    public static Pageable pageable(int page, int size, String sortField, String order,
+                                    Map<String, List<String>> sortFields, String defaultField) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Seite muss >= 0 sein");
+        }
+        String field = sortField == null || sortField.isBlank() ? defaultField : sortField;
+        List<String> paths = sortFields.get(field);
+        if (paths == null) {
+            throw new IllegalArgumentException("Unbekanntes Sortierfeld: " + field);
+        }
+
+        Sort.Direction direction = direction(order);
+        Sort sort = JpaSort.unsafe(direction, paths);
+        if (!paths.contains("id")) {
+            sort = sort.and(Sort.by(direction, "id"));
+        }
+        return PageRequest.of(page, size, sort);
+    }
+
+    /**
+     * @param search raw search input, may be null
+     * @return a lower-case contains pattern, or null if there is nothing to search for
+     */
+    public static String likePattern(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        StringBuilder pattern = new StringBuilder("%");
+        for (char c : search.trim().toLowerCase(Locale.ROOT).toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    private static Sort.Direction direction(String order) {
+        if (order == null || order.isBlank()) {
+            return Sort.Direction.ASC;
+        }
+        return Sort.Direction.fromOptionalString(order)
+                .orElseThrow(() -> new IllegalArgumentException("Ungültige Sortierreihenfolge: " + order));
+    }
+}
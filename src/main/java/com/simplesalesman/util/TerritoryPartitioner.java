@@ -0,0 +1,286 @@
+package com.simplesalesman.util;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Splits a set of points into k compact territories of (almost) equal size.
+ *
+ * Capacity-constrained k-means on a local equirectangular projection:
+ * 1. k-means++ seeding, with a fixed random seed so the same input always gives
+ *    the same territories
+ * 2. Repeated until fewer than 1 in {@value #STABLE_FRACTION} points change territory
+ *    (at most {@value #MAX_ITERATIONS} times):
+ *    - every point computes its nearest and second-nearest centre (in parallel)
+ *    - points are assigned greedily, those losing most by not getting their
+ *      nearest centre ("regret") first, each to the nearest centre with room
+ *      left; capacity is ceil(n / k)
+ *    - territories below floor(n / k) take over the points that are cheapest to move
+ *    - centres move to the mean of their points
+ *
+ * Territory sizes therefore differ by at most one point in the usual case; the
+ * territories are compact but, unlike plain k-means, not always separated by
+ * straight borders where capacity forced points into a neighbouring territory.
+ *
+ * Thread-safe; one instance can serve concurrent requests.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public class TerritoryPartitioner {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+    private static final int MAX_ITERATIONS = 30;
+    // Capacity limits make a few boundary points flip back and forth; the assignment counts as stable then
+    private static final int STABLE_FRACTION = 1000;
+    private static final long SEED = 42;
+
+    /**
+     * Partitions the points.
+     *
+     * @param latitudes  latitudes of the points
+     * @param longitudes longitudes of the points, same length
+     * @param k          number of territories, 1..number of points
+     * @return territory per point and territory centres
+     */
+    public Partition partition(double[] latitudes, double[] longitudes, int k) {
+        int n = latitudes.length;
+        if (longitudes.length != n) {
+            throw new IllegalArgumentException("latitudes and longitudes differ in length");
+        }
+        if (k < 1 || k > n) {
+            throw new IllegalArgumentException("k must be between 1 and the number of points");
+        }
+
+        double meanLatitude = Arrays.stream(latitudes).average().orElse(0);
+        double metersPerDegree = Math.toRadians(1) * EARTH_RADIUS_METERS;
+        double xScale = metersPerDegree * Math.cos(Math.toRadians(meanLatitude));
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = longitudes[i] * xScale;
+            y[i] = latitudes[i] * metersPerDegree;
+        }
+
+        double[] cx = new double[k];
+        double[] cy = new double[k];
+        seed(x, y, cx, cy);
+
+        int[] assignment = new int[n];
+        Arrays.fill(assignment, -1);
+        int iterations = 0;
+        int changed = n;
+        while (changed * STABLE_FRACTION >= n && iterations < MAX_ITERATIONS) {
+            iterations++;
+            int[] next = assign(x, y, cx, cy);
+            changed = 0;
+            for (int i = 0; i < n; i++) {
+                if (next[i] != assignment[i]) {
+                    changed++;
+                }
+            }
+            assignment = next;
+            moveCenters(x, y, assignment, cx, cy);
+        }
+
+        double[] centerLatitudes = new double[k];
+        double[] centerLongitudes = new double[k];
+        for (int c = 0; c < k; c++) {
+            centerLatitudes[c] = cy[c] / metersPerDegree;
+            centerLongitudes[c] = cx[c] / xScale;
+        }
+        double[] radii = new double[k];
+        for (int i = 0; i < n; i++) {
+            int c = assignment[i];
+            radii[c] = Math.max(radii[c], Math.hypot(x[i] - cx[c], y[i] - cy[c]));
+        }
+        return new Partition(assignment, centerLatitudes, centerLongitudes, radii, iterations);
+    }
+
+    // k-means++: each further centre is drawn with probability proportional to the squared distance
+    private static void seed(double[] x, double[] y, double[] cx, double[] cy) {
+        int n = x.length;
+        Random random = new Random(SEED);
+        int first = random.nextInt(n);
+        cx[0] = x[first];
+        cy[0] = y[first];
+        double[] nearest = new double[n];
+        Arrays.fill(nearest, Double.MAX_VALUE);
+        for (int c = 1; c < cx.length; c++) {
+            int last = c - 1;
+            IntStream.range(0, n).parallel().forEach(i -> {
+                double dx = x[i] - cx[last];
+                double dy = y[i] - cy[last];
+                nearest[i] = Math.min(nearest[i], dx * dx + dy * dy);
+            });
+            double total = 0;
+            for (double d : nearest) {
+                total += d;
+            }
+            int chosen = random.nextInt(n);
+            if (total > 0) {
+                double target = random.nextDouble() * total;
+                for (int i = 0; i < n; i++) {
+                    target -= nearest[i];
+                    if (target <= 0 && nearest[i] > 0) {
+                        chosen = i;
+                        break;
+                    }
+                }
+            }
+            cx[c] = x[chosen];
+            cy[c] = y[chosen];
+        }
+    }
+
+    private static int[] assign(double[] x, double[] y, double[] cx, double[] cy) {
+        int n = x.length;
+        int k = cx.length;
+        int[] nearest = new int[n];
+        double[] regret = new double[n];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            double best = Double.MAX_VALUE;
+            double second = Double.MAX_VALUE;
+            int bestCenter = 0;
+            for (int c = 0; c < k; c++) {
+                double d = distance(x[i], y[i], cx[c], cy[c]);
+                if (d < best) {
+                    second = best;
+                    best = d;
+                    bestCenter = c;
+                } else if (d < second) {
+                    second = d;
+                }
+            }
+            nearest[i] = bestCenter;
+            regret[i] = k > 1 ? second - best : 0;
+        });
+
+        // Highest regret first
+        int[] order = IntStream.range(0, n).boxed()
+                .sorted((a, b) -> Double.compare(regret[b], regret[a]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        int capacity = (n + k - 1) / k;
+        int[] sizes = new int[k];
+        int[] assignment = new int[n];
+        for (int i : order) {
+            int c = nearest[i];
+            if (sizes[c] >= capacity) {
+                double best = Double.MAX_VALUE;
+                for (int other = 0; other < k; other++) {
+                    double d = distance(x[i], y[i], cx[other], cy[other]);
+                    if (sizes[other] < capacity && d < best) {
+                        best = d;
+                        c = other;
+                    }
+                }
+            }
+            assignment[i] = c;
+            sizes[c]++;
+        }
+        fillUp(x, y, cx, cy, assignment, sizes, n / k);
+        return assignment;
+    }
+
+    // Gives territories below the minimum size the points that cost least to move from larger ones
+    private static void fillUp(double[] x, double[] y, double[] cx, double[] cy, int[] assignment, int[] sizes,
+                               int minimum) {
+        for (int c = 0; c < cx.length; c++) {
+            while (sizes[c] < minimum) {
+                int candidate = -1;
+                double cheapest = Double.MAX_VALUE;
+                for (int i = 0; i < x.length; i++) {
+                    int own = assignment[i];
+                    if (own != c && sizes[own] > minimum) {
+                        double cost = distance(x[i], y[i], cx[c], cy[c]) - distance(x[i], y[i], cx[own], cy[own]);
+                        if (cost < cheapest) {
+                            cheapest = cost;
+                            candidate = i;
+                        }
+                    }
+                }
+                if (candidate < 0) {
+                    break;
+                }
+                sizes[assignment[candidate]]--;
+                assignment[candidate] = c;
+                sizes[c]++;
+            }
+        }
+    }
+
+    private static void moveCenters(double[] x, double[] y, int[] assignment, double[] cx, double[] cy) {
+        int k = cx.length;
+        double[] sumX = new double[k];
+        double[] sumY = new double[k];
+        int[] counts = new int[k];
+        for (int i = 0; i < x.length; i++) {
+            int c = assignment[i];
+            sumX[c] += x[i];
+            sumY[c] += y[i];
+            counts[c]++;
+        }
+        for (int c = 0; c < k; c++) {
+            if (counts[c] > 0) {
+                cx[c] = sumX[c] / counts[c];
+                cy[c] = sumY[c] / counts[c];
+            }
+        }
+    }
+
+    private static double distance(double x1, double y1, double x2, double y2) {
+        double dx = x1 - x2;
+        double dy = y1 - y2;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Result of a partitioning.
+     */
+    public static final class Partition {
+        private final int[] assignment;
+        private final double[] centerLatitudes;
+        private final double[] centerLongitudes;
+        private final double[] radii;
+        private final int iterations;
+
+        Partition(int[] assignment, double[] centerLatitudes, double[] centerLongitudes, double[] radii,
+                  int iterations) {
+            this.assignment = assignment;
+            this.centerLatitudes = centerLatitudes;
+            this.centerLongitudes = centerLongitudes;
+            this.radii = radii;
+            this.iterations = iterations;
+        }
+
+        /**
+         * @param point index of a point
+         * @return territory of the point, 0..k-1
+         */
+        public int territoryOf(int point) {
+            return assignment[point];
+        }
+
+        public double getCenterLatitude(int territory) {
+            return centerLatitudes[territory];
+        }
+
+        public double getCenterLongitude(int territory) {
+            return centerLongitudes[territory];
+        }
+
+        /**
+         * @return distance in metres from the centre to the farthest point of the territory
+         */
+        public double getRadius(int territory) {
+            return radii[territory];
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.simplesalesman.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over short texts, modelled on PostgreSQL's {@code pg_trgm}.
+ *
+ * Texts are split into words; each word is padded with two leading and one
+ * trailing blank and cut into overlapping three-character trigrams
+ * ({@code "haus"} → {@code "  h", " ha", "hau", "aus", "us "}). An inverted index
+ * maps each trigram to the ids of the texts containing it.
+ *
+ * A query scores each candidate by the share of the query's trigrams that occur
+ * in the text. This makes matching:
+ * - prefix-tolerant: {@code "hauptst"} shares all but one trigram with {@code "hauptstrasse"}
+ * - typo-tolerant: a single wrong letter only costs up to three trigrams
+ * - ranked: ties are broken in favour of shorter texts, then lower ids
+ *
+ * Used as search fallback where {@code pg_trgm} is not available (e.g. H2).
+ * Thread-safe; reads run concurrently.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public class TrigramIndex {
+
+    private final Map<Long, long[]> trigramsById = new HashMap<>();
+    private final Map<Long, Set<Long>> idsByTrigram = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds a text, replacing any text previously stored under the id.
+     *
+     * @param id   id of the text
+     * @param text already folded text (see {@link AddressNormalizer#searchText(String)})
+     */
+    public void put(long id, String text) {
+        long[] trigrams = trigrams(text);
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            trigramsById.put(id, trigrams);
+            for (long trigram : trigrams) {
+                idsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return trigramsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param query     already folded query text
+     * @param threshold minimum share of query trigrams a text must contain (0.0 - 1.0)
+     * @param limit     maximum number of hits
+     * @return hits ordered by descending score
+     */
+    public List<Hit> search(String query, double threshold, int limit) {
+        long[] queryTrigrams = trigrams(query);
+        if (queryTrigrams.length == 0) {
+            return List.of();
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> shared = new HashMap<>();
+            for (long trigram : queryTrigrams) {
+                Set<Long> ids = idsByTrigram.get(trigram);
+                if (ids != null) {
+                    ids.forEach(id -> shared.merge(id, 1, Integer::sum));
+                }
+            }
+            shared.forEach((id, count) -> {
+                double score = (double) count / queryTrigrams.length;
+                if (score >= threshold) {
+                    hits.add(new Hit(id, score, trigramsById.get(id).length));
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::getScore).reversed()
+                .thenComparingInt(hit -> hit.length)
+                .thenComparingLong(Hit::getId));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    private void removeInternal(long id) {
+        long[] previous = trigramsById.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (long trigram : previous) {
+            Set<Long> ids = idsByTrigram.get(trigram);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                idsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    // Distinct trigrams of all words, each packed into one long (3 x 16-bit chars)
+    private static long[] trigrams(String text) {
+        if (text == null || text.isBlank()) {
+            return new long[0];
+        }
+        Set<Long> trigrams = new HashSet<>();
+        for (String word : text.trim().split("\\s+")) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2));
+            }
+        }
+        return trigrams.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * One search result.
+     */
+    public static final class Hit {
+        private final long id;
+        private final double score;
+        private final int length;
+
+        Hit(long id, double score, int length) {
+            this.id = id;
+            this.score = score;
+            this.length = length;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+}
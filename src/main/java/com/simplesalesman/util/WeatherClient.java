@@ -2,26 +2,50 @@ package com.simplesalesman.util;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.simplesalesman.service.GeocodingService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 /**
  * HTTP utility class for retrieving weather data using coordinates.
  *
  * This client handles:
  * - Querying wttr.in with encoded coordinates (e.g., "48.2,16.3")
- * - Reverse geocoding via OpenStreetMap Nominatim (for optional city name)
+ * - Reverse geocoding via {@link GeocodingService} (for optional city name; cached
+ *   and rate-limited there)
  * - Combining both to return formatted result like "Vienna: ☀️ +24°C"
  *
  * External API Calls:
  * - https://wttr.in/{query}?format=3 → returns plain-text weather
- * - https://nominatim.openstreetmap.org/reverse → resolves city name
+ * - https://nominatim.openstreetmap.org/reverse → resolves city name (only on a cache miss)
+ *
+ * Caching:
+ * - Results are cached per grid cell of {@code simplesalesman.weather.cell-size-degrees}
+ *   (default 0.01°, about 1.1 × 0.7 km in Austria) for {@code simplesalesman.weather.cache-ttl};
+ *   both upstream calls use the cell centre, so everyone in a cell gets the same answer
+ * - Concurrent misses for the same cell wait for a single upstream call
+ * - Failed calls are not cached
+ *
+ * Metrics (GET /actuator/metrics/...):
+ * - cache.gets{cache=weather,result=hit|miss}: requests answered from the cache
+ *   (including those that waited for a running call) or by calling upstream
+ * - weather.upstream{call=weather|city,outcome=success|empty}: latency of the upstream calls;
+ *   empty means the call failed or found no city
  *
  * Functional Behavior:
  * - Always sends coordinates to wttr.in
@@ -38,9 +62,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  *
  * Dependencies:
  * - RestTemplate: for HTTP requests
- * - Jackson ObjectMapper: for JSON parsing of reverse geocoding result
+ * - GeocodingService: for reverse geocoding
+ * - MeterRegistry: for cache and latency metrics
  *
- * @version 0.0.9
+ * @version 0.1.0
  * @since 0.0.3
  */
 @Component
@@ -48,27 +73,72 @@ public class WeatherClient {
 
     private static final Logger logger = LoggerFactory.getLogger(WeatherClient.class);
     private static final String WEATHER_URL = "https://wttr.in/%s?format=3";
-    private static final String NOMINATIM_URL = "https://nominatim.openstreetmap.org/reverse?lat=%s&lon=%s&format=json";
+    private static final String UNAVAILABLE = "Weather service unavailable";
 
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final GeocodingService geocodingService;
+    private final MeterRegistry meterRegistry;
+    private final double cellDegrees;
+    // Completed with null on failure, which removes the entry again
+    private final AsyncCache<Long, String> cache;
 
-    public WeatherClient(RestTemplate restTemplate, ObjectMapper objectMapper) {
+    public WeatherClient(RestTemplate restTemplate, GeocodingService geocodingService, MeterRegistry meterRegistry,
+                         @Value("${simplesalesman.weather.cell-size-degrees:0.01}") double cellDegrees,
+                         @Value("${simplesalesman.weather.cache-ttl:15m}") Duration cacheTtl,
+                         @Value("${simplesalesman.weather.cache-size:1000}") long cacheSize) {
         this.restTemplate = restTemplate;
-        this.objectMapper = objectMapper;
+        this.geocodingService = geocodingService;
+        this.meterRegistry = meterRegistry;
+        this.cellDegrees = cellDegrees;
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(cacheSize)
+                .recordStats()
+                .<Long, String>buildAsync(), "weather");
     }
 
     public String fetchWeatherByLatLon(double lat, double lon) {
-        String coordString = String.format("%.4f,%.4f", lat, lon);
-        String weather = fetchWeather(coordString); // e.g. "48.2082,16.3738: ☀️ +24°C"
+        long row = (long) Math.floor(lat / cellDegrees);
+        long column = (long) Math.floor(lon / cellDegrees);
+        long cell = row << 32 | (column & 0xFFFFFFFFL);
+
+        // The first request for a cell installs an open future and calls upstream; all others get that future
+        CompletableFuture<String> load = new CompletableFuture<>();
+        CompletableFuture<String> result = cache.get(cell, (key, executor) -> load);
+        if (result == load) {
+            String weather = null;
+            try {
+                weather = fetchWeatherForCell((row + 0.5) * cellDegrees, (column + 0.5) * cellDegrees);
+            } finally {
+                load.complete(weather);
+            }
+        }
+        String weather = result.join();
+        return weather != null ? weather : UNAVAILABLE;
+    }
+
+    private String fetchWeatherForCell(double lat, double lon) {
+        String coordString = String.format(Locale.ROOT, "%.4f,%.4f", lat, lon);
+        String weather = timed("weather", () -> fetchWeather(coordString)); // e.g. "48.2082,16.3738: ☀️ +24°C"
+        if (weather == null) {
+            return null;
+        }
 
-        String city = resolveCity(lat, lon);
+        String city = timed("city", () -> resolveCity(lat, lon));
         if (city != null && !city.isBlank()) {
             return replacePrefixWithCity(weather, city);
         }
         return weather;
     }
 
+    private String timed(String call, Supplier<String> upstream) {
+        long start = System.nanoTime();
+        String result = upstream.get();
+        meterRegistry.timer("weather.upstream", "call", call, "outcome", result != null ? "success" : "empty")
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
     private String fetchWeather(String query) {
         try {
             String encoded = URLEncoder.encode(query, StandardCharsets.UTF_8);
@@ -84,23 +154,13 @@ public class WeatherClient {
             return response.getBody();
         } catch (Exception e) {
             logger.error("Failed to fetch weather for '{}': {}", query, e.getMessage());
-            return "Weather service unavailable";
+            return null;
         }
     }
 
     private String resolveCity(double lat, double lon) {
         try {
-            String url = String.format(NOMINATIM_URL, lat, lon);
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, null, String.class);
-
-            JsonNode json = objectMapper.readTree(response.getBody());
-            if (json.has("address")) {
-                JsonNode addr = json.get("address");
-                if (addr.has("city")) return addr.get("city").asText();
-                if (addr.has("town")) return addr.get("town").asText();
-                if (addr.has("village")) return addr.get("village").asText();
-                if (addr.has("hamlet")) return addr.get("hamlet").asText();
-            }
+            return geocodingService.resolveCity(lat, lon);
         } catch (Exception e) {
             logger.warn("Failed to resolve city from lat={}, lon={}: {}", lat, lon, e.getMessage());
         }
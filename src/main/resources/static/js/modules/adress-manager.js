@@ -6,6 +6,7 @@ export class AddressManager {
     this.api = apiService;
     this.state = appState;
     this.tableManager = null;
+    this.treeAddresses = null; // Full address list, only loaded for the tree view
   }
 
   setTableManager(tableManager) {
@@ -14,16 +15,15 @@ export class AddressManager {
 
   async loadAddresses() {
     try {
-      const addresses = await this.api.fetchAddresses();
-      console.log('Loaded addresses:', addresses.length);
-      this.state.setAddresses(addresses);
-      
-      if (this.tableManager) {
-        this.tableManager.render('addresses');
+      // The table only loads its visible page
+      await this.tableManager.render('addresses');
+      console.log('Loaded addresses:', this.state.addresses.length, 'of', this.state.tables.addresses.totalElements);
+
+      this.treeAddresses = null;
+      if (this.state.currentView === 'tree') {
+        await this.loadTreeAddresses();
       }
-      
-      this.showAllPlzs();
-      return addresses;
+      return this.state.addresses;
     } catch (error) {
       console.error('Error loading addresses:', error);
       this.showError('addressesTable', `Fehler beim Laden der Adressen: ${error.message}`);
@@ -31,6 +31,20 @@ export class AddressManager {
     }
   }
 
+  async loadTreeAddresses() {
+    if (!this.treeAddresses) {
+      this.treeAddresses = await this.api.fetchAddresses();
+    }
+    this.showAllPlzs();
+    return this.treeAddresses;
+  }
+
+  async getAddress(addressId) {
+    return this.state.getAddressById(addressId)
+      || this.treeAddresses?.find(addr => addr.id === addressId)
+      || this.api.fetchAddress(addressId).catch(() => null);
+  }
+
   showError(tableId, message) {
     const tbody = document.querySelector(`#${tableId} tbody`);
     if (tbody) {
@@ -47,7 +61,7 @@ export class AddressManager {
 
   showAllPlzs() {
     const plzs = [...new Set(
-      this.state.addresses
+      (this.treeAddresses || [])
         .map(a => Utils.extractPlz(a))
         .filter(p => p)
     )].sort();
@@ -80,7 +94,7 @@ export class AddressManager {
     this.showNavigationElements('street');
 
     const streets = [...new Set(
-      this.state.addresses
+      (this.treeAddresses || [])
         .filter(a => Utils.extractPlz(a) == plz)
         .map(a => Utils.extractStreet(a))
         .filter(s => s)
@@ -100,7 +114,7 @@ export class AddressManager {
     
     this.showNavigationElements('number');
 
-    const numbers = this.state.addresses
+    const numbers = (this.treeAddresses || [])
       .filter(a => 
         Utils.extractPlz(a) == this.state.navigation.plz && 
         Utils.extractStreet(a) === street
@@ -117,7 +131,7 @@ export class AddressManager {
   }
 
   selectNumber(number) {
-    const address = this.state.addresses.find(a => 
+    const address = (this.treeAddresses || []).find(a => 
       Utils.extractPlz(a) == this.state.navigation.plz && 
       Utils.extractStreet(a) === this.state.navigation.street && 
       Utils.extractNumber(a) === number
@@ -200,14 +214,18 @@ export class AddressManager {
 
     if (view === 'tree') {
       this.state.resetNavigation();
-      this.showAllPlzs();
+      this.loadTreeAddresses().catch(error => {
+        console.error('Error loading addresses for tree view:', error);
+        Utils.showNotification('Fehler', `Fehler beim Laden der Adressen: ${error.message}`, 'error');
+      });
     }
     
     this.state.emit('navigation:section', view);
   }
 
+  // Figures of all addresses once the tree view has loaded them, otherwise of the visible table page
   getAddressStats() {
-    const addresses = this.state.addresses;
+    const addresses = this.treeAddresses || this.state.addresses;
     const plzSet = new Set();
     const streetSet = new Set();
     let projectCount = 0;
@@ -222,6 +240,7 @@ export class AddressManager {
     });
 
     return {
+      scope: this.treeAddresses ? 'all' : 'page',
       totalAddresses: addresses.length,
       uniquePlzs: plzSet.size,
       uniqueStreets: streetSet.size,
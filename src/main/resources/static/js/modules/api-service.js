@@ -45,15 +45,40 @@ export class ApiService {
   }
 
   async fetchAddresses() {
-    return this.request('/addresses');
+    // Collects all pages via keyset pagination
+    const addresses = [];
+    let afterId = 0;
+    do {
+      const page = await this.request(`/addresses?afterId=${afterId}&size=500`);
+      addresses.push(...page.content);
+      afterId = page.nextAfterId;
+    } while (afterId != null);
+    return addresses;
+  }
+
+  async fetchAddress(addressId) {
+    return this.request(`/addresses/${addressId}`);
+  }
+
+  async fetchAddressPage(tableState) {
+    return this.request(`/addresses?${this.buildTableQuery(tableState)}`);
   }
 
   async fetchNotes(addressId) {
     return this.request(`/notes/${addressId}`);
   }
 
-  async fetchAllNotes() {
-    return this.request('/notes');
+  async fetchNotePage(tableState) {
+    return this.request(`/notes?${this.buildTableQuery(tableState)}`);
+  }
+
+  buildTableQuery({ page, size, sort, order, search }) {
+    // Table pages are 1-based in the GUI, 0-based in the API
+    const params = new URLSearchParams({ page: page - 1, size, sort, order });
+    if (search && search.trim()) {
+      params.set('search', search.trim());
+    }
+    return params.toString();
   }
 
   async createNote(addressId, text, createdBy) {
@@ -101,6 +126,25 @@ export class ApiService {
     return response.json();
   }
 
+  async startImportJob(file, onProgress = null) {
+    const formData = new FormData();
+    formData.append('file', file);
+
+    const config = {
+      method: 'POST',
+      headers: {
+        ...this.getAuthHeaders()
+      },
+      body: formData
+    };
+
+    return this.requestWithProgress(`${this.baseUrl}/import?async=true`, config, onProgress || (() => {}));
+  }
+
+  async fetchImportJob(jobId) {
+    return this.request(`/import/${encodeURIComponent(jobId)}`);
+  }
+
   requestWithProgress(url, config, onProgress) {
     return new Promise((resolve, reject) => {
       const xhr = new XMLHttpRequest();
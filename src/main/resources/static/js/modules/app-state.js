@@ -7,8 +7,8 @@ export class AppState {
     this.currentView = 'table';
     this.navigation = { step: 'plz', plz: null, street: null, number: null };
     this.tables = {
-      addresses: { page: 1, size: 20, sort: 'plz', order: 'asc', search: '' },
-      notes: { page: 1, size: 20, sort: 'id', order: 'desc', search: '' }
+      addresses: { page: 1, size: 20, sort: 'plz', order: 'asc', search: '', totalElements: 0, totalPages: 0 },
+      notes: { page: 1, size: 20, sort: 'id', order: 'desc', search: '', totalElements: 0, totalPages: 0 }
     };
     this.wakeLock = null;
     this.importInProgress = false;
@@ -291,9 +291,41 @@ Möchten Sie fortfahren?
   }
 
   async performImport(file) {
-    return this.api.importFile(file, (progress) => {
+    const job = await this.api.startImportJob(file, (progress) => {
       this.updateImportProgress(progress);
     });
+
+    if (!job || !job.jobId) {
+      return job;
+    }
+    return this.pollImportJob(job.jobId);
+  }
+
+  async pollImportJob(jobId) {
+    while (true) {
+      await new Promise(resolve => setTimeout(resolve, 2000));
+
+      const job = await this.api.fetchImportJob(jobId);
+      this.updateJobProgress(job);
+
+      if (job.state === 'COMPLETED' || job.state === 'FAILED') {
+        const result = job.result || { success: false };
+        if (!result.success && result.errors && result.errors.length > 0) {
+          result.error = result.errors[0];
+        }
+        return result;
+      }
+    }
+  }
+
+  updateJobProgress(job) {
+    const progressElement = document.getElementById('importProgress');
+    if (!progressElement || !job) return;
+
+    progressElement.style.width = '100%';
+    progressElement.textContent =
+      `${job.rowsPersisted} gespeichert / ${job.rowsParsed} gelesen / ${job.rowsSkipped} übersprungen` +
+      (job.rowsPerSecond ? ` (${Math.round(job.rowsPerSecond)} Zeilen/s)` : '');
   }
 
   updateImportProgress(progress) {
@@ -369,6 +401,7 @@ Möchten Sie fortfahren?
           <div><strong>Verarbeitete Datensätze:</strong> ${result.recordsProcessed || 'Unbekannt'}</div>
           <div><strong>Dauer:</strong> ${minutes}:${seconds.toString().padStart(2, '0')} Minuten</div>
           ${result.warnings ? `<div><strong>Warnungen:</strong> ${result.warnings}</div>` : ''}
+          ${result.duplicates && result.duplicates.length ? `<div><strong>Zusammengeführte Duplikate:</strong> ${result.duplicates.length}</div>` : ''}
           ${result.errors ? `<div class="text-warning"><strong>Fehler:</strong> ${result.errors}</div>` : ''}
         </div>
         <div class="mt-3">
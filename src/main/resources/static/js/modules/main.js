@@ -51,7 +51,7 @@ class SimpleSalesmanApp {
     
     this.managers.address = new AddressManager(this.managers.api, this.state);
     this.managers.notes = new NotesManager(this.managers.api, this.state, this.managers.address);
-    this.managers.table = new TableManager(this.state, this.managers.address);
+    this.managers.table = new TableManager(this.state, this.managers.address, this.managers.api);
     this.managers.modal = new ModalManager(
       this.managers.api, 
       this.state, 
@@ -63,6 +63,7 @@ class SimpleSalesmanApp {
 
   setupManagerRelationships() {
     this.managers.address.setTableManager(this.managers.table);
+    this.managers.notes.setTableManager(this.managers.table);
     
     if (this.managers.modal.setupKeyboardShortcuts) {
       this.managers.modal.setupKeyboardShortcuts();
@@ -83,13 +84,13 @@ class SimpleSalesmanApp {
   setupStateSubscriptions() {
     this.state.subscribe('addresses:updated', () => {
       if (this.managers.table) {
-        this.managers.table.render('addresses');
+        this.managers.table.refresh('addresses');
       }
     });
 
     this.state.subscribe('notes:updated', () => {
       if (this.managers.table) {
-        this.managers.table.render('notes');
+        this.managers.table.refresh('notes');
       }
     });
 
@@ -317,12 +318,14 @@ class SimpleSalesmanApp {
   getAppStats() {
     return {
       addresses: this.state.addresses.length,
+      addressesTotal: this.state.tables.addresses.totalElements,
       notes: this.state.notes.length,
+      notesTotal: this.state.tables.notes.totalElements,
       initialized: this.initialized,
       isAuthenticated: this.managers.auth.isAuthenticated(),
       currentUser: this.managers.auth.getUsername(),
       addressStats: this.managers.address.getAddressStats(),
-      notesStats: this.managers.notes.getNotesStats()
+      notesPageStats: this.managers.notes.getNotesStats()
     };
   }
 
@@ -37,7 +37,7 @@ export class ModalManager {
       return;
     }
 
-    const address = this.state.getAddressById(addressId);
+    const address = await this.addressManager.getAddress(addressId);
     if (!address) {
       Utils.showNotification('Fehler', 'Adresse nicht gefunden', 'error');
       return;
@@ -6,26 +6,20 @@ export class NotesManager {
     this.api = apiService;
     this.state = appState;
     this.addressManager = addressManager;
+    this.tableManager = null;
+    this.addressNotes = []; // Notes of the address shown in the notes modal
+  }
+
+  setTableManager(tableManager) {
+    this.tableManager = tableManager;
   }
 
   async loadAllNotes() {
     try {
-      const notes = await this.api.fetchAllNotes();
-      console.log('Loaded notes:', notes.length);
-      
-      const notesWithAddresses = notes.map(note => {
-        const address = this.state.addresses.find(a => a.id === note.addressId);
-        return {
-          ...note,
-          address: address || { 
-            id: note.addressId, 
-            addressText: note.addressText || `Address ID: ${note.addressId}` 
-          }
-        };
-      });
-      
-      this.state.setNotes(notesWithAddresses);
-      return notesWithAddresses;
+      // The table only loads its visible page
+      await this.tableManager.render('notes');
+      console.log('Loaded notes:', this.state.notes.length, 'of', this.state.tables.notes.totalElements);
+      return this.state.notes;
     } catch (error) {
       console.error('Error loading notes:', error);
       this.showNotesError(`Fehler beim Laden der Notizen: ${error.message}`);
@@ -37,6 +31,7 @@ export class NotesManager {
     try {
       const notes = await this.api.fetchNotes(addressId);
       console.log(`Loaded ${notes.length} notes for address ${addressId}`);
+      this.addressNotes = notes;
       return notes;
     } catch (error) {
       console.error(`Error loading notes for address ${addressId}:`, error);
@@ -56,13 +51,7 @@ export class NotesManager {
     try {
       const newNote = await this.api.createNote(addressId, text.trim(), createdBy || this.api.getUsername());
       
-      const address = this.state.getAddressById(addressId);
-      const noteWithAddress = {
-        ...newNote,
-        address: address || { id: addressId, addressText: `Address ID: ${addressId}` }
-      };
-      
-      this.state.notes.unshift(noteWithAddress);
+      // Reloads the visible page, the new note may belong to any page
       this.state.emit('notes:updated', this.state.notes);
       
       Utils.showNotification('Notiz erstellt', 'Notiz wurde erfolgreich gespeichert', 'success');
@@ -165,8 +154,10 @@ export class NotesManager {
     }
   }
 
+  // Figures of the visible table page only; the total count is state.tables.notes.totalElements
   getNotesStats() {
     const notes = this.state.notes;
+    const table = this.state.tables.notes;
     const authors = new Set(notes.map(n => n.createdBy).filter(Boolean));
     const addressesWithNotes = new Set(notes.map(n => n.addressId));
     
@@ -187,7 +178,10 @@ export class NotesManager {
     });
 
     return {
-      totalNotes: notes.length,
+      scope: 'page',
+      page: table.page,
+      totalPages: table.totalPages,
+      notesOnPage: notes.length,
       uniqueAuthors: authors.size,
       addressesWithNotes: addressesWithNotes.size,
       notesToday: notesToday.length,
@@ -221,6 +215,7 @@ export class NotesManager {
   }
 
   getNoteById(noteId) {
-    return this.state.notes.find(note => note.id === noteId);
+    return this.state.notes.find(note => note.id === noteId)
+      || this.addressNotes.find(note => note.id === noteId);
   }
 }
\ No newline at end of file
@@ -2,22 +2,69 @@
 import { Utils } from './utils.js';
 
 export class TableManager {
-  constructor(appState, addressManager) {
+  constructor(appState, addressManager, apiService) {
     this.state = appState;
     this.addressManager = addressManager;
-    this.renderDebounced = Utils.debounce(this.render.bind(this), 100);
+    this.api = apiService;
+    this.requestIds = { addresses: 0, notes: 0 };
+    this.refreshDebounced = Utils.debounce(this.refresh.bind(this), 300);
   }
 
-  render(type) {
+  // Fetches the visible page (search, sort and paging run on the server) and renders it
+  async render(type) {
     const config = this.getConfig(type);
-    const data = this.filterAndSort(type);
-    const paginated = this.paginate(data, type);
-    
-    this.renderTableBody(type, paginated, config);
-    this.renderPagination(type, Math.ceil(data.length / this.state.tables[type].size));
+    const tableState = this.state.tables[type];
+    const requestId = ++this.requestIds[type];
+
+    const page = type === 'addresses'
+      ? await this.api.fetchAddressPage(tableState)
+      : await this.api.fetchNotePage(tableState);
+
+    if (requestId !== this.requestIds[type]) return; // Superseded by a newer request
+
+    if (page.content.length === 0 && tableState.page > 1 && page.totalPages > 0) {
+      // The current page no longer exists, e.g. after deleting its last note
+      tableState.page = page.totalPages;
+      return this.render(type);
+    }
+
+    if (type === 'addresses') {
+      this.state.addresses = page.content;
+    } else {
+      this.state.notes = page.content.map(note => ({
+        ...note,
+        address: { id: note.addressId, addressText: note.addressText || `Address ID: ${note.addressId}` }
+      }));
+    }
+    tableState.totalElements = page.totalElements;
+    tableState.totalPages = page.totalPages;
+
+    this.renderTableBody(type, type === 'addresses' ? this.state.addresses : this.state.notes, config);
+    this.renderPagination(type, page.totalPages);
     this.updateSortIndicators(type);
   }
 
+  refresh(type) {
+    return this.render(type).catch(error => {
+      console.error(`Error loading ${type}:`, error);
+      this.renderError(type, `Fehler beim Laden: ${error.message}`);
+    });
+  }
+
+  renderError(type, message) {
+    const tbody = document.querySelector(`#${type}Table tbody`);
+    if (!tbody) return;
+
+    tbody.innerHTML = `
+      <tr>
+        <td colspan="6" class="text-center text-danger p-4">
+          <i class="bi bi-exclamation-triangle me-2"></i>
+          ${Utils.sanitizeHtml(message)}
+        </td>
+      </tr>
+    `;
+  }
+
   getConfig(type) {
     if (type === 'addresses') {
       return {
@@ -119,123 +166,6 @@ export class TableManager {
     return `<span title="${sanitizedText}" class="text-truncate">${preview}</span>`;
   }
 
-  filterAndSort(type) {
-    const tableState = this.state.tables[type];
-    const data = type === 'addresses' ? this.state.addresses : this.state.notes;
-    
-    let filtered = data;
-    if (tableState.search) {
-      filtered = this.applySearchFilter(data, tableState.search, type);
-    }
-
-    return this.applySorting(filtered, tableState, type);
-  }
-
-  applySearchFilter(data, searchTerm, type) {
-    const normalizedSearch = Utils.normalizeSearchText(searchTerm);
-    
-    return data.filter(item => {
-      let searchableText;
-      
-      if (type === 'addresses') {
-        searchableText = [
-          Utils.extractPlz(item),
-          Utils.extractStreet(item),
-          Utils.extractNumber(item),
-          item.regionName || '',
-          item.addressText || ''
-        ].join(' ');
-      } else {
-        searchableText = [
-          item.text || '',
-          item.createdBy || '',
-          Utils.getAddressString(item.address),
-          item.id?.toString() || ''
-        ].join(' ');
-      }
-
-      return Utils.normalizeSearchText(searchableText).includes(normalizedSearch);
-    });
-  }
-
-  applySorting(data, tableState, type) {
-    return [...data].sort((a, b) => {
-      let aVal, bVal;
-
-      if (type === 'addresses') {
-        switch (tableState.sort) {
-          case 'plz':
-            aVal = Utils.extractPlz(a) || '';
-            bVal = Utils.extractPlz(b) || '';
-            break;
-          case 'street':
-            aVal = Utils.extractStreet(a) || '';
-            bVal = Utils.extractStreet(b) || '';
-            break;
-          case 'number':
-            aVal = Utils.extractNumber(a) || '';
-            bVal = Utils.extractNumber(b) || '';
-            break;
-          case 'region':
-            aVal = a.regionName || '';
-            bVal = b.regionName || '';
-            break;
-          default:
-            aVal = a.id || 0;
-            bVal = b.id || 0;
-        }
-      } else {
-        switch (tableState.sort) {
-          case 'id':
-            aVal = a.id || 0;
-            bVal = b.id || 0;
-            break;
-          case 'address':
-            aVal = Utils.getAddressString(a.address);
-            bVal = Utils.getAddressString(b.address);
-            break;
-          case 'text':
-            aVal = a.text || '';
-            bVal = b.text || '';
-            break;
-          case 'createdBy':
-            aVal = a.createdBy || '';
-            bVal = b.createdBy || '';
-            break;
-          case 'createdAt':
-            aVal = new Date(a.createdAt || 0);
-            bVal = new Date(b.createdAt || 0);
-            break;
-          default:
-            aVal = a.id || 0;
-            bVal = b.id || 0;
-        }
-      }
-
-      if (tableState.sort === 'createdAt' || tableState.sort === 'id') {
-        const comparison = aVal - bVal;
-        return tableState.order === 'asc' ? comparison : -comparison;
-      } else if (tableState.sort === 'number') {
-        const aNum = parseInt(aVal) || 0;
-        const bNum = parseInt(bVal) || 0;
-        if (aNum !== bNum) {
-          return tableState.order === 'asc' ? aNum - bNum : bNum - aNum;
-        }
-        const comparison = aVal.toString().localeCompare(bVal.toString(), 'de', { numeric: true });
-        return tableState.order === 'asc' ? comparison : -comparison;
-      } else {
-        const comparison = aVal.toString().localeCompare(bVal.toString(), 'de', { numeric: true });
-        return tableState.order === 'asc' ? comparison : -comparison;
-      }
-    });
-  }
-
-  paginate(data, type) {
-    const tableState = this.state.tables[type];
-    const start = (tableState.page - 1) * tableState.size;
-    return data.slice(start, start + tableState.size);
-  }
-
   renderTableBody(type, data, config) {
     const tbody = document.querySelector(`#${type}Table tbody`);
     if (!tbody) return;
@@ -392,7 +322,7 @@ export class TableManager {
     
     tableState.page = 1;
     this.state.updateTableState(type, tableState);
-    this.render(type);
+    this.refresh(type);
   }
 
   filterTable(type, searchValue) {
@@ -400,7 +330,7 @@ export class TableManager {
     tableState.search = searchValue;
     tableState.page = 1;
     this.state.updateTableState(type, tableState);
-    this.renderDebounced(type);
+    this.refreshDebounced(type);
   }
 
   changePageSize(type, size) {
@@ -408,20 +338,17 @@ export class TableManager {
     tableState.size = parseInt(size);
     tableState.page = 1;
     this.state.updateTableState(type, tableState);
-    this.render(type);
+    this.refresh(type);
   }
 
   changePage(type, page) {
     if (page < 1) return;
     
     const tableState = this.state.tables[type];
-    const data = this.filterAndSort(type);
-    const maxPage = Math.ceil(data.length / tableState.size);
-    
-    if (page > maxPage) return;
+    if (page > (tableState.totalPages || 1)) return;
     
     tableState.page = page;
     this.state.updateTableState(type, tableState);
-    this.render(type);
+    this.refresh(type);
   }
 }
\ No newline at end of file
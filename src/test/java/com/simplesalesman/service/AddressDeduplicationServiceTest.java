@@ -0,0 +1,89 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.dto.AddressDuplicateDto;
+import com.simplesalesman.repository.AddressRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Duplicate detection within one import, independent of the batch boundaries.
+ * The database is empty, as it appears to the resolve stage of a running import.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+class AddressDeduplicationServiceTest {
+
+    private final AddressRepository addressRepository = mock(AddressRepository.class);
+    private final AddressDeduplicationService service = new AddressDeduplicationService(addressRepository);
+
+    AddressDeduplicationServiceTest() {
+        when(addressRepository.findAddressTextsByBlockKeys(anyCollection())).thenReturn(List.of());
+    }
+
+    @Test
+    void fuzzyDuplicateInSameBatchIsFound() {
+        List<AddressDuplicateDto> matches = service.newSession()
+                .check(List.of("Hauptstrasse 5, 4020, Linz", "Hauptstrase 5, 4020, Linz"));
+
+        assertThat(matches.get(0)).isNull();
+        assertThat(matches.get(1)).isNotNull();
+        assertThat(matches.get(1).getMatchedAddressText()).isEqualTo("Hauptstrasse 5, 4020, Linz");
+    }
+
+    @Test
+    void fuzzyDuplicateInLaterBatchIsFound() {
+        AddressDeduplicationService.Session session = service.newSession();
+
+        assertThat(session.check(List.of("Hauptstrasse 5, 4020, Linz")).get(0)).isNull();
+        AddressDuplicateDto match = session.check(List.of("Hauptstrase 5, 4020, Linz")).get(0);
+
+        assertThat(match).isNotNull();
+        assertThat(match.getMatchedAddressText()).isEmpty(); // The session keeps no address texts
+        assertThat(match.getSimilarity()).isGreaterThanOrEqualTo(AddressDeduplicationService.SIMILARITY_THRESHOLD);
+    }
+
+    @Test
+    void exactDuplicateInLaterBatchIsFound() {
+        AddressDeduplicationService.Session session = service.newSession();
+
+        session.check(List.of("Hauptstraße 5, 4020, Linz"));
+        AddressDuplicateDto match = session.check(List.of("Hauptstr. 5, 4020, Linz")).get(0);
+
+        assertThat(match).isNotNull();
+        assertThat(match.getSimilarity()).isEqualTo(1.0);
+    }
+
+    @Test
+    void exactDuplicateBeyondBlockLimitIsFound() {
+        AddressDeduplicationService.Session session = service.newSession();
+        List<String> streets = new ArrayList<>();
+        for (int i = 0; i <= AddressDeduplicationService.MAX_ACCEPTED_PER_BLOCK; i++) {
+            streets.add("Weg" + i + " 5, 4020, Linz");
+        }
+        assertThat(session.check(streets)).containsOnlyNulls();
+
+        String last = streets.get(streets.size() - 1);
+        AddressDuplicateDto match = session.check(List.of(last)).get(0);
+
+        assertThat(match).isNotNull();
+        assertThat(match.getSimilarity()).isEqualTo(1.0);
+    }
+
+    @Test
+    void otherHouseNumberInLaterBatchIsNew() {
+        AddressDeduplicationService.Session session = service.newSession();
+
+        session.check(List.of("Hauptstrasse 5, 4020, Linz"));
+
+        assertThat(session.check(List.of("Hauptstrasse 7, 4020, Linz")).get(0)).isNull();
+    }
+}
@@ -0,0 +1,89 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.dto.AddressDto;
+import com.simplesalesman.dto.AddressSearchResultDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the in-memory search fallback used on H2, where {@code pg_trgm} is not available.
+ *
+ * Changes made by {@link AddressService} must reach the index only once their
+ * transaction commits; rolled-back writes must never become searchable.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@SpringBootTest
+@TestPropertySource("classpath:h2-test.properties")
+class AddressSearchServiceTest {
+
+    @Autowired
+    private AddressService addressService;
+
+    @Autowired
+    private AddressSearchService searchService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void committedChangesAreSearchable() {
+        AddressDto created = addressService.createAddress(address("Quellenweg 4, 4020 Linz"));
+
+        assertThat(hitIds("quellenwg 4")).containsExactly(created.getId());
+
+        addressService.updateAddress(created.getId(), address("Uferstraße 9, 4020 Linz"));
+
+        assertThat(hitIds("quellenweg 4")).isEmpty();
+        assertThat(hitIds("uferstrasse 9")).containsExactly(created.getId());
+
+        addressService.deleteAddress(created.getId());
+
+        assertThat(hitIds("uferstrasse 9")).isEmpty();
+    }
+
+    @Test
+    void rolledBackChangesAreNotSearchable() {
+        transactionTemplate.executeWithoutResult(status -> {
+            addressService.createAddress(address("Mühlbachgasse 17, 4600 Wels"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(hitIds("muehlbachgasse 17")).isEmpty();
+
+        AddressDto created = addressService.createAddress(address("Kastanienallee 2, 4400 Steyr"));
+        transactionTemplate.executeWithoutResult(status -> {
+            addressService.updateAddress(created.getId(), address("Birkenhof 8, 4400 Steyr"));
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            addressService.deleteAddress(created.getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(hitIds("birkenhof 8")).isEmpty();
+        assertThat(hitIds("kastanienallee 2")).containsExactly(created.getId());
+    }
+
+    private List<Long> hitIds(String query) {
+        return searchService.search(query, 10).stream()
+                .filter(hit -> hit.getScore() >= 0.8)
+                .map(AddressSearchResultDto::getId)
+                .toList();
+    }
+
+    private static AddressDto address(String text) {
+        AddressDto dto = new AddressDto();
+        dto.setAddressText(text);
+        return dto;
+    }
+}
@@ -0,0 +1,88 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.dto.AddressDto;
+import com.simplesalesman.entity.Address;
+import com.simplesalesman.entity.Project;
+import com.simplesalesman.repository.AddressRepository;
+import com.simplesalesman.repository.NoteRepository;
+import com.simplesalesman.repository.ProjectRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Updates of an address with a partial payload: projects and notes missing from
+ * the DTO stay as they are, an empty list removes them.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@SpringBootTest(properties = {
+        // Own database: contexts with other test configurations share the JVM
+        "spring.datasource.url=jdbc:h2:mem:addressservice;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH"
+})
+@TestPropertySource("classpath:h2-test.properties")
+class AddressServiceTest {
+
+    @Autowired
+    private AddressService addressService;
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Test
+    void partialUpdateKeepsProjectsAndNotes() {
+        Long id = createAddressWithProjectAndNote("Teilweg 3, 9991, Teststadt");
+
+        addressService.updateAddress(id, textOnly("Teilweg 3a, 9991, Teststadt"));
+
+        assertThat(addressRepository.findById(id)).get()
+                .extracting(Address::getAddressText).isEqualTo("Teilweg 3a, 9991, Teststadt");
+        assertThat(projectRepository.findIdsByAddressId(id)).hasSize(1);
+        assertThat(noteRepository.findIdsByAddressId(id)).hasSize(1);
+    }
+
+    @Test
+    void emptyListRemovesOnlyThatCollection() {
+        Long id = createAddressWithProjectAndNote("Leerweg 5, 9992, Teststadt");
+        AddressDto dto = textOnly("Leerweg 5, 9992, Teststadt");
+        dto.setProjects(List.of());
+
+        addressService.updateAddress(id, dto);
+
+        assertThat(projectRepository.findIdsByAddressId(id)).isEmpty();
+        assertThat(noteRepository.findIdsByAddressId(id)).hasSize(1);
+    }
+
+    private Long createAddressWithProjectAndNote(String addressText) {
+        Long id = addressService.createAddress(textOnly(addressText)).getId();
+
+        Project project = new Project();
+        project.setStatus("offen");
+        project.setAddress(addressRepository.findById(id).orElseThrow());
+        projectRepository.save(project);
+        noteService.addNoteToAddress(id, "Kunde nicht angetroffen", "test");
+        return id;
+    }
+
+    private static AddressDto textOnly(String addressText) {
+        AddressDto dto = new AddressDto();
+        dto.setAddressText(addressText);
+        return dto;
+    }
+}
@@ -0,0 +1,108 @@
+package com.simplesalesman.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.simplesalesman.dto.ChangeEventDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Delivery of change events while one client does not read its stream. The
+ * sender pool has a single thread, so the stalled client would hold all of it.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+class ChangeEventServiceTest {
+
+    private static final Duration SEND_TIMEOUT = Duration.ofMillis(200);
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    private final ChangeEventService service;
+
+    ChangeEventServiceTest() {
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.initialize();
+        service = new ChangeEventService(executor, new ObjectMapper().registerModule(new JavaTimeModule()));
+        ReflectionTestUtils.setField(service, "timeout", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(service, "queueCapacity", 16);
+        ReflectionTestUtils.setField(service, "replaySize", 100);
+        ReflectionTestUtils.setField(service, "maxSubscribers", 10);
+        ReflectionTestUtils.setField(service, "sendTimeout", SEND_TIMEOUT);
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void stalledSubscriberDoesNotDelayOthers() throws Exception {
+        StalledEmitter stalled = new StalledEmitter();
+        service.subscribe(stalled, null, null);
+        service.publish(ChangeEventService.projectStatusEvent(1L, 1L, "Linz", "offen"));
+        assertThat(stalled.blocked.await(5, TimeUnit.SECONDS)).isTrue(); // The only sender thread is stuck
+
+        RecordingEmitter healthy = new RecordingEmitter();
+        service.subscribe(healthy, null, null);
+        service.publish(ChangeEventService.projectStatusEvent(2L, 1L, "Linz", "erledigt"));
+
+        // Scheduled every second in the application
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        SseEmitter.SseEventBuilder received = null;
+        while (received == null && System.nanoTime() < deadline) {
+            service.abortStalledSends();
+            received = healthy.sent.poll(50, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(received).isNotNull();
+        assertThat(stalled.failed).isTrue();
+        assertThat(service.getSubscriberCount()).isEqualTo(1);
+    }
+
+    /**
+     * A client that never reads: the write blocks until it is interrupted.
+     */
+    private static final class StalledEmitter extends SseEmitter {
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private volatile boolean failed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            blocked.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                throw new IOException("Write aborted", e);
+            }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failed = true;
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<SseEventBuilder> sent = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder);
+        }
+    }
+}
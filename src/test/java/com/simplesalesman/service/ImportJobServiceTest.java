@@ -0,0 +1,60 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.dto.ImportJobStatusDto;
+import com.simplesalesman.exception.ImportCapacityExceededException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Submission of background import jobs. The executors never run the jobs, so they
+ * stay queued.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+class ImportJobServiceTest {
+
+    private final ImportConcurrencyLimiter importLimiter = new ImportConcurrencyLimiter(2);
+    private final List<Runnable> scheduled = new ArrayList<>();
+
+    @Test
+    void queuedJobCanBePolled() throws Exception {
+        ImportJobService service = new ImportJobService(mock(ExcelImportService.class), importLimiter, scheduled::add);
+
+        ImportJobStatusDto job = service.submit(upload(), ExcelImportService.ImportEngine.JPA);
+
+        assertThat(scheduled).hasSize(1);
+        assertThat(service.getJob(job.getJobId())).get()
+                .extracting(ImportJobStatusDto::getState)
+                .isEqualTo(ImportJobStatusDto.State.QUEUED);
+    }
+
+    @Test
+    void fullQueueIsRejectedAndReleasesTheSlot() {
+        TaskExecutor full = task -> {
+            throw new TaskRejectedException("queue full");
+        };
+        ImportJobService service = new ImportJobService(mock(ExcelImportService.class), importLimiter, full);
+
+        assertThatThrownBy(() -> service.submit(upload(), ExcelImportService.ImportEngine.JPA))
+                .isInstanceOf(ImportCapacityExceededException.class)
+                .hasMessageContaining("Warteschlange");
+
+        importLimiter.acquire();
+        importLimiter.acquire(); // Both slots are free again
+    }
+
+    private static MockMultipartFile upload() {
+        return new MockMultipartFile("file", "adressen.xlsx", null, new byte[] {1, 2, 3});
+    }
+}
@@ -0,0 +1,136 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.dto.ImportResultDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the database round trips of an Excel import.
+ *
+ * With IDENTITY ids Hibernate has to execute every INSERT on its own to read the
+ * generated key, so the baseline is one round trip per persisted entity. With
+ * pooled sequences and {@code hibernate.jdbc.batch_size} the INSERTs of an entity
+ * type are sent as JDBC batches of up to {@link #BATCH_SIZE} rows, plus one
+ * sequence call per allocation block.
+ *
+ * Round trips are counted by wrapping the DataSource: every {@code execute*} call
+ * on a statement, including {@code executeBatch}, is one round trip.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@SpringBootTest
+@TestPropertySource("classpath:h2-test.properties")
+class ImportStatementCountTest {
+
+    private static final int BATCH_SIZE = 50; // hibernate.jdbc.batch_size
+
+    private static final AtomicInteger INSERT_ROUND_TRIPS = new AtomicInteger();
+    private static final AtomicInteger ROUND_TRIPS = new AtomicInteger();
+
+    @Autowired
+    private ExcelImportService excelImportService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void importSendsInsertsAsJdbcBatches() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        INSERT_ROUND_TRIPS.set(0);
+        ROUND_TRIPS.set(0);
+
+        long start = System.nanoTime();
+        ImportResultDto result;
+        try (InputStream inputStream = Files.newInputStream(Path.of("src/test/resources/test1_adress_import.xlsx"))) {
+            result = excelImportService.importExcel(inputStream, "test1_adress_import.xlsx", new ImportProgress());
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        int rows = result.getRecordsProcessed();
+        long entityInserts = statistics.getEntityInsertCount();
+        System.out.printf(Locale.ROOT, "Import of %d rows: %d entity inserts (IDENTITY baseline: %d INSERT round trips), "
+                        + "%d INSERT round trips, %d round trips in total, %d ms%n",
+                rows, entityInserts, entityInserts, INSERT_ROUND_TRIPS.get(), ROUND_TRIPS.get(), millis);
+
+        assertThat(rows).isGreaterThan(BATCH_SIZE);
+        assertThat(entityInserts).isGreaterThan(2L * rows); // Address and project per row, plus regions
+        // One batch per started BATCH_SIZE addresses and projects, one for the few regions
+        int batches = 2 * ((rows + BATCH_SIZE - 1) / BATCH_SIZE) + 1;
+        assertThat(INSERT_ROUND_TRIPS.get()).isLessThanOrEqualTo(batches);
+        // Duplicate checks, region lookups and sequence calls included, far below the baseline
+        assertThat((long) ROUND_TRIPS.get()).isLessThan(entityInserts / 4);
+    }
+
+    @TestConfiguration
+    static class RoundTripCounting {
+
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource
+                            ? proxy(DataSource.class, dataSource, null) : bean;
+                }
+            };
+        }
+
+        // Wraps connections and statements; the SQL of a prepared statement decides whether it counts as INSERT
+        private static <T> T proxy(Class<T> type, Object target, String sql) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (target instanceof Statement && name.startsWith("execute")) {
+                            String executed = sql != null ? sql
+                                    : args != null && args.length > 0 && args[0] instanceof String s ? s : "";
+                            ROUND_TRIPS.incrementAndGet();
+                            if (executed.regionMatches(true, 0, "insert", 0, 6)) {
+                                INSERT_ROUND_TRIPS.incrementAndGet();
+                            }
+                        }
+                        Object result;
+                        try {
+                            result = method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                        if (result instanceof Connection connection && name.equals("getConnection")) {
+                            return proxy(Connection.class, connection, null);
+                        }
+                        if (result instanceof Statement statement && target instanceof Connection) {
+                            String prepared = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                            Class<? extends Statement> statementType = name.equals("prepareCall")
+                                    ? java.sql.CallableStatement.class
+                                    : name.equals("prepareStatement") ? java.sql.PreparedStatement.class
+                                    : Statement.class;
+                            return proxy(statementType, statement, prepared);
+                        }
+                        return result;
+                    }));
+        }
+    }
+}
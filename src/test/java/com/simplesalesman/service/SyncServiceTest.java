@@ -0,0 +1,133 @@
+package com.simplesalesman.service;
+
+import com.simplesalesman.dto.AddressDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the delta sync against a real PostgreSQL database.
+ *
+ * A write transaction that is still open while a sync runs must be delivered by a
+ * later sync, however long it stays open. With timestamps taken at write time such
+ * a change could fall behind a watermark that was already handed out.
+ *
+ * Needs a throwaway database, see {@code PostgresCopyLoaderTest}.
+ * Skipped when {@code SIMPLESALESMAN_TEST_POSTGRES_URL} is not set.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=${SIMPLESALESMAN_TEST_POSTGRES_URL}",
+        "spring.datasource.username=${SIMPLESALESMAN_TEST_POSTGRES_USER:postgres}",
+        "spring.datasource.password=${SIMPLESALESMAN_TEST_POSTGRES_PASSWORD:}",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "simplesalesman.geocoding.provider=stub",
+        "simplesalesman.geocoding.enabled=false",
+        "simplesalesman.geocoding.cache-file=target/test-geocoding-cache.tsv",
+        "logging.level.root=WARN"
+})
+@EnabledIfEnvironmentVariable(named = "SIMPLESALESMAN_TEST_POSTGRES_URL", matches = ".+")
+class SyncServiceTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private AddressService addressService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void changesOfTransactionsOpenDuringASyncAreDeliveredLater() throws Exception {
+        long early = addressService.createAddress(address("Lindenweg 3, 4400 Steyr")).getId();
+
+        Sync initial = sync(null);
+        assertThat(initial.full).isTrue();
+        assertThat(initial.watermark).isNotNull();
+        assertThat(initial.addressIds()).contains(early);
+
+        try (Connection geocoding = dataSource.getConnection()) {
+            // Written before the next sync, committed after it, like a long geocoding batch
+            geocoding.setAutoCommit(false);
+            try (PreparedStatement update = geocoding.prepareStatement(
+                    "UPDATE address SET latitude = 48.04, longitude = 14.42 WHERE id = ?")) {
+                update.setLong(1, early);
+                assertThat(update.executeUpdate()).isEqualTo(1);
+            }
+
+            long late = addressService.createAddress(address("Ahornweg 7, 4470 Enns")).getId();
+            Sync delta = sync(initial.watermark);
+            assertThat(delta.full).isFalse();
+            assertThat(delta.addressIds()).contains(late);
+            assertThat(delta.addresses()).noneMatch(dto -> dto.getId() == early && dto.getLatitude() != null);
+
+            geocoding.commit();
+
+            Sync next = sync(delta.watermark);
+            assertThat(next.full).isFalse();
+            assertThat(next.addresses()).anyMatch(dto -> dto.getId() == early && dto.getLatitude() != null);
+
+            addressService.deleteAddress(late);
+            Sync afterDelete = sync(next.watermark);
+            assertThat(afterDelete.full).isFalse();
+            assertThat(afterDelete.sections.get("deletedAddressIds")).containsExactly(late);
+
+            // Deletions before this watermark may have been pruned
+            assertThat(sync(initial.watermark).full).isTrue();
+        }
+    }
+
+    private Sync sync(Long since) {
+        Sync sync = new Sync();
+        syncService.streamChanges(since, sync);
+        return sync;
+    }
+
+    private static AddressDto address(String text) {
+        AddressDto dto = new AddressDto();
+        dto.setAddressText(text);
+        return dto;
+    }
+
+    private static class Sync implements SyncService.SyncSink {
+        Long watermark;
+        boolean full;
+        final Map<String, List<Object>> sections = new HashMap<>();
+
+        @Override
+        public void begin(Long watermark, boolean full) {
+            this.watermark = watermark;
+            this.full = full;
+        }
+
+        @Override
+        public void section(String name, Stream<?> items) {
+            sections.put(name, new ArrayList<>(items.toList()));
+        }
+
+        List<AddressDto> addresses() {
+            return sections.get("addresses").stream().map(AddressDto.class::cast).toList();
+        }
+
+        List<Long> addressIds() {
+            return addresses().stream().map(AddressDto::getId).toList();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.simplesalesman.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link GermanStemmer}.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+class GermanStemmerTest {
+
+    @Test
+    void reducesInflectedFormsToTheSameStem() {
+        assertThat(GermanStemmer.stem("rückruf")).isEqualTo("ruckruf");
+        assertThat(GermanStemmer.stem("rückrufe")).isEqualTo("ruckruf");
+        assertThat(GermanStemmer.stem("rückrufen")).isEqualTo("ruckruf");
+        assertThat(GermanStemmer.stem("interesse")).isEqualTo("interess");
+        assertThat(GermanStemmer.stem("kein")).isEqualTo("kein");
+        assertThat(GermanStemmer.stem("keine")).isEqualTo("kein");
+        assertThat(GermanStemmer.stem("keinen")).isEqualTo("kein");
+    }
+
+    @Test
+    void foldsUmlautsAndSharpS() {
+        assertThat(GermanStemmer.stem("rückruf")).isEqualTo(GermanStemmer.stem("ruckruf"));
+        assertThat(GermanStemmer.stem("größe")).isEqualTo(GermanStemmer.stem("grosse"));
+        assertThat(GermanStemmer.stem("straße")).isEqualTo("strass");
+    }
+
+    @Test
+    void keepsShortWords() {
+        assertThat(GermanStemmer.stem("es")).isEqualTo("es");
+        assertThat(GermanStemmer.stem("der")).isEqualTo("der");
+        assertThat(GermanStemmer.stem("tür")).isEqualTo("tur");
+    }
+}
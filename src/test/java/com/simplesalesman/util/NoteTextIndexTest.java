@@ -0,0 +1,71 @@
+package com.simplesalesman.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link NoteTextIndex}: phrase queries, stemming and umlaut folding.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+class NoteTextIndexTest {
+
+    private NoteTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NoteTextIndex();
+        index.put(1, "Kunde hat kein Interesse.");
+        index.put(2, "Interesse an Glasfaser, aber kein Termin frei.");
+        index.put(3, "Rückruf am Montag vereinbart.");
+        index.put(4, "Zwei Rückrufe ohne Erfolg, keine Zeit.");
+    }
+
+    @Test
+    void phraseMatchesOnlyWordsInSequence() {
+        assertThat(search("\"kein Interesse\"")).containsExactly(1L);
+        assertThat(search("kein Interesse")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(search("\"Interesse kein\"")).isEmpty();
+    }
+
+    @Test
+    void stemmingMatchesSingularAndPlural() {
+        assertThat(search("Rückruf")).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(search("Rückrufe")).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(search("\"keine Interesse\"")).containsExactly(1L);
+    }
+
+    @Test
+    void queryWithoutUmlautsMatchesUmlautText() {
+        assertThat(search("Ruckruf")).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(search("RUCKRUFE montag")).containsExactly(3L);
+    }
+
+    @Test
+    void removedAndReplacedTextsAreNoLongerFound() {
+        index.remove(3);
+        index.put(4, "Termin vereinbart.");
+
+        assertThat(search("Rückruf")).isEmpty();
+        assertThat(search("Termin")).containsExactlyInAnyOrder(2L, 4L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void emptyQueryFindsNothing() {
+        assertThat(NoteTextIndex.parseQuery("  \"\" ")).isEmpty();
+        assertThat(search("")).isEmpty();
+    }
+
+    private List<Long> search(String query) {
+        return index.search(NoteTextIndex.parseQuery(query)).stream()
+                .map(NoteTextIndex.Hit::getId)
+                .toList();
+    }
+}
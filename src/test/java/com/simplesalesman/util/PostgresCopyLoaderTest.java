@@ -0,0 +1,111 @@
+package com.simplesalesman.util;
+
+import com.simplesalesman.dto.AddressDto;
+import com.simplesalesman.dto.ImportResultDto;
+import com.simplesalesman.service.AddressService;
+import com.simplesalesman.service.ExcelImportService;
+import com.simplesalesman.service.ExcelImportService.ImportEngine;
+import com.simplesalesman.service.ImportProgress;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the COPY import engine against a real PostgreSQL database.
+ *
+ * The COPY merge reserves id blocks from the same pooled sequences that Hibernate's
+ * pooled optimizer uses, so the test interleaves both: a JPA import leaves Hibernate
+ * with a partly used block, the COPY import reserves further blocks, and enough
+ * addresses are then created through JPA to use up Hibernate's block and fetch the
+ * next one. A wrong block layout shows up as a primary key violation.
+ *
+ * Needs a throwaway database (the schema is created and dropped):
+ * <pre>
+ * docker run --rm -d -p 55432:5432 -e POSTGRES_PASSWORD=test postgres:16
+ * SIMPLESALESMAN_TEST_POSTGRES_URL=jdbc:postgresql://localhost:55432/postgres \
+ * SIMPLESALESMAN_TEST_POSTGRES_PASSWORD=test mvn test -Dtest=PostgresCopyLoaderTest
+ * </pre>
+ * Skipped when {@code SIMPLESALESMAN_TEST_POSTGRES_URL} is not set.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=${SIMPLESALESMAN_TEST_POSTGRES_URL}",
+        "spring.datasource.username=${SIMPLESALESMAN_TEST_POSTGRES_USER:postgres}",
+        "spring.datasource.password=${SIMPLESALESMAN_TEST_POSTGRES_PASSWORD:}",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "simplesalesman.geocoding.provider=stub",
+        "simplesalesman.geocoding.enabled=false",
+        "simplesalesman.geocoding.cache-file=target/test-geocoding-cache.tsv",
+        "logging.level.root=WARN"
+})
+@EnabledIfEnvironmentVariable(named = "SIMPLESALESMAN_TEST_POSTGRES_URL", matches = ".+")
+class PostgresCopyLoaderTest {
+
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private ExcelImportService excelImportService;
+
+    @Autowired
+    private AddressService addressService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void copyImportSharesSequencesWithHibernateWithoutCollisions() throws Exception {
+        ImportResultDto jpa = importFile("test1_adress_import.xlsx", ImportEngine.JPA);
+        assertThat(jpa.getRecordsProcessed()).isGreaterThan(0);
+        long maxJpaAddressId = jdbcTemplate.queryForObject("SELECT max(id) FROM address", Long.class);
+
+        ImportResultDto copy = importFile("full_adress_import.xlsx", ImportEngine.COPY);
+        assertThat(copy.isSuccess()).isTrue();
+        assertThat(copy.getRecordsProcessed()).isGreaterThan(SEQUENCE_ALLOCATION_SIZE);
+        assertThat(count("SELECT count(*) FROM address")).isEqualTo(jpa.getRecordsProcessed() + copy.getRecordsProcessed());
+        assertThat(count("SELECT count(*) FROM project")).isEqualTo(jpa.getRecordsProcessed() + copy.getRecordsProcessed());
+        // New ids come from whole blocks above the ones Hibernate already holds
+        assertThat(count("SELECT count(*) FROM address WHERE id <= " + maxJpaAddressId))
+                .isEqualTo(jpa.getRecordsProcessed());
+        assertThat(count("SELECT count(*) FROM project p JOIN address a ON a.id = p.address_id"))
+                .isEqualTo(count("SELECT count(*) FROM project"));
+        assertThat(count("SELECT count(*) FROM address WHERE change_version IS NULL OR region_id IS NULL")).isZero();
+
+        // Uses up the rest of Hibernate's current address block, then fetches the next one
+        String regionName = jdbcTemplate.queryForObject("SELECT min(name) FROM region", String.class);
+        for (int i = 1; i <= SEQUENCE_ALLOCATION_SIZE + 10; i++) {
+            AddressDto created = addressService.createAddress(
+                    new AddressDto("Sequenzprobe " + i + ", 9999 Prüfdorf", regionName));
+            assertThat(created.getId()).isNotNull();
+        }
+        assertThat(count("SELECT count(*) FROM address"))
+                .isEqualTo(jpa.getRecordsProcessed() + copy.getRecordsProcessed() + SEQUENCE_ALLOCATION_SIZE + 10);
+
+        // A second COPY import finds everything as duplicate and inserts nothing
+        ImportResultDto again = importFile("test1_adress_import.xlsx", ImportEngine.COPY);
+        assertThat(again.getRecordsProcessed()).isZero();
+    }
+
+    private ImportResultDto importFile(String name, ImportEngine engine) throws Exception {
+        try (InputStream inputStream = Files.newInputStream(Path.of("src/test/resources", name))) {
+            ImportResultDto result = excelImportService.importExcel(inputStream, name, new ImportProgress(), engine);
+            System.out.println(engine + " import of " + name + ": " + result);
+            return result;
+        }
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
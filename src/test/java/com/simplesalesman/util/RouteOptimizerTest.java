@@ -0,0 +1,186 @@
+package com.simplesalesman.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests for {@link RouteOptimizer}: route validity, quality against nearest
+ * neighbour and the time limit.
+ *
+ * Stops are spread randomly over an area of about 5 x 5 km around Linz.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+class RouteOptimizerTest {
+
+    private static final double START_LATITUDE = 48.30;
+    private static final double START_LONGITUDE = 14.28;
+    private static final long TIME_LIMIT_MS = 800; // simplesalesman.routes.time-limit-ms
+
+    @Test
+    void visitsEveryStopOnceStartingAtTheStartPoint() {
+        for (int runs : new int[] { 1, 4 }) {
+            double[][] stops = randomStops(300, 1);
+            RouteOptimizer.Route route = new RouteOptimizer(runs, TIME_LIMIT_MS)
+                    .optimize(START_LATITUDE, START_LONGITUDE, stops[0], stops[1]);
+
+            assertValid(route, stops);
+        }
+    }
+
+    @Test
+    void isNeverLongerThanNearestNeighbour() {
+        for (int seed = 1; seed <= 20; seed++) {
+            int n = 5 + seed * 25;
+            double[][] stops = randomStops(n, seed);
+            RouteOptimizer.Route route = new RouteOptimizer(1, TIME_LIMIT_MS)
+                    .optimize(START_LATITUDE, START_LONGITUDE, stops[0], stops[1]);
+
+            assertValid(route, stops);
+            assertThat(route.getLength()).as("n=%d", n).isLessThanOrEqualTo(nearestNeighbourLength(stops) + 1e-6);
+        }
+    }
+
+    @Test
+    void singleRunIsDeterministic() {
+        double[][] stops = randomStops(500, 7);
+        RouteOptimizer optimizer = new RouteOptimizer(1, TIME_LIMIT_MS);
+
+        int[] first = optimizer.optimize(START_LATITUDE, START_LONGITUDE, stops[0], stops[1]).getOrder();
+        int[] second = optimizer.optimize(START_LATITUDE, START_LONGITUDE, stops[0], stops[1]).getOrder();
+
+        assertThat(second).containsExactly(first);
+    }
+
+    @Test
+    void handlesSmallAndDegenerateInputs() {
+        RouteOptimizer optimizer = new RouteOptimizer(2, TIME_LIMIT_MS);
+
+        assertThat(optimizer.optimize(START_LATITUDE, START_LONGITUDE, new double[0], new double[0]).getOrder())
+                .isEmpty();
+        for (int n = 1; n <= 4; n++) {
+            double[][] stops = randomStops(n, n);
+            assertValid(optimizer.optimize(START_LATITUDE, START_LONGITUDE, stops[0], stops[1]), stops);
+        }
+
+        // All stops at the same place, one of them at the start point
+        double[][] same = { new double[20], new double[20] };
+        Arrays.fill(same[0], START_LATITUDE);
+        Arrays.fill(same[1], START_LONGITUDE);
+        RouteOptimizer.Route route = optimizer.optimize(START_LATITUDE, START_LONGITUDE, same[0], same[1]);
+        assertValid(route, same);
+        assertThat(route.getLength()).isZero();
+
+        assertThatThrownBy(() -> optimizer.optimize(START_LATITUDE, START_LONGITUDE, new double[2], new double[1]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void optimizesTwoThousandStopsWithinTheTimeLimit() {
+        double[][] stops = randomStops(2000, 42);
+        RouteOptimizer optimizer = new RouteOptimizer(Runtime.getRuntime().availableProcessors(), TIME_LIMIT_MS);
+        optimizer.optimize(START_LATITUDE, START_LONGITUDE, stops[0], stops[1]); // Warm-up
+
+        long start = System.nanoTime();
+        RouteOptimizer.Route route = optimizer.optimize(START_LATITUDE, START_LONGITUDE, stops[0], stops[1]);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertValid(route, stops);
+        assertThat(elapsedMillis).isLessThan(TIME_LIMIT_MS);
+        assertThat(route.getLength()).isLessThan(nearestNeighbourLength(stops));
+    }
+
+    // Every stop exactly once; legs start at the start point and follow the order
+    private static void assertValid(RouteOptimizer.Route route, double[][] stops) {
+        int n = stops[0].length;
+        int[] order = route.getOrder();
+        double[] legs = route.getLegs();
+        assertThat(order).hasSize(n);
+        assertThat(legs).hasSize(n);
+
+        boolean[] seen = new boolean[n];
+        for (int stop : order) {
+            assertThat(seen[stop]).as("stop %d visited twice", stop).isFalse();
+            seen[stop] = true;
+        }
+
+        Projection projection = new Projection(stops);
+        double previousX = projection.x(START_LONGITUDE);
+        double previousY = projection.y(START_LATITUDE);
+        for (int i = 0; i < n; i++) {
+            double x = projection.x(stops[1][order[i]]);
+            double y = projection.y(stops[0][order[i]]);
+            assertThat(legs[i]).isCloseTo(Math.hypot(x - previousX, y - previousY), within(1e-6));
+            previousX = x;
+            previousY = y;
+        }
+    }
+
+    // Plain nearest neighbour from the start point over all stops
+    private static double nearestNeighbourLength(double[][] stops) {
+        int n = stops[0].length;
+        Projection projection = new Projection(stops);
+        boolean[] visited = new boolean[n];
+        double x = projection.x(START_LONGITUDE);
+        double y = projection.y(START_LATITUDE);
+        double length = 0;
+        for (int step = 0; step < n; step++) {
+            int nearest = -1;
+            double nearestDistance = Double.MAX_VALUE;
+            for (int i = 0; i < n; i++) {
+                double distance = Math.hypot(projection.x(stops[1][i]) - x, projection.y(stops[0][i]) - y);
+                if (!visited[i] && distance < nearestDistance) {
+                    nearest = i;
+                    nearestDistance = distance;
+                }
+            }
+            visited[nearest] = true;
+            length += nearestDistance;
+            x = projection.x(stops[1][nearest]);
+            y = projection.y(stops[0][nearest]);
+        }
+        return length;
+    }
+
+    // { latitudes, longitudes }
+    private static double[][] randomStops(int n, long seed) {
+        Random random = new Random(seed);
+        double[][] stops = new double[2][n];
+        for (int i = 0; i < n; i++) {
+            stops[0][i] = START_LATITUDE + random.nextDouble() * 0.045;
+            stops[1][i] = START_LONGITUDE + random.nextDouble() * 0.067;
+        }
+        return stops;
+    }
+
+    // Same equirectangular projection as the optimizer
+    private static final class Projection {
+        private final double metersPerDegree = Math.toRadians(1) * 6_371_000;
+        private final double xScale;
+
+        Projection(double[][] stops) {
+            double meanLatitude = START_LATITUDE;
+            for (double latitude : stops[0]) {
+                meanLatitude += latitude;
+            }
+            meanLatitude /= stops[0].length + 1;
+            xScale = metersPerDegree * Math.cos(Math.toRadians(meanLatitude));
+        }
+
+        double x(double longitude) {
+            return longitude * xScale;
+        }
+
+        double y(double latitude) {
+            return latitude * metersPerDegree;
+        }
+    }
+}
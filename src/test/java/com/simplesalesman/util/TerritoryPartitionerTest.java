@@ -0,0 +1,119 @@
+package com.simplesalesman.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link TerritoryPartitioner}: balanced sizes, determinism and run time.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+class TerritoryPartitionerTest {
+
+    private final TerritoryPartitioner partitioner = new TerritoryPartitioner();
+
+    @Test
+    void territorySizesDifferByAtMostOne() {
+        for (int k : new int[] { 1, 2, 3, 7, 20, 100 }) {
+            double[][] points = uniformPoints(5003, k);
+
+            int[] sizes = sizes(partitioner.partition(points[0], points[1], k), points[0].length, k);
+
+            assertThat(max(sizes) - min(sizes)).as("k=%d", k).isLessThanOrEqualTo(1);
+        }
+    }
+
+    @Test
+    void unevenClustersAreSplitIntoEqualTerritories() {
+        // 90 % of the points in one town, 10 % in another 20 km away
+        Random random = new Random(3);
+        int n = 10_000;
+        double[][] points = new double[2][n];
+        for (int i = 0; i < n; i++) {
+            boolean town = i < n * 9 / 10;
+            points[0][i] = (town ? 48.30 : 48.12) + random.nextGaussian() * 0.01;
+            points[1][i] = (town ? 14.28 : 14.42) + random.nextGaussian() * 0.015;
+        }
+
+        int[] sizes = sizes(partitioner.partition(points[0], points[1], 4), n, 4);
+
+        assertThat(max(sizes) - min(sizes)).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void sameInputGivesSameTerritories() {
+        double[][] points = uniformPoints(20_000, 11);
+
+        TerritoryPartitioner.Partition first = partitioner.partition(points[0], points[1], 12);
+        TerritoryPartitioner.Partition second = new TerritoryPartitioner().partition(points[0], points[1], 12);
+
+        for (int i = 0; i < points[0].length; i++) {
+            assertThat(second.territoryOf(i)).isEqualTo(first.territoryOf(i));
+        }
+        for (int t = 0; t < 12; t++) {
+            assertThat(second.getCenterLatitude(t)).isEqualTo(first.getCenterLatitude(t));
+            assertThat(second.getCenterLongitude(t)).isEqualTo(first.getCenterLongitude(t));
+            assertThat(second.getRadius(t)).isEqualTo(first.getRadius(t));
+        }
+    }
+
+    @Test
+    void partitionsFiftyThousandPointsInUnderTwoSeconds() {
+        double[][] points = uniformPoints(50_000, 5);
+        partitioner.partition(points[0], points[1], 25); // Warm-up
+
+        long start = System.nanoTime();
+        TerritoryPartitioner.Partition partition = partitioner.partition(points[0], points[1], 25);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMillis).isLessThan(2000);
+        int[] sizes = sizes(partition, points[0].length, 25);
+        assertThat(max(sizes) - min(sizes)).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void rejectsInvalidInput() {
+        double[][] points = uniformPoints(10, 1);
+
+        assertThatThrownBy(() -> partitioner.partition(points[0], points[1], 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> partitioner.partition(points[0], points[1], 11))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> partitioner.partition(points[0], new double[9], 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // { latitudes, longitudes } spread over about 30 x 30 km
+    private static double[][] uniformPoints(int n, long seed) {
+        Random random = new Random(seed);
+        double[][] points = new double[2][n];
+        for (int i = 0; i < n; i++) {
+            points[0][i] = 48.15 + random.nextDouble() * 0.27;
+            points[1][i] = 14.10 + random.nextDouble() * 0.40;
+        }
+        return points;
+    }
+
+    private static int[] sizes(TerritoryPartitioner.Partition partition, int n, int k) {
+        int[] sizes = new int[k];
+        for (int i = 0; i < n; i++) {
+            sizes[partition.territoryOf(i)]++;
+        }
+        return sizes;
+    }
+
+    private static int max(int[] values) {
+        return Arrays.stream(values).max().orElseThrow();
+    }
+
+    private static int min(int[] values) {
+        return Arrays.stream(values).min().orElseThrow();
+    }
+}
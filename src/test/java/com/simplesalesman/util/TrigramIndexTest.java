@@ -0,0 +1,75 @@
+package com.simplesalesman.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TrigramIndex}: matching, ranking and index maintenance.
+ *
+ * @author SimpleSalesman Team
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+class TrigramIndexTest {
+
+    private static final double THRESHOLD = 0.3;
+
+    @Test
+    void findsPrefixesAndTypos() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "hauptstrasse 5 niederkappel");
+        index.put(2, "bahnhofstrasse 12 linz");
+
+        assertThat(ids(index.search("hauptst", THRESHOLD, 10))).containsExactly(1L);
+        assertThat(ids(index.search("bahnhofstrase", THRESHOLD, 10))).containsExactly(2L);
+        assertThat(index.search("xyz", THRESHOLD, 10)).isEmpty();
+    }
+
+    @Test
+    void ranksByScoreThenLengthThenId() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(3, "gartenweg 1 wels");
+        index.put(2, "gartenweg 1 wels");
+        index.put(1, "gartenweg 1 wels am stadtrand");
+        index.put(4, "gartenstrasse 1 wels");
+
+        List<TrigramIndex.Hit> hits = index.search("gartenweg 1 wels", THRESHOLD, 10);
+
+        assertThat(ids(hits)).containsExactly(2L, 3L, 1L, 4L);
+        assertThat(hits.get(0).getScore()).isEqualTo(1.0);
+        assertThat(hits.get(3).getScore()).isLessThan(1.0);
+        assertThat(ids(index.search("gartenweg 1 wels", THRESHOLD, 2))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void putReplacesAndRemoveDeletes() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "lindenweg 3 steyr");
+        index.put(1, "marktplatz 7 enns");
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("lindenweg", THRESHOLD, 10)).isEmpty();
+        assertThat(ids(index.search("marktplatz", THRESHOLD, 10))).containsExactly(1L);
+
+        index.remove(1);
+
+        assertThat(index.size()).isZero();
+        assertThat(index.search("marktplatz", THRESHOLD, 10)).isEmpty();
+    }
+
+    @Test
+    void blankQueryFindsNothing() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "lindenweg 3 steyr");
+
+        assertThat(index.search("", THRESHOLD, 10)).isEmpty();
+        assertThat(index.search("   ", THRESHOLD, 10)).isEmpty();
+    }
+
+    private static List<Long> ids(List<TrigramIndex.Hit> hits) {
+        return hits.stream().map(TrigramIndex.Hit::getId).toList();
+    }
+}